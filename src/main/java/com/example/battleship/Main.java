@@ -1,11 +1,24 @@
 package com.example.battleship;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import com.example.battleship.view.GameUI;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.OpeningBook;
+import com.example.battleship.ai.ShotHeatmap;
 import com.example.battleship.controller.GameController;
+import com.example.battleship.model.GameConfig;
 import com.example.battleship.model.GameState;
+import com.example.battleship.net.MatchClient;
+import com.example.battleship.exceptions.FileOperationException;
+import com.example.battleship.util.Constants;
+import com.example.battleship.util.GameLogger;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
 
 /**
  * Main application class for Battleship game.
@@ -14,8 +27,12 @@ import com.example.battleship.model.GameState;
  */
 public class Main extends Application {
 
+    private static final GameLogger LOG = GameLogger.getLogger(Main.class);
+
     private GameController gameController;
     private GameUI gameUI;
+    private ShotHeatmap heatmap;
+    private MatchClient matchClient;
 
     @Override
     public void start(Stage primaryStage) {
@@ -26,6 +43,45 @@ public class Main extends Application {
             //Initialize controller
             gameController = new GameController(gameState);
 
+            //Play on a match server as a thin client (-Dbattleship.server=host:port)
+            String server = System.getProperty(Constants.SERVER_PROPERTY);
+            if (server != null) {
+                InetSocketAddress address;
+                try {
+                    address = MatchClient.parseAddress(server);
+                } catch (IllegalArgumentException e) {
+                    showErrorDialog("Invalid Server Address", e.getMessage() + " (-D" + Constants.SERVER_PROPERTY + ")");
+                    Platform.exit();
+                    return;
+                }
+                boolean vsAi = "ai".equals(System.getProperty(Constants.SERVER_OPPONENT_PROPERTY, "human"));
+                try {
+                    matchClient = new MatchClient(address.getHostString(), address.getPort(), vsAi);
+                } catch (IOException e) {
+                    LOG.error("Cannot reach match server " + server, e);
+                    showErrorDialog("Server Unreachable", "Could not connect to " + server + ": " + e.getMessage());
+                    Platform.exit();
+                    return;
+                }
+                gameController.setMatchLink(matchClient, Platform::runLater);
+                gameController.setAutoSave(false);
+            } else {
+                //Map the player's shot heatmap; the game still runs without it
+                try {
+                    heatmap = ShotHeatmap.open(Path.of(Constants.HEATMAP_DIR,
+                            ShotHeatmap.fileName(gameState.getConfig())), gameState.getConfig());
+                    gameController.setShotHeatmap(heatmap);
+                } catch (FileOperationException e) {
+                    LOG.warn("Shot heatmap unavailable: " + e.getMessage());
+                }
+                //HARD and EXPERT play their openings from book; the first launch builds it
+                GameConfig config = gameState.getConfig();
+                gameController.setOpeningBook(OpeningBook.loadOrBuild(
+                        Path.of(Constants.HEATMAP_DIR, OpeningBook.fileName(config)).toString(), config,
+                        Difficulty.EXPERT.createStrategy(config, new SplittableRandom(Constants.OPENING_BOOK_SEED)),
+                        Constants.OPENING_BOOK_DEPTH));
+            }
+
             //Initialize view
             gameUI = new GameUI(gameController);
 
@@ -40,19 +96,31 @@ public class Main extends Application {
             primaryStage.show();
 
             //This load saved game if exists
-            gameController.loadGame();
+            if (!gameController.isRemote()) {
+                gameController.loadGame();
+            }
 
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Failed to start application", e);
             showErrorDialog("Application Error", e.getMessage());
         }
     }
 
     @Override
     public void stop() {
-        //This save game when application closes
+        //This saves the game (local mode only) and waits for the write when the application closes
         if (gameController != null) {
-            gameController.saveGame();
+            gameController.shutdown();
+        }
+        if (matchClient != null) {
+            matchClient.close();
+        }
+        if (heatmap != null) {
+            try {
+                heatmap.close();
+            } catch (FileOperationException e) {
+                LOG.warn("Failed to close shot heatmap: " + e.getMessage());
+            }
         }
     }
 
@@ -0,0 +1,70 @@
+package com.example.battleship.ai;
+
+//Opening book and transposition cache in front of another strategy
+
+import com.example.battleship.model.Position;
+
+/**
+ * Answers from the opening book, then from a shared TranspositionCache, and
+ * only asks the wrapped strategy for positions neither has seen. The wrapped
+ * strategy's answer is stored in the cache for the next game that gets there.
+ */
+public class CachingStrategy implements ShotStrategy {
+
+    private final ShotStrategy delegate;
+    private final TranspositionCache cache;
+    private final OpeningBook book;
+
+    /**
+     * @param cache shared cache, or null to consult only the book
+     * @param book opening book, or null
+     */
+    public CachingStrategy(ShotStrategy delegate, TranspositionCache cache, OpeningBook book) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.book = book;
+    }
+
+    @Override
+    public Position nextShot(ShotKnowledge knowledge) {
+        Position known = lookup(knowledge);
+        return known != null ? known : remember(knowledge, delegate.nextShot(knowledge));
+    }
+
+    @Override
+    public Position nextShot(ShotKnowledge knowledge, long deadline) {
+        Position known = lookup(knowledge);
+        return known != null ? known : remember(knowledge, delegate.nextShot(knowledge, deadline));
+    }
+
+    /**
+     * Book or cached move for the position, or null
+     */
+    private Position lookup(ShotKnowledge knowledge) {
+        int width = knowledge.getConfig().getWidth();
+        if (book != null) {
+            int cell = book.lookup(knowledge);
+            if (cell != TranspositionCache.NO_MOVE && !knowledge.isShot(cell)) {
+                return new Position(cell / width, cell % width);
+            }
+        }
+        if (cache == null) {
+            return null;
+        }
+        int cell = cache.get(knowledge.getZobristKey());
+        if (cell != TranspositionCache.NO_MOVE && !knowledge.isShot(cell)) {
+            return new Position(cell / width, cell % width);
+        }
+        return null;
+    }
+
+    private Position remember(ShotKnowledge knowledge, Position shot) {
+        if (shot != null && cache != null) {
+            int width = knowledge.getConfig().getWidth();
+            cache.put(knowledge.getZobristKey(), shot.getRow() * width + shot.getCol());
+        }
+        return shot;
+    }
+
+    public ShotStrategy getDelegate() { return delegate; }
+}
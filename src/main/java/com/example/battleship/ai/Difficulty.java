@@ -0,0 +1,66 @@
+package com.example.battleship.ai;
+
+//AI difficulty tiers
+
+import com.example.battleship.model.GameConfig;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computer strength, chosen per game. A tier is a shot strategy plus a hard
+ * time budget per move: the strategy is asked for its best shot by a deadline
+ * and anytime strategies (SamplingStrategy) return whatever they have when it
+ * passes, so a busy machine makes the computer weaker rather than slower.
+ */
+public enum Difficulty {
+    EASY("Easy", 1),
+    MEDIUM("Medium", 1),
+    HARD("Hard", 10),
+    EXPERT("Expert", 100);
+
+    private static final int HARD_SAMPLES = 1000;
+    private static final int EXPERT_SAMPLES = 20000;
+
+    private final String label;
+    private final long budgetNanos;
+
+    Difficulty(String label, long budgetMillis) {
+        this.label = label;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    /**
+     * New strategy for one game; null for EASY, which fires at random
+     */
+    public ShotStrategy createStrategy(GameConfig config, SplittableRandom random) {
+        return createStrategy(config, random, null);
+    }
+
+    /**
+     * As createStrategy, with HARD and EXPERT playing their first misses from
+     * book (null or another config's book plays them by sampling)
+     */
+    public ShotStrategy createStrategy(GameConfig config, SplittableRandom random, OpeningBook book) {
+        ShotStrategy strategy = switch (this) {
+            case EASY -> null;
+            case MEDIUM -> new ParityStrategy(config, random);
+            case HARD -> new SamplingStrategy(config, HARD_SAMPLES, budgetNanos, random);
+            case EXPERT -> new SamplingStrategy(config, EXPERT_SAMPLES, budgetNanos, random);
+        };
+        boolean sampling = this == HARD || this == EXPERT;
+        return sampling && book != null && book.getConfig().equals(config)
+                ? new CachingStrategy(strategy, null, book)
+                : strategy;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Time allowed per move, in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+}
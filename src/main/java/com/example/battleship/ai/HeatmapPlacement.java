@@ -0,0 +1,80 @@
+package com.example.battleship.ai;
+
+//Fleet placement that avoids the opponent's favourite cells
+
+import java.util.SplittableRandom;
+
+/**
+ * Picks the least exposed of a few random layouts, where a layout's exposure
+ * is the number of recorded hunting shots that landed on its cells. Choosing
+ * among random candidates keeps placements unpredictable while steering ships
+ * away from the cells the opponent tends to try first (usually the centre).
+ * A layout costs about as much as a board clear, so the candidates keep
+ * placement within the time of a plain random placement; with a LayoutPool
+ * they are ring reads.
+ */
+public class HeatmapPlacement {
+
+    public static final int CANDIDATES = 8;
+
+    private final LayoutGenerator generator;
+    private final ShotHeatmap heatmap;
+    private final int[] counts;
+    private final long[] candidate;
+
+    public HeatmapPlacement(LayoutGenerator generator, ShotHeatmap heatmap) {
+        if (!heatmap.matches(generator.getConfig())) {
+            throw new IllegalArgumentException("Heatmap was recorded on a different board size");
+        }
+        this.generator = generator;
+        this.heatmap = heatmap;
+        this.counts = new int[generator.getConfig().getCellCount()];
+        this.candidate = new long[generator.getStride()];
+    }
+
+    /**
+     * Write the chosen layout into out. With no games recorded yet this is a
+     * single random layout. Returns false if no layout could be generated.
+     *
+     * @param pool source of ready layouts, or null to generate them here
+     */
+    public boolean choose(SplittableRandom random, LayoutPool pool, long[] out) {
+        if (!next(random, pool, out)) {
+            return false;
+        }
+        if (heatmap.getGames() == 0) {
+            return true;
+        }
+        heatmap.copyCounts(counts);
+        long best = exposure(out);
+        for (int i = 1; i < CANDIDATES; i++) {
+            if (!next(random, pool, candidate)) {
+                break;
+            }
+            long score = exposure(candidate);
+            if (score < best) {
+                best = score;
+                System.arraycopy(candidate, 0, out, 0, candidate.length);
+            }
+        }
+        return true;
+    }
+
+    private boolean next(SplittableRandom random, LayoutPool pool, long[] out) {
+        return (pool != null && pool.poll(out)) || generator.generate(random, out, 0);
+    }
+
+    /**
+     * Recorded shots on the layout's cells
+     */
+    private long exposure(long[] layout) {
+        long total = 0;
+        for (long word = layout[0]; word != 0; word &= word - 1) {
+            total += counts[Long.numberOfTrailingZeros(word)];
+        }
+        for (long word = layout[1]; word != 0; word &= word - 1) {
+            total += counts[64 + Long.numberOfTrailingZeros(word)];
+        }
+        return total;
+    }
+}
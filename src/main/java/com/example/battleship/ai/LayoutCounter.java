@@ -0,0 +1,467 @@
+package com.example.battleship.ai;
+
+//Exact counting and enumeration of fleet layouts
+
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.ShipType;
+import com.example.battleship.util.LongIntHashMap;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Counts (and optionally enumerates) every legal layout of a config's fleet,
+ * optionally restricted to layouts consistent with a ShotKnowledge.
+ * Ships of the same type are interchangeable, so each distinct layout counts once.
+ *
+ * Cells are scanned in row-major order and each ship is decided at its top-left
+ * cell. The only state carried from one cell to the next is the bitmask of
+ * upcoming cells already covered by vertical ships plus the ships still to place,
+ * so counting is a forward dynamic program over (window, remaining fleet) with
+ * one layer per cell. Single-cell ships never reach into the window, so they are
+ * kept out of the state and counted in a small per-state vector instead.
+ * On multi-core machines each layer is split by key hash into fork/join tasks.
+ */
+public final class LayoutCounter {
+
+    private static final int MAX_KEY_BITS = 62;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final GameConfig config;
+    private final int width;
+    private final int cells;
+    private final ShipType[] types;
+    private final int[] sizes;
+    private final int[] fleetCounts;
+    // Mixed-radix weight of each type in the remaining-fleet index
+    private final int[] radix;
+    private final int[] firstSlot;
+    // Index of the 1-cell ship type, or -1
+    private final int singleType;
+    private final int windowBits;
+    private final long windowMask;
+    private final LayoutGenerator encoding;
+
+    /**
+     * Called once per enumerated layout, in LayoutGenerator's format; return false to stop
+     */
+    @FunctionalInterface
+    public interface LayoutVisitor {
+        boolean visit(long[] layout);
+    }
+
+    public LayoutCounter(GameConfig config) {
+        if (!supports(config)) {
+            throw new IllegalArgumentException("Board too large for exact layout counting: " + config);
+        }
+        this.config = config;
+        this.width = config.getWidth();
+        this.cells = config.getCellCount();
+        this.types = config.getFleet().keySet().toArray(new ShipType[0]);
+        this.sizes = new int[types.length];
+        this.fleetCounts = new int[types.length];
+        this.radix = new int[types.length];
+        this.firstSlot = new int[types.length];
+        int weight = 1;
+        int slot = 0;
+        int single = -1;
+        for (int t = 0; t < types.length; t++) {
+            sizes[t] = types[t].getSize();
+            fleetCounts[t] = config.getShipCount(types[t]);
+            radix[t] = weight;
+            weight *= fleetCounts[t] + 1;
+            firstSlot[t] = slot;
+            slot += fleetCounts[t];
+            if (sizes[t] == 1) {
+                single = t;
+            }
+        }
+        this.singleType = single;
+        this.windowBits = windowBits(config);
+        this.windowMask = (1L << windowBits) - 1;
+        this.encoding = new LayoutGenerator(config);
+    }
+
+    /**
+     * True if a DP key (vertical-ship window, remaining fleet) fits in a long
+     */
+    public static boolean supports(GameConfig config) {
+        if (!LayoutGenerator.supports(config)) {
+            return false;
+        }
+        long fleetStates = 1;
+        for (ShipType type : config.getFleet().keySet()) {
+            fleetStates *= config.getShipCount(type) + 1;
+        }
+        int fleetBits = 64 - Long.numberOfLeadingZeros(fleetStates);
+        return windowBits(config) + fleetBits <= MAX_KEY_BITS;
+    }
+
+    private static int windowBits(GameConfig config) {
+        int maxSize = 1;
+        for (ShipType type : config.getFleet().keySet()) {
+            maxSize = Math.max(maxSize, type.getSize());
+        }
+        return (maxSize - 1) * config.getWidth() + 1;
+    }
+
+    /**
+     * Number of layouts of the full fleet on an empty board
+     */
+    public long count() {
+        return count(new ShotKnowledge(config));
+    }
+
+    /**
+     * Number of layouts consistent with every miss, open hit and sunk ship in knowledge.
+     * Throws ArithmeticException if the count does not fit in a long.
+     */
+    public long count(ShotKnowledge knowledge) {
+        Constraints constraints = new Constraints(knowledge);
+        if (constraints.fleet < 0 || constraints.sunkOverlap) {
+            return 0;
+        }
+        int singles = singleType < 0 ? 0 : remaining(constraints.fleet, singleType);
+        int stride = singles + 1;
+        int partitions = ForkJoinPool.getCommonPoolParallelism();
+        Layer[] current = new Layer[partitions];
+        Layer[] next = new Layer[partitions];
+        for (int p = 0; p < partitions; p++) {
+            current[p] = new Layer(stride);
+            next[p] = new Layer(stride);
+        }
+        long startKey = (long) (singleType < 0 ? constraints.fleet
+                : constraints.fleet - singles * radix[singleType]) << windowBits;
+        long[] one = new long[stride];
+        one[0] = 1;
+        current[partition(startKey, partitions)].add(startKey, one, 0, 0);
+
+        for (int cell = 0; cell < cells; cell++) {
+            if (partitions == 1) {
+                expand(constraints, cell, current, next[0], 0, 1);
+            } else {
+                ForkJoinPool.commonPool().invoke(new ExpandTask(constraints, cell, current, next, 0, partitions));
+            }
+            Layer[] swap = current;
+            current = next;
+            next = swap;
+            for (Layer layer : next) {
+                layer.clear();
+            }
+        }
+
+        // Every ship placed and no vertical ship running off the board: key 0
+        Layer last = current[partition(0L, partitions)];
+        int state = last.index.get(0L, -1);
+        return state < 0 ? 0 : last.counts[state * stride + singles];
+    }
+
+    private static int partition(long key, int partitions) {
+        return partitions == 1 ? 0 : (int) (((key * GOLDEN_GAMMA) >>> 33) % partitions);
+    }
+
+    /**
+     * Push every state of the current layer across one cell into out, keeping only
+     * the successors that belong to partition part
+     */
+    private void expand(Constraints constraints, int cell, Layer[] current, Layer out, int part, int partitions) {
+        boolean blocked = bit(constraints.blockedLo, constraints.blockedHi, cell);
+        boolean required = bit(constraints.requiredLo, constraints.requiredHi, cell);
+        boolean fixed = bit(constraints.staticLo, constraints.staticHi, cell);
+        for (Layer layer : current) {
+            for (int i = 0; i < layer.size; i++) {
+                long key = layer.keys[i];
+                long window = key & windowMask;
+                int fleet = (int) (key >>> windowBits);
+                long sameFleet = (long) fleet << windowBits;
+                int offset = i * layer.stride;
+                if ((window & 1) != 0 || fixed) {
+                    emit(out, part, partitions, sameFleet | window >>> 1, layer.counts, offset, 0);
+                    continue;
+                }
+                if (!required) {
+                    emit(out, part, partitions, sameFleet | window >>> 1, layer.counts, offset, 0);
+                }
+                if (blocked) {
+                    continue;
+                }
+                if (layer.stride > 1) {
+                    emit(out, part, partitions, sameFleet | window >>> 1, layer.counts, offset, 1);
+                }
+                for (int t = 0; t < types.length; t++) {
+                    if (t == singleType || remaining(fleet, t) == 0) {
+                        continue;
+                    }
+                    long nextFleet = (long) (fleet - radix[t]) << windowBits;
+                    for (int orientation = 0; orientation < 2; orientation++) {
+                        long bits = constraints.shipBits(cell, t, orientation == 1, window);
+                        if (bits >= 0) {
+                            emit(out, part, partitions, nextFleet | (window | bits) >>> 1, layer.counts, offset, 0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void emit(Layer out, int part, int partitions, long key, long[] counts, int offset, int shift) {
+        if (partition(key, partitions) == part) {
+            out.add(key, counts, offset, shift);
+        }
+    }
+
+    /**
+     * Visit every layout consistent with knowledge, returning how many were visited
+     */
+    public long enumerate(ShotKnowledge knowledge, LayoutVisitor visitor) {
+        Constraints constraints = new Constraints(knowledge);
+        if (constraints.fleet < 0 || constraints.sunkOverlap) {
+            return 0;
+        }
+        long[] layout = new long[encoding.getStride()];
+        int[] nextSlot = firstSlot.clone();
+        for (ShotKnowledge.SunkShip sunk : knowledge.getSunkShips()) {
+            int t = typeIndex(sunk.type());
+            setCode(layout, nextSlot[t]++, (sunk.startCell() << 1) | (sunk.horizontal() ? 1 : 0));
+        }
+        layout[0] = constraints.staticLo;
+        layout[1] = constraints.staticHi;
+        long[] visited = new long[1];
+        constraints.enumerate(0, 0L, constraints.fleet, layout, nextSlot, visitor, visited);
+        return visited[0];
+    }
+
+    private int remaining(int fleet, int t) {
+        return fleet / radix[t] % (fleetCounts[t] + 1);
+    }
+
+    private int typeIndex(ShipType type) {
+        for (int t = 0; t < types.length; t++) {
+            if (types[t] == type) {
+                return t;
+            }
+        }
+        throw new IllegalArgumentException("Ship type not in fleet: " + type);
+    }
+
+    private static void setCode(long[] layout, int slot, int code) {
+        layout[2 + slot / 8] |= (long) code << (8 * (slot % 8));
+    }
+
+    private static void clearCode(long[] layout, int slot) {
+        layout[2 + slot / 8] &= ~(0xFFL << (8 * (slot % 8)));
+    }
+
+    private static boolean bit(long lo, long hi, int cell) {
+        return cell < 64 ? (lo & (1L << cell)) != 0 : (hi & (1L << (cell - 64))) != 0;
+    }
+
+    /**
+     * DP states reachable at one cell: key, then a vector of counts indexed by the
+     * number of 1-cell ships placed so far
+     */
+    private static final class Layer {
+        private final LongIntHashMap index = new LongIntHashMap(1 << 12);
+        private final int stride;
+        private long[] keys = new long[1 << 12];
+        private long[] counts;
+        private int size;
+
+        Layer(int stride) {
+            this.stride = stride;
+            this.counts = new long[keys.length * stride];
+        }
+
+        void add(long key, long[] from, int offset, int shift) {
+            int state = index.get(key, -1);
+            if (state < 0) {
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, size * 2);
+                    counts = Arrays.copyOf(counts, size * 2 * stride);
+                }
+                state = size++;
+                keys[state] = key;
+                index.put(key, state);
+            }
+            int base = state * stride;
+            for (int k = 0; k + shift < stride; k++) {
+                counts[base + k + shift] = Math.addExact(counts[base + k + shift], from[offset + k]);
+            }
+        }
+
+        void clear() {
+            Arrays.fill(counts, 0, size * stride, 0L);
+            index.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * Expands one layer, one task per key-hash partition of the next layer
+     */
+    private final class ExpandTask extends RecursiveAction {
+        private final Constraints constraints;
+        private final int cell;
+        private final Layer[] current;
+        private final Layer[] next;
+        private final int from;
+        private final int to;
+
+        ExpandTask(Constraints constraints, int cell, Layer[] current, Layer[] next, int from, int to) {
+            this.constraints = constraints;
+            this.cell = cell;
+            this.current = current;
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                expand(constraints, cell, current, next[from], from, next.length);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ExpandTask(constraints, cell, current, next, from, mid),
+                    new ExpandTask(constraints, cell, current, next, mid, to));
+        }
+    }
+
+    /**
+     * Shot knowledge as cell masks, plus the remaining fleet index
+     */
+    private final class Constraints {
+        private final long blockedLo;
+        private final long blockedHi;
+        private final long requiredLo;
+        private final long requiredHi;
+        // Cells covered by sunk ships
+        private final long staticLo;
+        private final long staticHi;
+        private final int fleet;
+        private final boolean sunkOverlap;
+
+        Constraints(ShotKnowledge knowledge) {
+            long bLo = 0L, bHi = 0L, rLo = 0L, rHi = 0L, sLo = 0L, sHi = 0L;
+            boolean overlap = false;
+            for (int cell = 0; cell < cells; cell++) {
+                long bitLo = cell < 64 ? 1L << cell : 0L;
+                long bitHi = cell < 64 ? 0L : 1L << (cell - 64);
+                if (knowledge.isMiss(cell)) {
+                    bLo |= bitLo;
+                    bHi |= bitHi;
+                } else if (knowledge.isOpenHit(cell)) {
+                    rLo |= bitLo;
+                    rHi |= bitHi;
+                }
+            }
+            int remainingFleet = 0;
+            for (int t = 0; t < types.length; t++) {
+                int left = knowledge.getRemaining(types[t]);
+                if (left < 0) {
+                    remainingFleet = -1;
+                    break;
+                }
+                remainingFleet += left * radix[t];
+            }
+            for (ShotKnowledge.SunkShip sunk : knowledge.getSunkShips()) {
+                int step = sunk.horizontal() ? 1 : width;
+                for (int i = 0; i < sunk.type().getSize(); i++) {
+                    int cell = sunk.startCell() + i * step;
+                    overlap |= bit(sLo, sHi, cell) || bit(bLo, bHi, cell);
+                    if (cell < 64) {
+                        sLo |= 1L << cell;
+                    } else {
+                        sHi |= 1L << (cell - 64);
+                    }
+                }
+            }
+            this.blockedLo = bLo;
+            this.blockedHi = bHi;
+            this.requiredLo = rLo;
+            this.requiredHi = rHi;
+            this.staticLo = sLo;
+            this.staticHi = sHi;
+            this.fleet = remainingFleet;
+            this.sunkOverlap = overlap;
+        }
+
+        /**
+         * Window bits a ship of type t starting at cell would cover, or -1 if it cannot go there
+         */
+        long shipBits(int cell, int t, boolean horizontal, long window) {
+            int size = sizes[t];
+            int row = cell / width;
+            int col = cell % width;
+            if (horizontal ? col + size > width : (row + size) * width > cells) {
+                return -1;
+            }
+            long bits = 0L;
+            int step = horizontal ? 1 : width;
+            for (int i = 0; i < size; i++) {
+                int covered = cell + i * step;
+                long shifted = 1L << (i * step);
+                if ((window & shifted) != 0 || bit(blockedLo, blockedHi, covered) || bit(staticLo, staticHi, covered)) {
+                    return -1;
+                }
+                bits |= shifted;
+            }
+            return bits;
+        }
+
+        boolean enumerate(int cell, long window, int fleetIndex, long[] layout, int[] nextSlot,
+                          LayoutVisitor visitor, long[] visited) {
+            if (cell == cells) {
+                if (fleetIndex != 0) {
+                    return true;
+                }
+                visited[0]++;
+                return visitor.visit(layout.clone());
+            }
+            if ((window & 1) != 0 || bit(staticLo, staticHi, cell)) {
+                return enumerate(cell + 1, window >>> 1, fleetIndex, layout, nextSlot, visitor, visited);
+            }
+            if (!bit(requiredLo, requiredHi, cell)
+                    && !enumerate(cell + 1, window >>> 1, fleetIndex, layout, nextSlot, visitor, visited)) {
+                return false;
+            }
+            for (int t = 0; t < types.length; t++) {
+                if (remaining(fleetIndex, t) == 0) {
+                    continue;
+                }
+                for (int orientation = 0; orientation < (sizes[t] == 1 ? 1 : 2); orientation++) {
+                    long bits = shipBits(cell, t, orientation == 1, window);
+                    if (bits < 0) {
+                        continue;
+                    }
+                    long lo = layout[0];
+                    long hi = layout[1];
+                    int step = orientation == 1 ? 1 : width;
+                    for (int i = 0; i < sizes[t]; i++) {
+                        int covered = cell + i * step;
+                        if (covered < 64) {
+                            layout[0] |= 1L << covered;
+                        } else {
+                            layout[1] |= 1L << (covered - 64);
+                        }
+                    }
+                    int slot = nextSlot[t]++;
+                    setCode(layout, slot, (cell << 1) | orientation);
+                    boolean more = enumerate(cell + 1, (window | bits) >>> 1, fleetIndex - radix[t],
+                            layout, nextSlot, visitor, visited);
+                    clearCode(layout, slot);
+                    nextSlot[t]--;
+                    layout[0] = lo;
+                    layout[1] = hi;
+                    if (!more) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    public GameConfig getConfig() { return config; }
+}
@@ -0,0 +1,291 @@
+package com.example.battleship.ai;
+
+//Bitmask fleet layout generator for small boards
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates random legal fleet layouts for boards of at most 128 cells.
+ * Every placement of every ship size is precomputed as a 128-bit occupancy
+ * mask, so placing a ship is a random pick plus two AND tests.
+ *
+ * A layout is stored in {@link #getStride()} longs: the occupancy mask
+ * (cells 0-63, cells 64-127) followed by one byte per ship in fleet order,
+ * holding the start cell index shifted left by one and the horizontal flag in bit 0.
+ */
+public final class LayoutGenerator {
+
+    public static final int MAX_CELLS = 128;
+
+    private static final int MASK_WORDS = 2;
+    private static final int SHIPS_PER_WORD = 8;
+    private static final int MAX_SHIP_ATTEMPTS = 64;
+    // Fresh starts before generate() gives up; a fleet can fit the cell count and still not pack
+    private static final int MAX_FLEET_ATTEMPTS = 1000;
+
+    private final GameConfig config;
+    private final int[] shipSizes;
+    private final int stride;
+    // Per ship size: candidate placements as (lo, hi) mask pairs and packed codes
+    private final long[][] placementMasks;
+    private final int[][] placementCodes;
+    // Per ship size and cell: indices of the placements covering that cell
+    private final int[][][] coveringPlacements;
+
+    public LayoutGenerator(GameConfig config) {
+        if (!supports(config)) {
+            throw new IllegalArgumentException("Layout masks need at most " + MAX_CELLS + " cells: " + config);
+        }
+        this.config = config;
+        List<Ship> fleet = config.createFleet();
+        this.shipSizes = new int[fleet.size()];
+        int maxSize = 0;
+        for (int i = 0; i < shipSizes.length; i++) {
+            shipSizes[i] = fleet.get(i).getSize();
+            maxSize = Math.max(maxSize, shipSizes[i]);
+        }
+        this.stride = MASK_WORDS + (shipSizes.length + SHIPS_PER_WORD - 1) / SHIPS_PER_WORD;
+        this.placementMasks = new long[maxSize + 1][];
+        this.placementCodes = new int[maxSize + 1][];
+        this.coveringPlacements = new int[maxSize + 1][][];
+        for (int size = 1; size <= maxSize; size++) {
+            if (size <= Math.max(config.getWidth(), config.getHeight())) {
+                buildPlacements(size);
+            }
+        }
+    }
+
+    /**
+     * True if layouts of this config fit in a 128-bit occupancy mask
+     */
+    public static boolean supports(GameConfig config) {
+        return config.getCellCount() <= MAX_CELLS;
+    }
+
+    private void buildPlacements(int size) {
+        int width = config.getWidth();
+        int height = config.getHeight();
+        long[] masks = new long[2 * 2 * width * height];
+        int[] codes = new int[2 * width * height];
+        int count = 0;
+        for (int orientation = 0; orientation < 2; orientation++) {
+            boolean horizontal = orientation == 1;
+            // A 1-cell ship is the same both ways; keep one copy so picks stay uniform
+            if (horizontal && size == 1) {
+                break;
+            }
+            int rows = horizontal ? height : height - size + 1;
+            int cols = horizontal ? width - size + 1 : width;
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    long lo = 0L;
+                    long hi = 0L;
+                    for (int i = 0; i < size; i++) {
+                        int cell = horizontal ? row * width + col + i : (row + i) * width + col;
+                        if (cell < 64) {
+                            lo |= 1L << cell;
+                        } else {
+                            hi |= 1L << (cell - 64);
+                        }
+                    }
+                    masks[2 * count] = lo;
+                    masks[2 * count + 1] = hi;
+                    codes[count] = ((row * width + col) << 1) | orientation;
+                    count++;
+                }
+            }
+        }
+        placementMasks[size] = Arrays.copyOf(masks, 2 * count);
+        placementCodes[size] = Arrays.copyOf(codes, count);
+
+        int cellCount = config.getCellCount();
+        int[] perCell = new int[cellCount];
+        for (int p = 0; p < count; p++) {
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (occupies(masks, 2 * p, cell)) {
+                    perCell[cell]++;
+                }
+            }
+        }
+        coveringPlacements[size] = new int[cellCount][];
+        for (int cell = 0; cell < cellCount; cell++) {
+            coveringPlacements[size][cell] = new int[perCell[cell]];
+            perCell[cell] = 0;
+        }
+        for (int p = 0; p < count; p++) {
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (occupies(masks, 2 * p, cell)) {
+                    coveringPlacements[size][cell][perCell[cell]++] = p;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write one random legal layout into out[offset .. offset + stride).
+     * Returns false if none was found, which is what a fleet that cannot be
+     * packed on the board looks like; callers then fall back to a full search.
+     */
+    public boolean generate(SplittableRandom random, long[] out, int offset) {
+        for (int attempt = 0; attempt < MAX_FLEET_ATTEMPTS; attempt++) {
+            if (tryGenerate(random, out, offset)) {
+                return true;
+            }
+            // A ship ran out of room; start the fleet over
+        }
+        return false;
+    }
+
+    private boolean tryGenerate(SplittableRandom random, long[] out, int offset) {
+        long lo = 0L;
+        long hi = 0L;
+        for (int w = MASK_WORDS; w < stride; w++) {
+            out[offset + w] = 0L;
+        }
+        for (int ship = 0; ship < shipSizes.length; ship++) {
+            long[] masks = placementMasks[shipSizes[ship]];
+            int[] codes = placementCodes[shipSizes[ship]];
+            int pick = -1;
+            for (int attempt = 0; attempt < MAX_SHIP_ATTEMPTS; attempt++) {
+                int candidate = random.nextInt(codes.length);
+                if ((masks[2 * candidate] & lo) == 0 && (masks[2 * candidate + 1] & hi) == 0) {
+                    pick = candidate;
+                    break;
+                }
+            }
+            if (pick < 0) {
+                return false;
+            }
+            lo |= masks[2 * pick];
+            hi |= masks[2 * pick + 1];
+            out[offset + MASK_WORDS + ship / SHIPS_PER_WORD] |= (long) codes[pick] << (8 * (ship % SHIPS_PER_WORD));
+        }
+        out[offset] = lo;
+        out[offset + 1] = hi;
+        return true;
+    }
+
+    /**
+     * Random occupancy mask for ships of the given sizes that avoids every blocked
+     * cell and covers every required cell. Ships are first placed over uncovered
+     * required cells, then anywhere free, so the result is close to (not exactly)
+     * uniform over consistent layouts. Returns false if this attempt got stuck.
+     *
+     * @param out receives the (lo, hi) occupancy mask of the placed ships
+     */
+    public boolean sampleOccupancy(SplittableRandom random, int[] sizes, long blockedLo, long blockedHi,
+                                   long requiredLo, long requiredHi, long[] out, int offset) {
+        int[] left = sizes.clone();
+        int count = left.length;
+        long lo = blockedLo;
+        long hi = blockedHi;
+        long uncoveredLo = requiredLo;
+        long uncoveredHi = requiredHi;
+        while ((uncoveredLo | uncoveredHi) != 0) {
+            if (count == 0) {
+                return false;
+            }
+            int cell = uncoveredLo != 0 ? Long.numberOfTrailingZeros(uncoveredLo)
+                    : 64 + Long.numberOfTrailingZeros(uncoveredHi);
+            int ship = random.nextInt(count);
+            int chosen = -1;
+            int seen = 0;
+            for (int candidate : coveringPlacements[left[ship]][cell]) {
+                long[] masks = placementMasks[left[ship]];
+                if ((masks[2 * candidate] & lo) == 0 && (masks[2 * candidate + 1] & hi) == 0
+                        && random.nextInt(++seen) == 0) {
+                    chosen = candidate;
+                }
+            }
+            if (chosen < 0) {
+                return false;
+            }
+            long[] masks = placementMasks[left[ship]];
+            lo |= masks[2 * chosen];
+            hi |= masks[2 * chosen + 1];
+            uncoveredLo &= ~masks[2 * chosen];
+            uncoveredHi &= ~masks[2 * chosen + 1];
+            left[ship] = left[--count];
+        }
+        for (int ship = 0; ship < count; ship++) {
+            long[] masks = placementMasks[left[ship]];
+            int pick = -1;
+            for (int attempt = 0; attempt < MAX_SHIP_ATTEMPTS; attempt++) {
+                int candidate = random.nextInt(masks.length / 2);
+                if ((masks[2 * candidate] & lo) == 0 && (masks[2 * candidate + 1] & hi) == 0) {
+                    pick = candidate;
+                    break;
+                }
+            }
+            if (pick < 0) {
+                return false;
+            }
+            lo |= masks[2 * pick];
+            hi |= masks[2 * pick + 1];
+        }
+        out[offset] = lo & ~blockedLo;
+        out[offset + 1] = hi & ~blockedHi;
+        return true;
+    }
+
+    /**
+     * Place the ships of a layout on an empty board, in fleet order
+     */
+    public boolean apply(long[] layout, int offset, Board board, List<Ship> ships) {
+        int width = config.getWidth();
+        for (int ship = 0; ship < ships.size(); ship++) {
+            int code = code(layout, offset, ship);
+            int cell = code >>> 1;
+            if (!board.placeShip(ships.get(ship), new Position(cell / width, cell % width), (code & 1) != 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int code(long[] layout, int offset, int ship) {
+        return (int) (layout[offset + MASK_WORDS + ship / SHIPS_PER_WORD] >>> (8 * (ship % SHIPS_PER_WORD))) & 0xFF;
+    }
+
+    /**
+     * Occupancy mask of one ship of the layout, written to out[0] (cells 0-63) and out[1]
+     */
+    public void shipMask(long[] layout, int offset, int ship, long[] out) {
+        int code = code(layout, offset, ship);
+        int step = (code & 1) != 0 ? 1 : config.getWidth();
+        long lo = 0L;
+        long hi = 0L;
+        for (int i = 0, cell = code >>> 1; i < shipSizes[ship]; i++, cell += step) {
+            if (cell < 64) {
+                lo |= 1L << cell;
+            } else {
+                hi |= 1L << (cell - 64);
+            }
+        }
+        out[0] = lo;
+        out[1] = hi;
+    }
+
+    /**
+     * True if cell is occupied in the layout's mask
+     */
+    public static boolean occupies(long[] layout, int offset, int cell) {
+        return cell < 64
+                ? (layout[offset] & (1L << cell)) != 0
+                : (layout[offset + 1] & (1L << (cell - 64))) != 0;
+    }
+
+    public GameConfig getConfig() { return config; }
+    public int getShipCount() { return shipSizes.length; }
+
+    /**
+     * Number of longs one layout occupies
+     */
+    public int getStride() { return stride; }
+}
@@ -0,0 +1,173 @@
+package com.example.battleship.ai;
+
+//Background pool of pregenerated fleet layouts
+
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.util.GameLogger;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps a bounded lock-free ring buffer of ready fleet layouts, filled by
+ * daemon worker threads with their own SplittableRandom each.
+ * take() copies a layout out in O(ships) and falls back to generating one on
+ * the caller's thread when the pool is empty, so it never blocks.
+ * The ring uses the same claim/publish sequence protocol as AsyncLogAppender,
+ * with a CAS on both ends because many games may take layouts at once.
+ */
+public class LayoutPool implements AutoCloseable {
+
+    private static final GameLogger LOG = GameLogger.getLogger(LayoutPool.class);
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int SHARED_CAPACITY = 64;
+    private static final long CLOSE_WAIT_MILLIS = 1000;
+    // One pool per board config for the whole process, kept by shared()
+    private static final Map<GameConfig, LayoutPool> SHARED = new ConcurrentHashMap<>();
+
+    private final LayoutGenerator generator;
+    private final int stride;
+    private final long[] layouts;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final Thread[] workers;
+    private final SplittableRandom fallbackRandom;
+    private volatile boolean closed;
+
+    /**
+     * @param generator layout generator for the game config
+     * @param capacity number of layouts kept ready, rounded up to a power of two
+     * @param workerCount number of background generator threads
+     */
+    public LayoutPool(LayoutGenerator generator, int capacity, int workerCount) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.generator = generator;
+        this.stride = generator.getStride();
+        this.layouts = new long[size * stride];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        SplittableRandom seed = new SplittableRandom();
+        this.fallbackRandom = seed.split();
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            SplittableRandom random = seed.split();
+            workers[i] = new Thread(() -> fillLoop(random), "battleship-layouts-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * The process-wide pool for config, started with one worker on first use.
+     * Games of the same config share it, so starting one takes a ready layout.
+     * Never closed; its worker is a daemon.
+     */
+    public static LayoutPool shared(GameConfig config) {
+        return SHARED.computeIfAbsent(config, c -> new LayoutPool(new LayoutGenerator(c), SHARED_CAPACITY, 1));
+    }
+
+    /**
+     * Worker loop: generate layouts until the ring is full, then back off
+     */
+    private void fillLoop(SplittableRandom random) {
+        long[] layout = new long[stride];
+        while (!closed) {
+            if (!generator.generate(random, layout, 0)) {
+                LOG.warn("No layout found for " + generator.getConfig() + ", stopping " + Thread.currentThread().getName());
+                return;
+            }
+            while (!closed && !offer(layout)) {
+                LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            }
+        }
+    }
+
+    private boolean offer(long[] layout) {
+        while (true) {
+            long position = tail.get();
+            int slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    System.arraycopy(layout, 0, layouts, slot * stride, stride);
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Copy a ready layout into out, returning false if none is available
+     */
+    public boolean poll(long[] out) {
+        while (true) {
+            long position = head.get();
+            int slot = (int) (position & mask);
+            long difference = sequences.get(slot) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    System.arraycopy(layouts, slot * stride, out, 0, stride);
+                    sequences.set(slot, position + mask + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Copy a layout into out, generating one inline if the pool is empty.
+     * Returns false only if the fleet could not be packed.
+     */
+    public boolean take(long[] out) {
+        if (poll(out)) {
+            return true;
+        }
+        LOG.debug("Layout pool empty, generating inline");
+        synchronized (fallbackRandom) {
+            return generator.generate(fallbackRandom, out, 0);
+        }
+    }
+
+    /**
+     * Approximate number of layouts ready to take
+     */
+    public int available() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public LayoutGenerator getGenerator() { return generator; }
+
+    /**
+     * Stop the workers and wait for them, so nothing is added afterwards;
+     * layouts already in the ring can still be taken
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        try {
+            for (Thread worker : workers) {
+                worker.join(CLOSE_WAIT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.battleship.ai;
+
+//Precomputed opening shots
+
+import com.example.battleship.controller.FileManager;
+import com.example.battleship.exceptions.FileOperationException;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.util.GameLogger;
+import com.example.battleship.util.LongIntHashMap;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Best first shots for one config, keyed by knowledge Zobrist hash.
+ * The book follows a single line: the best shot on an empty board, then the best
+ * shot after that one missed, and so on. Those miss-only positions are exactly the
+ * ones that repeat from game to game; the first hit leaves the book. Zobrist keys
+ * are deterministic, so a book built once can be saved and reused by any run.
+ */
+public class OpeningBook implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final GameLogger LOG = GameLogger.getLogger(OpeningBook.class);
+
+    private final GameConfig config;
+    private final LongIntHashMap moves;
+
+    private OpeningBook(GameConfig config, LongIntHashMap moves) {
+        this.config = config;
+        this.moves = moves;
+    }
+
+    /**
+     * Build a book by asking strategy for the best shot after each miss of the line
+     *
+     * @param depth number of book moves
+     */
+    public static OpeningBook build(GameConfig config, ShotStrategy strategy, int depth) {
+        LongIntHashMap moves = new LongIntHashMap(depth);
+        ShotKnowledge knowledge = new ShotKnowledge(config);
+        for (int move = 0; move < depth; move++) {
+            Position best = strategy.nextShot(knowledge);
+            if (best == null) {
+                break;
+            }
+            int cell = best.getRow() * config.getWidth() + best.getCol();
+            if (knowledge.getZobristKey() != Long.MIN_VALUE) {
+                moves.put(knowledge.getZobristKey(), cell);
+            }
+            knowledge.recordMiss(cell);
+        }
+        LOG.debug(() -> "Opening book built with " + moves.size() + " moves for " + config);
+        return new OpeningBook(config, moves);
+    }
+
+    /**
+     * Book move for the position, or TranspositionCache.NO_MOVE
+     */
+    public int lookup(ShotKnowledge knowledge) {
+        if (!config.equals(knowledge.getConfig())) {
+            return TranspositionCache.NO_MOVE;
+        }
+        return moves.get(knowledge.getZobristKey(), TranspositionCache.NO_MOVE);
+    }
+
+    public void save(String path) throws FileOperationException {
+        Path parent = Path.of(path).getParent();
+        try {
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to create " + parent + ": " + e.getMessage());
+        }
+        new FileManager().saveSerializable(this, path);
+    }
+
+    public static OpeningBook load(String path) throws FileOperationException {
+        Object loaded = new FileManager().loadSerializable(path);
+        if (!(loaded instanceof OpeningBook book)) {
+            throw new FileOperationException("Not an opening book: " + path);
+        }
+        return book;
+    }
+
+    /**
+     * The book saved at path for config, or a new one built with strategy and
+     * saved there when the file is missing, unreadable or for another fleet.
+     * The game still gets a book if saving fails.
+     */
+    public static OpeningBook loadOrBuild(String path, GameConfig config, ShotStrategy strategy, int depth) {
+        if (Files.exists(Path.of(path))) {
+            try {
+                OpeningBook book = load(path);
+                if (book.config.equals(config)) {
+                    LOG.debug(() -> "Opening book loaded from " + path);
+                    return book;
+                }
+                LOG.info("Opening book " + path + " is for " + book.config + ", rebuilding");
+            } catch (FileOperationException e) {
+                LOG.warn("Opening book " + path + " unreadable, rebuilding: " + e.getMessage());
+            }
+        }
+        OpeningBook book = build(config, strategy, depth);
+        try {
+            book.save(path);
+        } catch (FileOperationException e) {
+            LOG.warn("Opening book not saved: " + e.getMessage());
+        }
+        return book;
+    }
+
+    public static String fileName(GameConfig config) {
+        return "opening_" + config.getWidth() + "x" + config.getHeight() + ".book";
+    }
+
+    public GameConfig getConfig() { return config; }
+    public int size() { return moves.size(); }
+}
@@ -0,0 +1,162 @@
+package com.example.battleship.ai;
+
+//Checkerboard hunt and axis-following target strategy
+
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.ShipType;
+import java.util.SplittableRandom;
+
+/**
+ * Hunt/target shooting.
+ * Hunt mode only fires at cells with (row + col) % k == offset, where k is the
+ * size of the smallest ship still afloat: every such ship must cover one of those
+ * cells, so the spacing widens as the small ships are sunk. One mask per k is built
+ * up front, so a hunt shot is a masked popcount over the board's shot words.
+ * Target mode takes over while there are hits on unsunk ships: after two aligned
+ * hits it walks along their axis, otherwise it tries the neighbours of a hit.
+ */
+public class ParityStrategy implements ShotStrategy {
+
+    private static final int[] ROW_STEPS = {0, 0, -1, 1};
+    private static final int[] COL_STEPS = {-1, 1, 0, 0};
+
+    private final int width;
+    private final int height;
+    private final int cells;
+    // parityMasks[k]: cells on this game's class mod k; parityMasks[1] is every cell
+    private final long[][] parityMasks;
+    private final SplittableRandom random;
+
+    public ParityStrategy(GameConfig config) {
+        this(config, new SplittableRandom());
+    }
+
+    public ParityStrategy(GameConfig config, SplittableRandom random) {
+        this.width = config.getWidth();
+        this.height = config.getHeight();
+        this.cells = config.getCellCount();
+        this.random = random;
+        int maxSize = 1;
+        for (ShipType type : config.getFleet().keySet()) {
+            maxSize = Math.max(maxSize, type.getSize());
+        }
+        this.parityMasks = new long[maxSize + 1][];
+        for (int k = 1; k <= maxSize; k++) {
+            int offset = random.nextInt(k);
+            long[] mask = new long[(cells + 63) >>> 6];
+            for (int cell = 0; cell < cells; cell++) {
+                if ((cell / width + cell % width) % k == offset) {
+                    mask[cell >>> 6] |= 1L << cell;
+                }
+            }
+            parityMasks[k] = mask;
+        }
+    }
+
+    @Override
+    public Position nextShot(ShotKnowledge knowledge) {
+        int cell = targetCell(knowledge);
+        if (cell < 0) {
+            int k = Math.min(Math.max(knowledge.getSmallestRemainingSize(), 1), parityMasks.length - 1);
+            cell = huntCell(knowledge, parityMasks[k]);
+            if (cell < 0) {
+                cell = huntCell(knowledge, parityMasks[1]);
+            }
+        }
+        return cell < 0 ? null : new Position(cell / width, cell % width);
+    }
+
+    /**
+     * Uniformly random unshot cell in mask, or -1
+     */
+    private int huntCell(ShotKnowledge knowledge, long[] mask) {
+        int candidates = 0;
+        for (int w = 0; w < mask.length; w++) {
+            candidates += Long.bitCount(mask[w] & ~knowledge.shotWord(w));
+        }
+        if (candidates == 0) {
+            return -1;
+        }
+        int pick = random.nextInt(candidates);
+        for (int w = 0; w < mask.length; w++) {
+            long free = mask[w] & ~knowledge.shotWord(w);
+            int count = Long.bitCount(free);
+            if (pick < count) {
+                for (int i = 0; i < pick; i++) {
+                    free &= free - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(free);
+            }
+            pick -= count;
+        }
+        return -1;
+    }
+
+    /**
+     * Next cell to finish off a hit ship, or -1 in hunt mode
+     */
+    private int targetCell(ShotKnowledge knowledge) {
+        int fallback = -1;
+        for (int hit = knowledge.nextOpenHit(0); hit >= 0; hit = knowledge.nextOpenHit(hit + 1)) {
+            for (int axis = 0; axis < 4; axis += 2) {
+                boolean aligned = isOpenHit(knowledge, hit, ROW_STEPS[axis], COL_STEPS[axis])
+                        || isOpenHit(knowledge, hit, ROW_STEPS[axis + 1], COL_STEPS[axis + 1]);
+                if (!aligned) {
+                    continue;
+                }
+                for (int direction = axis; direction < axis + 2; direction++) {
+                    int end = lineEnd(knowledge, hit, ROW_STEPS[direction], COL_STEPS[direction]);
+                    if (end >= 0) {
+                        return end;
+                    }
+                }
+            }
+            if (fallback < 0) {
+                int start = random.nextInt(4);
+                for (int i = 0; i < 4 && fallback < 0; i++) {
+                    int direction = (start + i) & 3;
+                    int neighbour = step(hit, ROW_STEPS[direction], COL_STEPS[direction]);
+                    if (neighbour >= 0 && !knowledge.isShot(neighbour)) {
+                        fallback = neighbour;
+                    }
+                }
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * First unshot cell past the run of hits from cell in one direction, or -1
+     */
+    private int lineEnd(ShotKnowledge knowledge, int cell, int rowStep, int colStep) {
+        int current = cell;
+        while (true) {
+            int next = step(current, rowStep, colStep);
+            if (next < 0 || knowledge.isMiss(next) || knowledge.isSunk(next)) {
+                return -1;
+            }
+            if (!knowledge.isShot(next)) {
+                return next;
+            }
+            current = next;
+        }
+    }
+
+    private boolean isOpenHit(ShotKnowledge knowledge, int cell, int rowStep, int colStep) {
+        int next = step(cell, rowStep, colStep);
+        return next >= 0 && knowledge.isOpenHit(next);
+    }
+
+    /**
+     * Neighbouring cell index, or -1 off the board
+     */
+    private int step(int cell, int rowStep, int colStep) {
+        int row = cell / width + rowStep;
+        int col = cell % width + colStep;
+        if (row < 0 || row >= height || col < 0 || col >= width) {
+            return -1;
+        }
+        return row * width + col;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.battleship.ai;
+
+//Monte Carlo shot strategy over sampled consistent layouts
+
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.ShipType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates how likely each cell is to hold a ship by sampling fleet layouts
+ * consistent with the shot history, and fires at the cell covered most often.
+ * Sampling is split across the common fork/join pool, each task with its own
+ * SplittableRandom and its own slice of the sample buffer. Samples that still
+ * agree with the newest shot are kept for the next move and only the rest is
+ * redrawn. Each move stops sampling at a time budget, so a slow machine shoots
+ * on fewer samples rather than later.
+ * Boards over 128 cells are handed to a ParityStrategy.
+ */
+public class SamplingStrategy implements ShotStrategy {
+
+    public static final int DEFAULT_SAMPLES = 4000;
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final int ATTEMPTS_PER_SAMPLE = 20;
+
+    private final GameConfig config;
+    private final int width;
+    private final int cells;
+    private final LayoutGenerator generator;
+    private final ShotStrategy fallback;
+    private final int targetSamples;
+    private final long budgetNanos;
+    private final SplittableRandom random;
+    // (lo, hi) occupancy per sample; the first sampleCount pairs are valid
+    private long[] samples;
+    private int sampleCount;
+    private int sunkSeen = -1;
+
+    public SamplingStrategy(GameConfig config) {
+        this(config, DEFAULT_SAMPLES, DEFAULT_BUDGET_NANOS, new SplittableRandom());
+    }
+
+    /**
+     * @param targetSamples layouts to keep per move
+     * @param budgetNanos sampling time allowed per move
+     */
+    public SamplingStrategy(GameConfig config, int targetSamples, long budgetNanos, SplittableRandom random) {
+        this.config = config;
+        this.width = config.getWidth();
+        this.cells = config.getCellCount();
+        this.targetSamples = targetSamples;
+        this.budgetNanos = budgetNanos;
+        this.random = random;
+        this.fallback = new ParityStrategy(config, random.split());
+        this.generator = LayoutGenerator.supports(config) ? new LayoutGenerator(config) : null;
+        this.samples = new long[2 * targetSamples];
+    }
+
+    @Override
+    public Position nextShot(ShotKnowledge knowledge) {
+        return nextShot(knowledge, System.nanoTime() + budgetNanos);
+    }
+
+    /**
+     * Best cell found by the deadline (System.nanoTime())
+     */
+    @Override
+    public Position nextShot(ShotKnowledge knowledge, long deadline) {
+        if (generator == null) {
+            return fallback.nextShot(knowledge);
+        }
+        long blockedLo = 0L, blockedHi = 0L, requiredLo = 0L, requiredHi = 0L;
+        for (int cell = 0; cell < cells; cell++) {
+            boolean blocked = knowledge.isMiss(cell) || knowledge.isSunk(cell);
+            boolean required = knowledge.isOpenHit(cell);
+            if (cell < 64) {
+                blockedLo |= blocked ? 1L << cell : 0L;
+                requiredLo |= required ? 1L << cell : 0L;
+            } else {
+                blockedHi |= blocked ? 1L << (cell - 64) : 0L;
+                requiredHi |= required ? 1L << (cell - 64) : 0L;
+            }
+        }
+
+        keepConsistent(knowledge, blockedLo, blockedHi, requiredLo, requiredHi);
+        if (sampleCount < targetSamples) {
+            fill(remainingSizes(knowledge), blockedLo, blockedHi, requiredLo, requiredHi, deadline);
+        }
+        if (sampleCount == 0) {
+            return fallback.nextShot(knowledge);
+        }
+
+        int[] hits = new int[cells];
+        for (int s = 0; s < sampleCount; s++) {
+            for (long word = samples[2 * s]; word != 0; word &= word - 1) {
+                hits[Long.numberOfTrailingZeros(word)]++;
+            }
+            for (long word = samples[2 * s + 1]; word != 0; word &= word - 1) {
+                hits[64 + Long.numberOfTrailingZeros(word)]++;
+            }
+        }
+        int best = -1;
+        int ties = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (knowledge.isShot(cell)) {
+                continue;
+            }
+            if (best < 0 || hits[cell] > hits[best]) {
+                best = cell;
+                ties = 1;
+            } else if (hits[cell] == hits[best] && random.nextInt(++ties) == 0) {
+                best = cell;
+            }
+        }
+        return best < 0 ? null : new Position(best / width, best % width);
+    }
+
+    /**
+     * Drop samples contradicted by the latest shots; all of them once the
+     * remaining fleet has changed
+     */
+    private void keepConsistent(ShotKnowledge knowledge, long blockedLo, long blockedHi,
+                                long requiredLo, long requiredHi) {
+        int sunk = knowledge.getSunkShips().size();
+        if (sunk != sunkSeen) {
+            sunkSeen = sunk;
+            sampleCount = 0;
+            return;
+        }
+        int kept = 0;
+        for (int s = 0; s < sampleCount; s++) {
+            long lo = samples[2 * s];
+            long hi = samples[2 * s + 1];
+            if ((lo & blockedLo) == 0 && (hi & blockedHi) == 0
+                    && (lo & requiredLo) == requiredLo && (hi & requiredHi) == requiredHi) {
+                samples[2 * kept] = lo;
+                samples[2 * kept + 1] = hi;
+                kept++;
+            }
+        }
+        sampleCount = kept;
+    }
+
+    private int[] remainingSizes(ShotKnowledge knowledge) {
+        List<Integer> sizes = new ArrayList<>();
+        for (ShipType type : config.getFleet().keySet()) {
+            for (int i = 0; i < knowledge.getRemaining(type); i++) {
+                sizes.add(type.getSize());
+            }
+        }
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Top the buffer up to targetSamples, in parallel, until the deadline
+     */
+    private void fill(int[] sizes, long blockedLo, long blockedHi, long requiredLo, long requiredHi, long deadline) {
+        int tasks = ForkJoinPool.getCommonPoolParallelism();
+        int missing = targetSamples - sampleCount;
+        SampleTask[] parts = new SampleTask[tasks];
+        int from = sampleCount;
+        for (int t = 0; t < tasks; t++) {
+            int quota = missing / tasks + (t < missing % tasks ? 1 : 0);
+            parts[t] = new SampleTask(random.split(), sizes, blockedLo, blockedHi, requiredLo, requiredHi,
+                    from, quota, deadline);
+            from += quota;
+        }
+        if (tasks == 1) {
+            parts[0].compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(parts);
+                }
+            });
+        }
+        // Compact the slices; each task may have stopped short of its quota
+        int count = sampleCount;
+        for (SampleTask part : parts) {
+            if (part.from != count) {
+                System.arraycopy(samples, 2 * part.from, samples, 2 * count, 2 * part.produced);
+            }
+            count += part.produced;
+        }
+        sampleCount = count;
+    }
+
+    /**
+     * Draws samples into its own slice of the buffer with its own generator
+     */
+    private final class SampleTask extends RecursiveAction {
+        private final SplittableRandom taskRandom;
+        private final int[] sizes;
+        private final long blockedLo;
+        private final long blockedHi;
+        private final long requiredLo;
+        private final long requiredHi;
+        private final int from;
+        private final int quota;
+        private final long deadline;
+        private int produced;
+
+        SampleTask(SplittableRandom taskRandom, int[] sizes, long blockedLo, long blockedHi,
+                   long requiredLo, long requiredHi, int from, int quota, long deadline) {
+            this.taskRandom = taskRandom;
+            this.sizes = sizes;
+            this.blockedLo = blockedLo;
+            this.blockedHi = blockedHi;
+            this.requiredLo = requiredLo;
+            this.requiredHi = requiredHi;
+            this.from = from;
+            this.quota = quota;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            while (produced < quota && System.nanoTime() < deadline) {
+                for (int attempt = 0; attempt < ATTEMPTS_PER_SAMPLE; attempt++) {
+                    if (generator.sampleOccupancy(taskRandom, sizes, blockedLo, blockedHi,
+                            requiredLo, requiredHi, samples, 2 * (from + produced))) {
+                        produced++;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Samples currently held (kept from earlier moves plus new draws)
+     */
+    public int getSampleCount() { return sampleCount; }
+}
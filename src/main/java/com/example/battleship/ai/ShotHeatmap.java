@@ -0,0 +1,159 @@
+package com.example.battleship.ai;
+
+//Per-cell shot frequency table, memory-mapped from disk
+
+import com.example.battleship.exceptions.FileOperationException;
+import com.example.battleship.model.GameConfig;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * How often the human opponent fired at each cell while hunting, summed over
+ * past games on one board size.
+ * On disk the table is a flat int[]: a header (magic, version, width, height,
+ * games) followed by one count per cell. The file is memory-mapped read-write,
+ * so opening it costs no parsing and each recorded shot is a single int
+ * increment that the OS writes back.
+ */
+public class ShotHeatmap implements AutoCloseable {
+
+    private static final int MAGIC = 0x48454154; // "HEAT"
+    private static final int VERSION = 1;
+    private static final int GAMES = 4;
+    private static final int HEADER_INTS = 5;
+
+    private final int width;
+    private final int height;
+    private final IntBuffer table;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+
+    private ShotHeatmap(int width, int height, IntBuffer table, FileChannel channel, MappedByteBuffer mapped) {
+        this.width = width;
+        this.height = height;
+        this.table = table;
+        this.channel = channel;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Heatmap that is never written to disk (simulations, tests)
+     */
+    public static ShotHeatmap inMemory(GameConfig config) {
+        IntBuffer table = IntBuffer.allocate(HEADER_INTS + config.getCellCount());
+        writeHeader(table, config);
+        return new ShotHeatmap(config.getWidth(), config.getHeight(), table, null, null);
+    }
+
+    /**
+     * Map the table for config's board size, creating an empty one if the file does not exist
+     */
+    public static ShotHeatmap open(Path path, GameConfig config) throws FileOperationException {
+        long bytes = (long) (HEADER_INTS + config.getCellCount()) * Integer.BYTES;
+        FileChannel channel = null;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long existing = channel.size();
+            if (existing != 0 && existing != bytes) {
+                throw new FileOperationException("Heatmap " + path + " has " + existing
+                        + " bytes, expected " + bytes);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            IntBuffer table = mapped.asIntBuffer();
+            if (existing == 0) {
+                writeHeader(table, config);
+            } else if (table.get(0) != MAGIC || table.get(1) != VERSION
+                    || table.get(2) != config.getWidth() || table.get(3) != config.getHeight()) {
+                throw new FileOperationException("Heatmap " + path + " does not match a "
+                        + config.getWidth() + "x" + config.getHeight() + " board");
+            }
+            return new ShotHeatmap(config.getWidth(), config.getHeight(), table, channel, mapped);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new FileOperationException("Failed to map heatmap " + path, e);
+        } catch (FileOperationException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * File name for a board size, e.g. heatmap_10x10.bin
+     */
+    public static String fileName(GameConfig config) {
+        return "heatmap_" + config.getWidth() + "x" + config.getHeight() + ".bin";
+    }
+
+    private static void writeHeader(IntBuffer table, GameConfig config) {
+        table.put(0, MAGIC);
+        table.put(1, VERSION);
+        table.put(2, config.getWidth());
+        table.put(3, config.getHeight());
+        table.put(GAMES, 0);
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // already failing
+            }
+        }
+    }
+
+    public synchronized void recordShot(int cell) {
+        table.put(HEADER_INTS + cell, table.get(HEADER_INTS + cell) + 1);
+    }
+
+    public synchronized void recordGame() {
+        table.put(GAMES, table.get(GAMES) + 1);
+    }
+
+    public synchronized int getGames() {
+        return table.get(GAMES);
+    }
+
+    public synchronized int getCount(int cell) {
+        return table.get(HEADER_INTS + cell);
+    }
+
+    /**
+     * Copy the per-cell counts into out (length at least width * height)
+     */
+    public synchronized void copyCounts(int[] out) {
+        table.get(HEADER_INTS, out, 0, width * height);
+    }
+
+    /**
+     * True if this table was recorded on the config's board size
+     */
+    public boolean matches(GameConfig config) {
+        return config.getWidth() == width && config.getHeight() == height;
+    }
+
+    /**
+     * Flush the mapping and release the file; a no-op for in-memory tables
+     */
+    @Override
+    public synchronized void close() throws FileOperationException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            mapped.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to close heatmap", e);
+        }
+    }
+}
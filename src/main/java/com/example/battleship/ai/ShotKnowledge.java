@@ -0,0 +1,235 @@
+package com.example.battleship.ai;
+
+//What a shooter knows about the opponent's board
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Ship;
+import com.example.battleship.model.ShipType;
+import com.example.battleship.util.Zobrist;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * The shot history against one board, as seen by the shooter: missed cells,
+ * hit cells of ships still afloat, and the type and placement of every sunk ship.
+ * Layout counting and the AI strategies only ever look at this, never at the
+ * hidden ships themselves. Fired cells are also kept as raw 64-bit words so
+ * strategies can combine them with their own cell masks, and every change is
+ * folded into a Zobrist hash so equal knowledge states share one 64-bit key.
+ */
+public class ShotKnowledge {
+
+    private static final long ZOBRIST_SALT = 0x6B6E6F776C656467L;
+    private static final int MISS = 0;
+    private static final int HIT = 1;
+    // Sunk cells hash by ship type: SUNK + type ordinal
+    private static final int SUNK = 2;
+
+    private final GameConfig config;
+    private long zobristKey;
+    private final long[] shotWords;
+    private final BitSet misses = new BitSet();
+    private final BitSet openHits = new BitSet();
+    private final BitSet sunkCells = new BitSet();
+    private final EnumMap<ShipType, Integer> sunkCounts = new EnumMap<>(ShipType.class);
+    private final List<SunkShip> sunkShips = new ArrayList<>();
+
+    /**
+     * Type and placement of a sunk ship
+     */
+    public record SunkShip(ShipType type, int startCell, boolean horizontal) {
+    }
+
+    public ShotKnowledge(GameConfig config) {
+        this.config = config;
+        this.shotWords = new long[(config.getCellCount() + 63) >>> 6];
+    }
+
+    /**
+     * Knowledge a shooter has gathered from the shots already taken at board
+     */
+    public static ShotKnowledge of(Board board, GameConfig config) {
+        ShotKnowledge knowledge = new ShotKnowledge(config);
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
+                if (!board.isShot(row, col)) {
+                    continue;
+                }
+                int cell = row * config.getWidth() + col;
+                if (!board.hasShip(row, col)) {
+                    knowledge.recordMiss(cell);
+                } else if (!board.isSunk(row, col)) {
+                    knowledge.recordHit(cell);
+                }
+            }
+        }
+        board.forEachShip(ship -> {
+            if (ship.isSunk()) {
+                knowledge.recordSunk(ship);
+            }
+        });
+        return knowledge;
+    }
+
+    public void recordMiss(int cell) {
+        if (!misses.get(cell)) {
+            misses.set(cell);
+            zobristKey ^= Zobrist.key(ZOBRIST_SALT, cell, MISS);
+        }
+        markShot(cell);
+    }
+
+    public void recordHit(int cell) {
+        setOpenHit(cell, true);
+        markShot(cell);
+    }
+
+    private void setOpenHit(int cell, boolean hit) {
+        if (openHits.get(cell) != hit) {
+            openHits.set(cell, hit);
+            zobristKey ^= Zobrist.key(ZOBRIST_SALT, cell, HIT);
+        }
+    }
+
+    private void setSunk(int cell, ShipType type, boolean sunk) {
+        if (sunkCells.get(cell) != sunk) {
+            sunkCells.set(cell, sunk);
+            zobristKey ^= Zobrist.key(ZOBRIST_SALT, cell, SUNK + type.ordinal());
+        }
+    }
+
+    private void markShot(int cell) {
+        shotWords[cell >>> 6] |= 1L << cell;
+    }
+
+    /**
+     * Record a sunk ship; its cells stop counting as open hits
+     */
+    public void recordSunk(ShipType type, int startCell, boolean horizontal) {
+        int step = horizontal ? 1 : config.getWidth();
+        for (int i = 0; i < type.getSize(); i++) {
+            setOpenHit(startCell + i * step, false);
+            setSunk(startCell + i * step, type, true);
+            markShot(startCell + i * step);
+        }
+        sunkCounts.merge(type, 1, Integer::sum);
+        sunkShips.add(new SunkShip(type, startCell, horizontal));
+    }
+
+    public void recordSunk(Ship ship) {
+        recordSunk(ship.getType(), ship.getStartRow() * config.getWidth() + ship.getStartCol(), ship.isHorizontal());
+    }
+
+    /**
+     * Record what a shot at cell did; ship is the ship at the target, if any
+     */
+    public void record(int cell, Board.ShotResult result, Ship ship) {
+        switch (result) {
+            case MISS -> recordMiss(cell);
+            case HIT -> recordHit(cell);
+            case SUNK -> {
+                recordHit(cell);
+                recordSunk(ship);
+            }
+            default -> {
+                // ALREADY_SHOT: nothing new learned
+            }
+        }
+    }
+
+    /**
+     * Take back the shot at cell (undo). Un-sinks the ship it sank, if any;
+     * that ship's other cells become open hits again.
+     */
+    public void forget(int cell) {
+        if (sunkCells.get(cell)) {
+            for (int i = 0; i < sunkShips.size(); i++) {
+                SunkShip sunk = sunkShips.get(i);
+                if (covers(sunk, cell)) {
+                    int step = sunk.horizontal() ? 1 : config.getWidth();
+                    sunkShips.remove(i);
+                    sunkCounts.merge(sunk.type(), -1, Integer::sum);
+                    for (int j = 0; j < sunk.type().getSize(); j++) {
+                        setSunk(sunk.startCell() + j * step, sunk.type(), false);
+                        setOpenHit(sunk.startCell() + j * step, true);
+                    }
+                    break;
+                }
+            }
+        }
+        if (misses.get(cell)) {
+            misses.clear(cell);
+            zobristKey ^= Zobrist.key(ZOBRIST_SALT, cell, MISS);
+        }
+        setOpenHit(cell, false);
+        shotWords[cell >>> 6] &= ~(1L << cell);
+    }
+
+    private boolean covers(SunkShip sunk, int cell) {
+        int step = sunk.horizontal() ? 1 : config.getWidth();
+        for (int j = 0; j < sunk.type().getSize(); j++) {
+            if (sunk.startCell() + j * step == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isMiss(int cell) { return misses.get(cell); }
+    public boolean isOpenHit(int cell) { return openHits.get(cell); }
+    public boolean isSunk(int cell) { return sunkCells.get(cell); }
+
+    /**
+     * True if the cell has been fired at, whatever the result
+     */
+    public boolean isShot(int cell) {
+        return (shotWords[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Fired cells 64*index .. 64*index+63 as one word, bit n for cell 64*index+n
+     */
+    public long shotWord(int index) {
+        return shotWords[index];
+    }
+
+    /**
+     * First open hit at or after cell, or -1
+     */
+    public int nextOpenHit(int cell) {
+        return openHits.nextSetBit(cell);
+    }
+
+    /**
+     * Size of the smallest ship still afloat, or 0 once the whole fleet is sunk
+     */
+    public int getSmallestRemainingSize() {
+        int smallest = 0;
+        for (ShipType type : config.getFleet().keySet()) {
+            if (getRemaining(type) > 0 && (smallest == 0 || type.getSize() < smallest)) {
+                smallest = type.getSize();
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Ships of this type still afloat
+     */
+    public int getRemaining(ShipType type) {
+        return config.getShipCount(type) - sunkCounts.getOrDefault(type, 0);
+    }
+
+    /**
+     * Zobrist hash of the misses, open hits and sunk ships; 0 for no shots
+     */
+    public long getZobristKey() { return zobristKey; }
+
+    public int getOpenHitCount() { return openHits.cardinality(); }
+    public List<SunkShip> getSunkShips() { return Collections.unmodifiableList(sunkShips); }
+    public GameConfig getConfig() { return config; }
+}
@@ -0,0 +1,22 @@
+package com.example.battleship.ai;
+
+//Strategy interface for choosing the computer's next shot
+
+import com.example.battleship.model.Position;
+
+/**
+ * Chooses the next cell to fire at from what the shooter knows so far.
+ * Implementations may keep their own caches, but must return a cell that
+ * knowledge does not mark as shot while any such cell exists.
+ */
+public interface ShotStrategy {
+    Position nextShot(ShotKnowledge knowledge);
+
+    /**
+     * Best shot found by the deadline (System.nanoTime()). Strategies that
+     * can stop early override this; the rest simply ignore the deadline.
+     */
+    default Position nextShot(ShotKnowledge knowledge, long deadline) {
+        return nextShot(knowledge);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.battleship.ai;
+
+//Bounded shared cache of shot decisions
+
+import com.example.battleship.util.LongIntHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Maps a knowledge Zobrist key to the cell a strategy chose in that position.
+ * The table is split into independently locked stripes, so games on different
+ * threads rarely wait for each other. Each stripe holds a fixed number of
+ * entries and evicts with the CLOCK algorithm: a lookup sets the entry's
+ * reference bit, and the clock hand skips (and clears) referenced entries when
+ * looking for a victim, which approximates LRU without reordering anything on reads.
+ * One cache must only be shared between games with the same config and strategy.
+ */
+public class TranspositionCache {
+
+    public static final int NO_MOVE = -1;
+
+    // LongIntHashMap reserves this key; such a position is simply never cached
+    private static final long UNCACHEABLE = Long.MIN_VALUE;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity total entries, spread evenly over the stripes
+     * @param stripeCount number of locks, rounded up to a power of two
+     */
+    public TranspositionCache(int capacity, int stripeCount) {
+        int count = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[count];
+        this.stripeMask = count - 1;
+        int perStripe = Math.max(1, capacity / count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    private Stripe stripe(long key) {
+        return stripes[(int) key & stripeMask];
+    }
+
+    /**
+     * Cached cell for the position, or NO_MOVE
+     */
+    public int get(long key) {
+        int cell = key == UNCACHEABLE ? NO_MOVE : stripe(key).get(key);
+        if (cell == NO_MOVE) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return cell;
+    }
+
+    public void put(long key, int cell) {
+        if (key != UNCACHEABLE && stripe(key).put(key, cell)) {
+            evictions.increment();
+        }
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Fixed-size slot arrays plus a key index, guarded by the stripe's monitor
+     */
+    private static final class Stripe {
+        private final LongIntHashMap index;
+        private final long[] keys;
+        private final int[] cells;
+        private final boolean[] referenced;
+        private int used;
+        private int hand;
+
+        Stripe(int capacity) {
+            this.index = new LongIntHashMap(capacity);
+            this.keys = new long[capacity];
+            this.cells = new int[capacity];
+            this.referenced = new boolean[capacity];
+        }
+
+        synchronized int get(long key) {
+            int slot = index.get(key, -1);
+            if (slot < 0) {
+                return NO_MOVE;
+            }
+            referenced[slot] = true;
+            return cells[slot];
+        }
+
+        /**
+         * Store the entry, returning true if another entry had to be evicted
+         */
+        synchronized boolean put(long key, int cell) {
+            int slot = index.get(key, -1);
+            if (slot >= 0) {
+                cells[slot] = cell;
+                referenced[slot] = true;
+                return false;
+            }
+            boolean evicted = false;
+            if (used < keys.length) {
+                slot = used++;
+            } else {
+                while (referenced[hand]) {
+                    referenced[hand] = false;
+                    hand = (hand + 1) % keys.length;
+                }
+                slot = hand;
+                hand = (hand + 1) % keys.length;
+                index.remove(keys[slot], -1);
+                evicted = true;
+            }
+            keys[slot] = key;
+            cells[slot] = cell;
+            referenced[slot] = false;
+            index.put(key, slot);
+            return evicted;
+        }
+
+        synchronized int size() {
+            return used;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.battleship.controller;
+
+//Built-in AI as a player agent
+
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameState;
+import com.example.battleship.model.Position;
+import com.example.battleship.patterns.GameEvent;
+import com.example.battleship.patterns.GameEventListener;
+import java.util.List;
+
+/**
+ * Lets an AIStrategy play either side, e.g. the player's side when a remote
+ * bot takes the computer's. Subscribe it to the game's event bus so it learns
+ * what its shots hit.
+ */
+public class AIPlayerAgent implements PlayerAgent, GameEventListener {
+
+    private final GameState gameState;
+    private final boolean computerSide;
+    private final AIStrategy ai;
+
+    public AIPlayerAgent(GameState gameState, boolean computerSide, Difficulty difficulty) {
+        this.gameState = gameState;
+        this.computerSide = computerSide;
+        this.ai = new AIStrategy(gameState.getConfig());
+        ai.setDifficulty(difficulty);
+    }
+
+    @Override
+    public Position chooseShot(GameState gameState, boolean computerSide, long deadlineNanos) {
+        return ai.generateShot();
+    }
+
+    @Override
+    public void onEvents(List<GameEvent> events) {
+        for (GameEvent event : events) {
+            if (event instanceof GameEvent.ShotResolved shot && shot.byComputer() == computerSide) {
+                Board target = computerSide ? gameState.getPlayerBoard() : gameState.getComputerBoard();
+                Position position = shot.position();
+                ai.removeShotPosition(position);
+                ai.recordResult(position, shot.result(), target.getShipAt(position.getRow(), position.getCol()));
+            }
+        }
+    }
+}
@@ -1,33 +1,96 @@
 package com.example.battleship.controller;
 
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.OpeningBook;
+import com.example.battleship.ai.ShotKnowledge;
+import com.example.battleship.ai.ShotStrategy;
 import com.example.battleship.model.*;
+import com.example.battleship.util.GameLogger;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 /**
  * Implements the computer's AI strategy.
  * HU-4: Random ship placement and shot generation
+ *
+ * Available shots are a virtual Fisher-Yates shuffle of the cell indices:
+ * only displaced slots are stored, so memory and time per shot stay
+ * proportional to the shots taken, not to the board area.
+ * Shot results are collected in a ShotKnowledge; when a ShotStrategy is set it
+ * picks the cell from that, otherwise the next cell of the shuffle is fired at.
+ * The Difficulty sets the strategy and the deadline it is given for each shot.
  */
 public class AIStrategy {
 
+    private static final GameLogger LOG = GameLogger.getLogger(AIStrategy.class);
+
+    private final GameConfig config;
+    private final int width;
+    private final int height;
     private Random random;
-    private List<Position> availableShots;
+    private ShotKnowledge knowledge;
+    private ShotStrategy shotStrategy;
+    private Difficulty difficulty;
+    private OpeningBook openingBook;
+    private long moveBudgetNanos;
+    private int remainingShots;
+    private Map<Integer, Integer> slotToCell;
+    private Map<Integer, Integer> cellToSlot;
 
     public AIStrategy() {
+        this(GameConfig.defaultConfig());
+    }
+
+    public AIStrategy(GameConfig config) {
+        this.config = config;
+        this.width = config.getWidth();
+        this.height = config.getHeight();
         this.random = new Random();
+        setDifficulty(Difficulty.MEDIUM);
         initializeAvailableShots();
     }
 
     /**
-     * Initialize all possible shot positions
+     * Initialize all possible shot positions (identity permutation, nothing stored)
      */
     private void initializeAvailableShots() {
-        availableShots = new ArrayList<>();
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                availableShots.add(new Position(row, col));
-            }
+        remainingShots = width * height;
+        slotToCell = new HashMap<>();
+        cellToSlot = new HashMap<>();
+        knowledge = new ShotKnowledge(config);
+    }
+
+    private int cellAt(int slot) {
+        return slotToCell.getOrDefault(slot, slot);
+    }
+
+    private int slotOf(int cell) {
+        return cellToSlot.getOrDefault(cell, cell);
+    }
+
+    /**
+     * Swap two slots of the virtual permutation, storing only non-identity entries
+     */
+    private void swapSlots(int a, int b) {
+        if (a == b) {
+            return;
+        }
+        int cellA = cellAt(a);
+        int cellB = cellAt(b);
+        assign(a, cellB);
+        assign(b, cellA);
+    }
+
+    private void assign(int slot, int cell) {
+        if (slot == cell) {
+            slotToCell.remove(slot);
+            cellToSlot.remove(cell);
+        } else {
+            slotToCell.put(slot, cell);
+            cellToSlot.put(cell, slot);
         }
     }
 
@@ -35,31 +98,45 @@ public class AIStrategy {
      * HU-4: Generate random shot
      */
     public Position generateShot() {
-        if (availableShots.isEmpty()) {
+        if (remainingShots == 0) {
             initializeAvailableShots();
         }
 
-        int index = random.nextInt(availableShots.size());
-        Position shot = availableShots.remove(index);
+        Position chosen = shotStrategy == null ? null
+                : shotStrategy.nextShot(knowledge, System.nanoTime() + moveBudgetNanos);
+        int cell;
+        if (chosen != null && !knowledge.isShot(chosen.getRow() * width + chosen.getCol())) {
+            cell = chosen.getRow() * width + chosen.getCol();
+            removeShotPosition(chosen);
+        } else {
+            int slot = random.nextInt(remainingShots);
+            cell = cellAt(slot);
+            swapSlots(slot, remainingShots - 1);
+            remainingShots--;
+        }
 
-        // Convert to readable format for debugging
-        char colChar = (char) ('A' + shot.getCol());
-        int rowNum = shot.getRow() + 1;
-        System.out.println("Computer shooting at: " + colChar + rowNum + " (Position: " + shot + ")");
+        Position shot = new Position(cell / width, cell % width);
+        LOG.debug(() -> "Computer shooting at: " + shot.toCoordinate() + " (Position: " + shot + ")");
 
         return shot;
     }
 
+    /**
+     * Number of cells not yet fired at
+     */
+    public int getRemainingShots() {
+        return remainingShots;
+    }
+
     /**
      * HU-4: Place ships randomly on board
      */
     public void placeShipsRandomly(Board board, List<Ship> ships) {
-        System.out.println("AI Strategy: Placing " + ships.size() + " ships");
+        LOG.debug(() -> "AI Strategy: Placing " + ships.size() + " ships");
 
         //This reset all ships
         for (Ship ship : ships) {
-            ship.setPlaced(false);
-            ship.setPositions(null);
+            ship.reset();
         }
 
         //This clear the board
@@ -72,8 +149,8 @@ public class AIStrategy {
             int maxAttempts = 500; //Increased from 100 to 500
 
             while (!placed && attempts < maxAttempts) {
-                int row = random.nextInt(10);
-                int col = random.nextInt(10);
+                int row = random.nextInt(board.getHeight());
+                int col = random.nextInt(board.getWidth());
                 boolean horizontal = random.nextBoolean();
 
                 Position position = new Position(row, col);
@@ -83,27 +160,25 @@ public class AIStrategy {
                     //place the ship
                     placed = board.placeShip(ship, position, horizontal);
                     if (placed) {
-                        System.out.println("Successfully placed " + ship.getName() +
-                                " at (" + row + "," + col + ") " +
-                                (horizontal ? "horizontal" : "vertical"));
+                        LOG.trace(() -> "Successfully placed " + ship.getName() +
+                                " at " + position + " " + (horizontal ? "horizontal" : "vertical"));
                     }
                 }
 
                 attempts++;
 
-                if (attempts % 100 == 0) {
-                    System.out.println("Attempt " + attempts + " to place " + ship.getName());
+                if (attempts % 100 == 0 && LOG.isTraceEnabled()) {
+                    LOG.trace("Attempt " + attempts + " to place " + ship.getName());
                 }
             }
 
             if (!placed) {
-                System.err.println("FAILED to place ship: " + ship.getName() + " after " + maxAttempts + " attempts");
+                LOG.warn("Failed to place " + ship.getName() + " after " + maxAttempts
+                        + " attempts, resetting board and trying again");
                 //Instead of recursive call, reset and try again from beginning
-                System.out.println("Resetting board and trying again...");
                 board.clear();
                 for (Ship s : ships) {
-                    s.setPlaced(false);
-                    s.setPositions(null);
+                    s.reset();
                 }
                 //Restart the loop
                 placeShipsRandomly(board, ships);
@@ -111,7 +186,7 @@ public class AIStrategy {
             }
         }
 
-        System.out.println("All ships placed successfully!");
+        LOG.debug("All ships placed successfully");
     }
 
     /**
@@ -123,13 +198,12 @@ public class AIStrategy {
             int col = horizontal ? startPos.getCol() + i : startPos.getCol();
 
             //Check bounds
-            if (row < 0 || row >= 10 || col < 0 || col >= 10) {
+            if (row < 0 || row >= board.getHeight() || col < 0 || col >= board.getWidth()) {
                 return false;
             }
 
             //Check if cell already has a ship
-            Position pos = new Position(row, col);
-            if (board.getCell(pos).hasShip()) {
+            if (board.hasShip(row, col)) {
                 return false;
             }
         }
@@ -140,7 +214,80 @@ public class AIStrategy {
      * Remove position from available shots (when it's already been shot)
      */
     public void removeShotPosition(Position position) {
-        availableShots.remove(position);
+        if (position.getRow() < 0 || position.getRow() >= height
+                || position.getCol() < 0 || position.getCol() >= width) {
+            return;
+        }
+        int cell = position.getRow() * width + position.getCol();
+        int slot = slotOf(cell);
+        if (slot < remainingShots) {
+            swapSlots(slot, remainingShots - 1);
+            remainingShots--;
+        }
+    }
+
+    /**
+     * Tell the strategy what a shot hit; ship is the ship at the target, if any
+     */
+    public void recordResult(Position position, Board.ShotResult result, Ship ship) {
+        knowledge.record(position.getRow() * width + position.getCol(), result, ship);
+    }
+
+    /**
+     * Rebuild the shot knowledge from the board being fired at (after a load)
+     */
+    public void syncKnowledge(Board target) {
+        knowledge = ShotKnowledge.of(target, config);
+    }
+
+    /**
+     * Make a position available again (when a shot is undone)
+     */
+    public void restoreShotPosition(Position position) {
+        if (position.getRow() < 0 || position.getRow() >= height
+                || position.getCol() < 0 || position.getCol() >= width) {
+            return;
+        }
+        int cell = position.getRow() * width + position.getCol();
+        int slot = slotOf(cell);
+        if (slot >= remainingShots) {
+            swapSlots(slot, remainingShots);
+            remainingShots++;
+        }
+        knowledge.forget(cell);
+    }
+
+    public ShotKnowledge getKnowledge() { return knowledge; }
+    public ShotStrategy getShotStrategy() { return shotStrategy; }
+
+    public Difficulty getDifficulty() { return difficulty; }
+
+    /**
+     * Choose how shots are picked; null fires at random.
+     * The per-move budget of the current difficulty still applies.
+     */
+    public void setShotStrategy(ShotStrategy shotStrategy) {
+        this.shotStrategy = shotStrategy;
+    }
+
+    /**
+     * Switch to the difficulty's strategy and per-move budget.
+     * What the computer has learned about the board so far is kept.
+     */
+    public void setDifficulty(Difficulty difficulty) {
+        this.difficulty = difficulty;
+        this.moveBudgetNanos = difficulty.getBudgetNanos();
+        this.shotStrategy = difficulty.createStrategy(config, new SplittableRandom(random.nextLong()), openingBook);
+        LOG.debug(() -> "AI difficulty set to " + difficulty.getLabel());
+    }
+
+    /**
+     * Opening book for the tiers that use one (null for none); rebuilds the
+     * current difficulty's strategy so it applies from the next shot
+     */
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+        setDifficulty(difficulty);
     }
 
     /**
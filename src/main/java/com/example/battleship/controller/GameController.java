@@ -1,166 +1,726 @@
 package com.example.battleship.controller;
 
 import com.example.battleship.model.*;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.LayoutPool;
+import com.example.battleship.ai.OpeningBook;
+import com.example.battleship.ai.ShotHeatmap;
 import com.example.battleship.exceptions.*;
 import com.example.battleship.util.GameSaver;
 import com.example.battleship.util.GameLoader;
+import com.example.battleship.util.GameLogger;
+import com.example.battleship.patterns.CommandHistory;
+import com.example.battleship.patterns.FireCommand;
 import com.example.battleship.patterns.GameCommand;
+import com.example.battleship.patterns.GameEventBus;
+import com.example.battleship.util.Constants;
+import com.example.battleship.metrics.AIDecisionEvent;
+import com.example.battleship.metrics.GameMetrics;
+import com.example.battleship.metrics.LatencyHistogram;
+import com.example.battleship.metrics.ShotEvent;
+import com.example.battleship.patterns.GameEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * Main controller class coordinating all game logic.
  */
 public class GameController {
 
+    private static final GameLogger LOG = GameLogger.getLogger(GameController.class);
+
+    // Metrics handles cached once so shots only touch LongAdders
+    private static final GameMetrics METRICS = GameMetrics.getInstance();
+    private static final LongAdder PLAYER_SHOTS = METRICS.counter(GameMetrics.SHOTS_PLAYER);
+    private static final LongAdder COMPUTER_SHOTS = METRICS.counter(GameMetrics.SHOTS_COMPUTER);
+    private static final LongAdder HITS = METRICS.counter(GameMetrics.SHOTS_HIT);
+    private static final LongAdder MISSES = METRICS.counter(GameMetrics.SHOTS_MISS);
+    private static final LongAdder SINKS = METRICS.counter(GameMetrics.SHOTS_SUNK);
+    private static final LatencyHistogram SHOT_LATENCY = METRICS.histogram(GameMetrics.SHOT_LATENCY);
+    private static final LatencyHistogram AI_LATENCY = METRICS.histogram(GameMetrics.AI_DECISION_LATENCY);
+
     private GameState gameState;
     private GameSaver gameSaver;
     private GameLoader gameLoader;
     private ExecutorService executorService;
     private ShipPlacementController shipPlacementController;
+    private final CommandHistory history;
+    // Where the player fires while hunting; null when not recording
+    private ShotHeatmap heatmap;
+    private OpeningBook openingBook;
+    private final Supplier<ExecutorService> executorFactory;
+    private final LongSupplier queueDepthGauge = this::getQueueDepth;
+    // Sides played by an agent instead of the UI / the built-in AI; null when not
+    private PlayerAgent playerAgent;
+    private PlayerAgent computerAgent;
+    private long moveTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Constants.BOT_MOVE_TIMEOUT_MS);
+    private long thinkingDelayMillis = Constants.COMPUTER_THINKING_MS;
+    private boolean autoSaveEnabled = true;
+    // Server hosting the match in thin-client mode, and the shot awaiting its result
+    private MatchLink matchLink;
+    private RemoteMatchListener remoteMatch;
+    private Executor remoteEvents = Runnable::run;
 
     public GameController(GameState gameState) {
+        this(gameState, () -> Executors.newFixedThreadPool(Constants.THREAD_POOL_SIZE));
+    }
+
+    /**
+     * @param executorFactory creates the executor computer and agent turns run on (again after a reset)
+     */
+    public GameController(GameState gameState, Supplier<ExecutorService> executorFactory) {
         this.gameState = gameState;
         this.gameSaver = new GameSaver();
         this.gameLoader = new GameLoader();
-        this.executorService = Executors.newFixedThreadPool(2);
-        this.shipPlacementController = new ShipPlacementController(gameState);
-
-        System.out.println("GameController initialized");
-        System.out.println("Player ships: " + gameState.getPlayer().getShips().size());
-        System.out.println("Computer ships: " + gameState.getComputer().getShips().size());
+        this.executorFactory = executorFactory;
+        this.executorService = executorFactory.get();
+        this.history = new CommandHistory(Constants.HISTORY_CAPACITY);
+        this.shipPlacementController = new ShipPlacementController(gameState, history);
+        equipComputer();
+        METRICS.gauge(GameMetrics.CONTROLLER_QUEUE_DEPTH, queueDepthGauge);
+
+        LOG.debug(() -> "GameController initialized with " + gameState.getPlayer().getShips().size()
+                + " player ships and " + gameState.getComputer().getShips().size() + " computer ships");
     }
 
     /**
-     * Player fires at computer's board
+     * Player fires at computer's board; against a server the shot is only
+     * sent, so this returns null and the result follows as a ShotResolved event
      */
     public Board.ShotResult playerFire(Position position) throws InvalidShotException {
-        System.out.println("Player firing at position: " + position);
+        if (matchLink != null) {
+            return fireRemote(position);
+        }
+        GameEventBus events = gameState.getEvents();
+        Board.ShotResult result;
+        events.beginBatch();
+        try {
+            result = resolvePlayerShot(position);
+        } finally {
+            events.endBatch();
+        }
+        // Start computer's turn in separate thread once this shot's events are out
+        if (result == Board.ShotResult.MISS && !gameState.isGameOver()) {
+            executorService.submit(this::computerTurn);
+        }
+        return result;
+    }
+
+    private Board.ShotResult resolvePlayerShot(Position position) throws InvalidShotException {
+        long start = System.nanoTime();
+        ShotEvent event = new ShotEvent();
+        event.begin();
 
         // Validate shot
-        if (position.getRow() < 0 || position.getRow() >= 10 ||
-                position.getCol() < 0 || position.getCol() >= 10) {
+        if (!gameState.getComputerBoard().isValidPosition(position)) {
             throw new InvalidShotException("Position out of bounds");
         }
 
-        Cell cell = gameState.getComputerBoard().getCell(position);
-        if (cell.isShot()) {
+        if (gameState.getComputerBoard().isShot(position.getRow(), position.getCol())) {
             throw new InvalidShotException("Position already shot");
         }
 
-        // Execute shot
-        Board.ShotResult result = gameState.getComputerBoard().receiveShot(position);
-        System.out.println("Shot result: " + result);
+        if (heatmap != null && !hasWoundedShip(gameState.getComputerBoard())) {
+            heatmap.recordShot(position.getRow() * gameState.getConfig().getWidth() + position.getCol());
+        }
 
-        // Update game state
+        // Execute shot
+        FireCommand command = new FireCommand(gameState, false, position);
+        command.execute();
+        history.record(command.encode());
+        Board.ShotResult result = command.getResult();
+        LOG.debug(() -> "Player fired at " + position + ": " + result);
+        recordShot(result);
+        PLAYER_SHOTS.increment();
+
+        // Update game state (score and sunk count are applied by the command)
         if (result == Board.ShotResult.HIT || result == Board.ShotResult.SUNK) {
-            gameState.getPlayer().incrementScore(100);
             if (result == Board.ShotResult.SUNK) {
-                gameState.getPlayer().incrementShipsSunk();
-                System.out.println("Player sunk a ship! Total sunk: " + gameState.getPlayer().getShipsSunk());
+                LOG.debug(() -> "Player sunk a ship! Total sunk: " + gameState.getPlayer().getShipsSunk());
                 checkGameOver();
             }
             // Player gets another turn on hit/sink
             gameState.setPlayerTurn(true);
         } else {
             gameState.setPlayerTurn(false);
-            System.out.println("Player missed. Computer's turn now.");
-            // Start computer's turn in separate thread
-            executorService.submit(this::computerTurn);
         }
 
         //Save game after each move
-        saveGame();
+        autoSave();
 
+        SHOT_LATENCY.record(System.nanoTime() - start);
+        commitShotEvent(event, "Player", position, result);
         return result;
     }
 
+    /**
+     * Send the shot to the server without waiting; its verdict arrives as a
+     * ShotResolved event on the thread given to setMatchLink
+     */
+    private Board.ShotResult fireRemote(Position position) throws InvalidShotException {
+        RemoteMatchListener match = remoteMatch;
+        if (match == null || !gameState.isGameStarted() || gameState.isGameOver() || !gameState.isPlayerTurn()) {
+            throw new InvalidShotException("Not your turn");
+        }
+        if (match.shotInFlight) {
+            throw new InvalidShotException("Waiting for the server to answer the last shot");
+        }
+        if (!gameState.getComputerBoard().isValidPosition(position)) {
+            throw new InvalidShotException("Position out of bounds");
+        }
+        if (gameState.getComputerBoard().isShot(position.getRow(), position.getCol())) {
+            throw new InvalidShotException("Position already shot");
+        }
+        match.shotInFlight = true;
+        try {
+            matchLink.fire(position);
+        } catch (IOException e) {
+            match.shotInFlight = false;
+            throw new UncheckedIOException("Lost connection to the server", e);
+        }
+        return null;
+    }
+
+    /**
+     * Applies what the server reports to this controller's mirror of the match,
+     * where the computer's side stands for the remote opponent. Every report
+     * is handed to the applying executor, so the game is only changed on that
+     * thread (the FX thread in the app), never on the connection's.
+     */
+    private final class RemoteMatchListener implements MatchLink.Listener {
+        // The game this match was joined from; a reset swaps the controller's
+        // state while the old match's last frames may still be arriving
+        private final GameState game;
+        private final Executor applyOn;
+        private volatile boolean ended;
+        // A shot was sent and its SHOT or ERROR has not been applied yet
+        private volatile boolean shotInFlight;
+
+        RemoteMatchListener(GameState game, Executor applyOn) {
+            this.game = game;
+            this.applyOn = applyOn;
+        }
+
+        boolean isEnded() {
+            return ended;
+        }
+
+        @Override
+        public void matchStarted(boolean yourTurn) {
+            applyOn.execute(() -> applyStart(yourTurn));
+        }
+
+        @Override
+        public void shotResolved(boolean byYou, Position position, Board.ShotResult result, Ship sunkShip,
+                                 boolean yourTurn) {
+            applyOn.execute(() -> applyShot(byYou, position, result, sunkShip, yourTurn));
+        }
+
+        @Override
+        public void rejected(String reason) {
+            applyOn.execute(() -> {
+                shotInFlight = false;
+                LOG.warn("Server rejected request: " + reason);
+            });
+        }
+
+        @Override
+        public void matchEnded(boolean youWon, String reason) {
+            ended = true;
+            applyOn.execute(() -> applyEnd(youWon, reason));
+        }
+
+        private void applyStart(boolean yourTurn) {
+            GameEventBus events = game.getEvents();
+            events.beginBatch();
+            try {
+                game.setPlayerTurn(yourTurn);
+                game.setGameOver(false);
+                game.setWinner(null);
+                game.setGameStarted(true);
+            } finally {
+                events.endBatch();
+            }
+            LOG.info("Match started");
+        }
+
+        private void applyShot(boolean byYou, Position position, Board.ShotResult result, Ship sunkShip,
+                               boolean yourTurn) {
+            GameEventBus events = game.getEvents();
+            events.beginBatch();
+            try {
+                if (byYou) {
+                    shotInFlight = false;
+                    Board mirror = game.getComputerBoard();
+                    mirror.markShot(position, result == Board.ShotResult.HIT || result == Board.ShotResult.SUNK);
+                    if (result == Board.ShotResult.HIT || result == Board.ShotResult.SUNK) {
+                        game.getPlayer().incrementScore(Constants.HIT_SCORE);
+                    }
+                    if (sunkShip != null) {
+                        mirror.revealShip(sunkShip, new Position(sunkShip.getStartRow(), sunkShip.getStartCol()),
+                                sunkShip.isHorizontal());
+                        game.getPlayer().incrementShipsSunk();
+                    }
+                    events.publish(new GameEvent.ShotResolved(false, position, result));
+                    PLAYER_SHOTS.increment();
+                } else {
+                    // Our own board is known here, so replaying the shot gives the server's result
+                    FireCommand command = new FireCommand(game, true, position);
+                    command.execute();
+                    if (command.getResult() != result) {
+                        LOG.warn("Server reported " + result + " at " + position + ", local board says "
+                                + command.getResult());
+                    }
+                    COMPUTER_SHOTS.increment();
+                }
+                recordShot(result);
+                game.setPlayerTurn(yourTurn);
+            } finally {
+                events.endBatch();
+            }
+        }
+
+        private void applyEnd(boolean youWon, String reason) {
+            shotInFlight = false;
+            GameEventBus events = game.getEvents();
+            events.beginBatch();
+            try {
+                game.setGameOver(true);
+                game.setWinner(youWon ? "Player" : "Computer");
+            } finally {
+                events.endBatch();
+            }
+            LOG.info("Match over (" + reason + "): " + (youWon ? "Player" : "Opponent") + " wins");
+        }
+    }
+
+    /**
+     * True while some ship is hit but not sunk, i.e. the shooter is finishing a ship, not hunting
+     */
+    private static boolean hasWoundedShip(Board board) {
+        for (int i = 0; i < board.shipCount(); i++) {
+            Ship ship = board.getShip(i);
+            if (ship.getHitCount() > 0 && !ship.isSunk()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count a resolved shot by outcome
+     */
+    private static void recordShot(Board.ShotResult result) {
+        switch (result) {
+            case HIT -> HITS.increment();
+            case SUNK -> {
+                HITS.increment();
+                SINKS.increment();
+            }
+            case MISS -> MISSES.increment();
+            default -> { }
+        }
+    }
+
+    private static void commitShotEvent(ShotEvent event, String shooter, Position position,
+                                        Board.ShotResult result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.shooter = shooter;
+            event.row = position.getRow();
+            event.col = position.getCol();
+            event.result = result.name();
+            event.commit();
+        }
+    }
+
+    private static String strategyName(AIStrategy ai) {
+        return ai.getShotStrategy() == null ? "Random" : ai.getShotStrategy().getClass().getSimpleName();
+    }
+
+    /**
+     * Tasks waiting in the computer-turn executor
+     */
+    private long getQueueDepth() {
+        return executorService instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : 0;
+    }
+
     /**
      * Computer's turn (executed in separate thread)
      */
     private void computerTurn() {
         try {
-            System.out.println("Computer's turn starting...");
-
             //Simulate thinking time
-            Thread.sleep(1000);
-
-            Position shotPosition = gameState.getComputer().generateShot();
-            System.out.println("Computer shooting at: " + shotPosition);
+            if (thinkingDelayMillis > 0) {
+                Thread.sleep(thinkingDelayMillis);
+            }
+            if (gameState.isGameOver()) {
+                return;
+            }
 
-            Board.ShotResult result = gameState.getPlayerBoard().receiveShot(shotPosition);
-            System.out.println("Computer shot result: " + result);
+            GameEventBus events = gameState.getEvents();
+            Board.ShotResult result;
+            events.beginBatch();
+            try {
+                result = resolveComputerShot();
+            } finally {
+                events.endBatch();
+            }
 
-            //Update game state
+            // Follow-up turns start after the events so agents see the result first
+            if (gameState.isGameOver()) {
+                return;
+            }
             if (result == Board.ShotResult.HIT || result == Board.ShotResult.SUNK) {
-                if (result == Board.ShotResult.SUNK) {
-                    gameState.getComputer().incrementShipsSunk();
-                    System.out.println("Computer sunk a ship! Total sunk: " + gameState.getComputer().getShipsSunk());
-                    checkGameOver();
-                }
                 //Computer gets another turn
-                System.out.println("Computer hit! Gets another turn.");
                 executorService.submit(this::computerTurn);
-            } else {
-                gameState.setPlayerTurn(true);
-                System.out.println("Computer missed. Player's turn now.");
+            } else if (playerAgent != null) {
+                executorService.submit(this::agentPlayerTurn);
             }
 
-            //Save game after computer's move
-            saveGame();
-
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            System.err.println("Computer turn interrupted");
+            LOG.warn("Computer turn interrupted");
+        } catch (MoveTimeoutException | InvalidShotException e) {
+            forfeit(true, e.getMessage());
         } catch (Exception e) {
-            System.err.println("Error in computer turn: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error in computer turn: " + e.getMessage(), e);
             gameState.setPlayerTurn(true); // Give turn back to player on error
         }
     }
 
+    /**
+     * Let the player's agent fire until it misses, forfeits or the game ends
+     */
+    private void agentPlayerTurn() {
+        PlayerAgent agent = playerAgent;
+        try {
+            if (agent == null || !gameState.isPlayerTurn()) {
+                return;
+            }
+            while (!gameState.isGameOver()) {
+                Board.ShotResult result = playerFire(agent.chooseShot(gameState, false, System.nanoTime() + moveTimeoutNanos));
+                // A miss already handed the turn to computerTurn, which submits the next agentPlayerTurn
+                if (result == Board.ShotResult.MISS) {
+                    break;
+                }
+            }
+        } catch (MoveTimeoutException | InvalidShotException e) {
+            forfeit(false, e.getMessage());
+        } catch (Exception e) {
+            LOG.error("Error in player agent turn: " + e.getMessage(), e);
+            forfeit(false, e.getMessage());
+        }
+    }
+
+    /**
+     * End the game against the side that failed to move
+     */
+    private void forfeit(boolean computerSide, String reason) {
+        GameEventBus events = gameState.getEvents();
+        events.beginBatch();
+        try {
+            gameState.setGameOver(true);
+            gameState.setWinner(computerSide ? "Player" : "Computer");
+        } finally {
+            events.endBatch();
+        }
+        LOG.info("GAME OVER: " + (computerSide ? "Computer" : "Player") + " forfeits: " + reason);
+        autoSave();
+    }
+
+    /**
+     * Pick and fire the computer's shot, then update whose turn it is
+     */
+    private Board.ShotResult resolveComputerShot() throws MoveTimeoutException, InvalidShotException {
+        ShotEvent shotEvent = new ShotEvent();
+        shotEvent.begin();
+        long start = System.nanoTime();
+
+        AIDecisionEvent decisionEvent = new AIDecisionEvent();
+        decisionEvent.begin();
+        PlayerAgent agent = computerAgent;
+        Position shotPosition;
+        if (agent == null) {
+            shotPosition = gameState.getComputer().generateShot();
+        } else {
+            shotPosition = agent.chooseShot(gameState, true, start + moveTimeoutNanos);
+            Board target = gameState.getPlayerBoard();
+            if (!target.isValidPosition(shotPosition) || target.isShot(shotPosition.getRow(), shotPosition.getCol())) {
+                throw new InvalidShotException("Computer agent fired at an invalid position " + shotPosition);
+            }
+        }
+        decisionEvent.end();
+        AI_LATENCY.record(System.nanoTime() - start);
+        if (decisionEvent.shouldCommit()) {
+            decisionEvent.strategy = agent != null ? agent.getClass().getSimpleName()
+                    : strategyName(gameState.getComputer().getAiStrategy());
+            decisionEvent.difficulty = gameState.getDifficulty().name();
+            decisionEvent.row = shotPosition.getRow();
+            decisionEvent.col = shotPosition.getCol();
+            decisionEvent.commit();
+        }
+
+        FireCommand command = new FireCommand(gameState, true, shotPosition);
+        command.execute();
+        history.record(command.encode());
+        Board.ShotResult result = command.getResult();
+        LOG.debug(() -> "Computer fired at " + shotPosition + ": " + result);
+        recordShot(result);
+        COMPUTER_SHOTS.increment();
+
+        //Update game state
+        if (result == Board.ShotResult.HIT || result == Board.ShotResult.SUNK) {
+            if (result == Board.ShotResult.SUNK) {
+                LOG.debug(() -> "Computer sunk a ship! Total sunk: " + gameState.getComputer().getShipsSunk());
+                checkGameOver();
+            }
+        } else {
+            gameState.setPlayerTurn(true);
+        }
+
+        //Save game after computer's move
+        autoSave();
+
+        SHOT_LATENCY.record(System.nanoTime() - start);
+        commitShotEvent(shotEvent, "Computer", shotPosition, result);
+        return result;
+    }
+
+    /**
+     * Undo is available on the player's turn; once the game has started,
+     * ship placements can no longer be taken back
+     */
+    public boolean canUndo() {
+        if (matchLink != null || !gameState.isPlayerTurn() || !history.canUndo()) {
+            return false;
+        }
+        return !(gameState.isGameStarted() && GameCommand.isPlacement(history.peekUndo()));
+    }
+
+    public boolean canRedo() {
+        return matchLink == null && gameState.isPlayerTurn() && history.canRedo()
+                && !GameCommand.isComputerMove(history.peekRedo());
+    }
+
+    /**
+     * Take back the player's last move together with the computer replies after it
+     */
+    public boolean undo() {
+        if (!canUndo()) {
+            return false;
+        }
+        GameEventBus events = gameState.getEvents();
+        events.beginBatch();
+        try {
+            while (history.canUndo()) {
+                long entry = history.peekUndo();
+                if (gameState.isGameStarted() && GameCommand.isPlacement(entry)) {
+                    break;
+                }
+                history.undo();
+                GameCommand.decode(gameState, entry).undo();
+                if (!GameCommand.isComputerMove(entry)) {
+                    break;
+                }
+            }
+            shipPlacementController.syncCurrentShip();
+        } finally {
+            events.endBatch();
+        }
+        LOG.debug(() -> "Undo: " + history.size() + " moves in history");
+        autoSave();
+        return true;
+    }
+
+    /**
+     * Replay the next player move and the computer replies that followed it
+     */
+    public boolean redo() {
+        if (!canRedo()) {
+            return false;
+        }
+        GameEventBus events = gameState.getEvents();
+        events.beginBatch();
+        try {
+            GameCommand.decode(gameState, history.redo()).execute();
+            while (history.canRedo() && GameCommand.isComputerMove(history.peekRedo())) {
+                GameCommand.decode(gameState, history.redo()).execute();
+            }
+            shipPlacementController.syncCurrentShip();
+            if (gameState.isGameStarted()) {
+                checkGameOver();
+                gameState.setPlayerTurn(true);
+            }
+        } finally {
+            events.endBatch();
+        }
+        LOG.debug("Redo applied");
+        autoSave();
+        return true;
+    }
+
     /**
      * Save game state
      */
     public void saveGame() {
-        System.out.println("Saving game...");
-        gameSaver.saveGame(gameState);
+        gameSaver.saveGame(gameState.snapshot());
+    }
+
+    /**
+     * Save after a move unless auto-save is off
+     */
+    private void autoSave() {
+        if (autoSaveEnabled) {
+            saveGame();
+        }
     }
 
     /**
      * Load game state
      */
     public void loadGame() {
-        System.out.println("Loading game...");
+        if (matchLink != null) {
+            LOG.warn("Saved games cannot be loaded into a server match");
+            return;
+        }
         GameState loadedState = gameLoader.loadGame();
         if (loadedState != null) {
             this.gameState = loadedState;
-            this.shipPlacementController = new ShipPlacementController(gameState);
-            System.out.println("Game loaded successfully");
-            System.out.println("Game started: " + gameState.isGameStarted());
-            System.out.println("Player turn: " + gameState.isPlayerTurn());
-            System.out.println("Game over: " + gameState.isGameOver());
-        } else {
-            System.out.println("No saved game found, starting fresh");
+            equipComputer();
+            playerAgent = null;
+            computerAgent = null;
+            history.clear();
+            this.shipPlacementController = new ShipPlacementController(gameState, history);
+            LOG.debug(() -> "Loaded game: started=" + gameState.isGameStarted()
+                    + ", playerTurn=" + gameState.isPlayerTurn() + ", over=" + gameState.isGameOver());
+        }
+    }
+
+    /**
+     * Change the computer's strength; applies from its next shot and to later games
+     */
+    public void setDifficulty(Difficulty difficulty) {
+        gameState.setDifficulty(difficulty);
+        LOG.info("Difficulty set to " + difficulty.getLabel());
+    }
+
+    /**
+     * Give the current game's computer the heatmap and opening book, and let
+     * it take its fleet from the layouts kept ready for this board config, so
+     * startGame() and its retry place it without searching
+     */
+    private void equipComputer() {
+        ComputerPlayer computer = gameState.getComputer();
+        computer.setShotHeatmap(heatmap);
+        if (LayoutGenerator.supports(gameState.getConfig())) {
+            computer.setLayoutPool(LayoutPool.shared(gameState.getConfig()));
+        }
+        if (openingBook != null) {
+            computer.getAiStrategy().setOpeningBook(openingBook);
         }
     }
 
+    /**
+     * Opening book for the HARD and EXPERT computer (see OpeningBook.loadOrBuild);
+     * applies from the next shot and to later games
+     */
+    public void setOpeningBook(OpeningBook book) {
+        this.openingBook = book;
+        gameState.getComputer().getAiStrategy().setOpeningBook(book);
+    }
+
+    /**
+     * Record the player's hunting shots into heatmap and let the computer
+     * place its ships away from them; null stops both
+     */
+    public void setShotHeatmap(ShotHeatmap heatmap) {
+        this.heatmap = heatmap != null && heatmap.matches(gameState.getConfig()) ? heatmap : null;
+        gameState.getComputer().setShotHeatmap(this.heatmap);
+    }
+
+    /**
+     * Let agent play the player's side (null gives it back to the UI); set before startGame()
+     */
+    public void setPlayerAgent(PlayerAgent agent) {
+        this.playerAgent = agent;
+    }
+
+    /**
+     * Let agent play the computer's side instead of the built-in AI (null restores the AI)
+     */
+    public void setComputerAgent(PlayerAgent agent) {
+        this.computerAgent = agent;
+    }
+
+    /**
+     * Play matches hosted by a server instead of against the local computer
+     * (null returns to local play). startGame() then joins a match, the server
+     * decides every shot and this controller's state mirrors it, with the
+     * computer's side standing for the remote opponent.
+     */
+    public void setMatchLink(MatchLink link) {
+        setMatchLink(link, Runnable::run);
+    }
+
+    /**
+     * @param applyOn where server reports change the game, e.g. Platform::runLater
+     *                so they land on the FX thread with the clicks that fire
+     */
+    public void setMatchLink(MatchLink link, Executor applyOn) {
+        this.matchLink = link;
+        this.remoteEvents = applyOn;
+    }
+
+    public boolean isRemote() {
+        return matchLink != null;
+    }
+
+    /**
+     * How long an agent may take per shot before its side forfeits
+     */
+    public void setMoveTimeoutMillis(long millis) {
+        this.moveTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Pause before each computer shot, so the UI can show the turn change; 0 for headless games
+     */
+    public void setThinkingDelayMillis(long millis) {
+        this.thinkingDelayMillis = millis;
+    }
+
+    /**
+     * Whether moves, undo/redo and shutdown save the game (off for games the user does not own)
+     */
+    public void setAutoSave(boolean autoSave) {
+        this.autoSaveEnabled = autoSave;
+    }
+
     /**
      * Check if game is over
      */
     private void checkGameOver() {
-        boolean playerAllSunk = gameState.getPlayerBoard().allShipsSunk();
-        boolean computerAllSunk = gameState.getComputerBoard().allShipsSunk();
+        boolean playerAllSunk = gameState.getPlayer().hasLost();
+        boolean computerAllSunk = gameState.getComputer().hasLost();
 
         if (playerAllSunk || computerAllSunk) {
             gameState.setGameOver(true);
             if (playerAllSunk) {
                 gameState.setWinner("Computer");
-                System.out.println("GAME OVER: Computer wins!");
+                LOG.info("GAME OVER: Computer wins!");
             } else {
                 gameState.setWinner("Player");
-                System.out.println("GAME OVER: Player wins!");
+                LOG.info("GAME OVER: Player wins!");
             }
         }
     }
@@ -169,50 +729,83 @@ public class GameController {
      * Start the game
      */
     public void startGame() {
-        System.out.println("\n=== GAME CONTROLLER: STARTING GAME ===");
-
         // First, make sure all player ships are placed
         if (!shipPlacementController.allShipsPlaced()) {
-            System.out.println("ERROR: Not all player ships are placed!");
-            System.out.println("Placed: " + shipPlacementController.getCurrentShipIndex() +
-                    "/" + shipPlacementController.getTotalShips());
+            LOG.warn("Cannot start: only " + shipPlacementController.getCurrentShipIndex() +
+                    "/" + shipPlacementController.getTotalShips() + " player ships placed");
             return;
         }
 
-        System.out.println("All player ships are placed. Placing computer ships...");
+        if (matchLink != null) {
+            joinRemoteMatch();
+            return;
+        }
 
         // Place computer's ships randomly
         gameState.getComputer().placeShipsRandomly(gameState.getComputerBoard());
 
         // Verify computer ships were placed
-        int computerShipCount = gameState.getComputerBoard().getShips().size();
-        System.out.println("Computer board now has " + computerShipCount + " ships");
+        int computerShipCount = gameState.getComputerBoard().shipCount();
 
-        if (computerShipCount == 10) {
-            gameState.setGameStarted(true);
-            gameState.setPlayerTurn(true);
-            gameState.setGameOver(false);
-            gameState.setWinner(null);
+        int expectedShips = gameState.getConfig().getTotalShips();
+        if (computerShipCount == expectedShips) {
+            GameEventBus events = gameState.getEvents();
+            events.beginBatch();
+            try {
+                gameState.setGameStarted(true);
+                gameState.setPlayerTurn(true);
+                gameState.setGameOver(false);
+                gameState.setWinner(null);
+            } finally {
+                events.endBatch();
+            }
+
+            if (heatmap != null) {
+                heatmap.recordGame();
+            }
 
             // Save initial game state
-            saveGame();
+            autoSave();
 
-            System.out.println("=== GAME STARTED SUCCESSFULLY ===");
+            LOG.info("Game started");
+            if (playerAgent != null) {
+                executorService.submit(this::agentPlayerTurn);
+            }
         } else {
-            System.out.println("ERROR: Failed to place all computer ships!");
-            System.out.println("Expected: 10, Got: " + computerShipCount);
+            LOG.warn("Failed to place all computer ships: expected " + expectedShips + ", got " + computerShipCount);
             // Try to fix by resetting and trying again
             gameState.getComputerBoard().clear();
             gameState.getComputer().placeShipsRandomly(gameState.getComputerBoard());
         }
     }
 
+    /**
+     * Send the placed fleet to the server; the game starts when it finds an opponent
+     */
+    private void joinRemoteMatch() {
+        try {
+            remoteMatch = new RemoteMatchListener(gameState, remoteEvents);
+            matchLink.join(gameState.getPlayer().getShips(), gameState.getDifficulty(), remoteMatch);
+            LOG.info("Waiting for the server to start the match");
+        } catch (IOException e) {
+            remoteMatch = null;
+            LOG.error("Could not join a match: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Reset the game
      */
     public void resetGame() {
-        System.out.println("\n=== GAME CONTROLLER: RESETTING GAME ===");
-
+        // Leave a match in play or still waiting for an opponent; its END goes to the old game
+        if (matchLink != null && remoteMatch != null && !remoteMatch.isEnded()) {
+            try {
+                matchLink.leave();
+            } catch (IOException e) {
+                LOG.warn("Could not leave the match: " + e.getMessage());
+            }
+        }
+        remoteMatch = null;
         // Shutdown old executor
         if (executorService != null && !executorService.isShutdown()) {
             executorService.shutdown();
@@ -226,13 +819,19 @@ public class GameController {
             }
         }
 
-        //Create new game state
-        this.gameState = new GameState();
-        this.shipPlacementController = new ShipPlacementController(gameState);
-        this.executorService = Executors.newFixedThreadPool(2);
-
-        System.out.println("Game reset complete.");
-        System.out.println("=== GAME RESET COMPLETE ===\n");
+        //Create new game state with the same board size, fleet and difficulty
+        Difficulty difficulty = gameState.getDifficulty();
+        this.gameState = new GameState(gameState.getConfig());
+        gameState.setDifficulty(difficulty);
+        equipComputer();
+        history.clear();
+        this.shipPlacementController = new ShipPlacementController(gameState, history);
+        this.executorService = executorFactory.get();
+        // Agents were playing the old game
+        playerAgent = null;
+        computerAgent = null;
+
+        LOG.info("Game reset complete");
     }
 
     /**
@@ -264,6 +863,8 @@ public class GameController {
                 Thread.currentThread().interrupt();
             }
         }
-        saveGame();
+        autoSave();
+        gameSaver.shutdown();
+        METRICS.removeGauge(GameMetrics.CONTROLLER_QUEUE_DEPTH, queueDepthGauge);
     }
-}
\ No newline at end of file
+}
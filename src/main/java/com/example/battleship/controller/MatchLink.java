@@ -0,0 +1,49 @@
+package com.example.battleship.controller;
+
+//Connection to a match hosted on a server
+
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A match whose state lives on a server (see net.MatchClient). The controller
+ * sends its fleet and shots through it and applies whatever the server
+ * reports; the listener is called on the link's own thread.
+ */
+public interface MatchLink {
+
+    interface Listener {
+        void matchStarted(boolean yourTurn);
+
+        /**
+         * @param sunkShip the ship a SUNK shot finished, placed where it lay; null otherwise
+         */
+        void shotResolved(boolean byYou, Position position, Board.ShotResult result, Ship sunkShip,
+                          boolean yourTurn);
+
+        /**
+         * The server refused the last request, e.g. a shot out of turn
+         */
+        void rejected(String reason);
+
+        void matchEnded(boolean youWon, String reason);
+    }
+
+    /**
+     * Ask for a match with this placed fleet (an empty list lets the server place it)
+     */
+    void join(List<Ship> fleet, Difficulty difficulty, Listener listener) throws IOException;
+
+    void fire(Position position) throws IOException;
+
+    /**
+     * Give up the current match; the opponent wins
+     */
+    void leave() throws IOException;
+
+    void close();
+}
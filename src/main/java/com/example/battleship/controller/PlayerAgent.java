@@ -0,0 +1,24 @@
+package com.example.battleship.controller;
+
+//Plays one side of a game instead of the UI or the built-in AI
+
+import com.example.battleship.exceptions.InvalidShotException;
+import com.example.battleship.exceptions.MoveTimeoutException;
+import com.example.battleship.model.GameState;
+import com.example.battleship.model.Position;
+
+/**
+ * Chooses the shots for one side of a GameController game, e.g. a remote bot.
+ * The controller asks on its executor whenever that side is to fire and
+ * forfeits the side when the answer is late or not a legal shot. Agents that
+ * need the results subscribe to the game's event bus themselves.
+ */
+public interface PlayerAgent {
+
+    /**
+     * @param computerSide true if this agent plays the computer's side
+     * @param deadlineNanos System.nanoTime() by which the shot must be chosen
+     */
+    Position chooseShot(GameState gameState, boolean computerSide, long deadlineNanos)
+            throws MoveTimeoutException, InvalidShotException;
+}
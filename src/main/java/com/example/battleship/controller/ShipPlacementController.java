@@ -2,7 +2,11 @@ package com.example.battleship.controller;
 
 import com.example.battleship.model.*;
 import com.example.battleship.exceptions.InvalidPlacementException;
+import com.example.battleship.patterns.CommandHistory;
+import com.example.battleship.patterns.PlaceShipCommand;
+import com.example.battleship.util.Constants;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Handles ship placement logic for the human player.
@@ -11,21 +15,26 @@ import java.util.List;
 public class ShipPlacementController {
 
     private GameState gameState;
+    private CommandHistory history;
     private List<Ship> shipsToPlace;
     private int currentShipIndex;
     private boolean isHorizontal;
 
     public ShipPlacementController(GameState gameState) {
+        this(gameState, new CommandHistory(Constants.HISTORY_CAPACITY));
+    }
+
+    /**
+     * @param history where placements are recorded for undo/redo
+     */
+    public ShipPlacementController(GameState gameState, CommandHistory history) {
         this.gameState = gameState;
+        this.history = history;
         this.shipsToPlace = gameState.getPlayer().getShips();
-        this.currentShipIndex = 0;
         this.isHorizontal = true;
 
-        //Reset placement status
-        for (Ship ship : shipsToPlace) {
-            ship.setPlaced(false);
-            ship.setPositions(null);
-        }
+        // A loaded game's ships keep their placement and damage
+        syncCurrentShip();
     }
 
     /**
@@ -44,15 +53,27 @@ public class ShipPlacementController {
         }
 
         // Try to place ship
-        boolean placed = gameState.getPlayerBoard().placeShip(currentShip, position, isHorizontal);
+        PlaceShipCommand command = new PlaceShipCommand(gameState, currentShipIndex, position, isHorizontal);
+        command.execute();
 
-        if (placed) {
+        if (command.isPlaced()) {
+            history.record(command.encode());
             currentShipIndex++;
             return true;
         }
         return false;
     }
 
+    /**
+     * Point at the first unplaced ship again (after undo/redo)
+     */
+    public void syncCurrentShip() {
+        currentShipIndex = 0;
+        while (currentShipIndex < shipsToPlace.size() && shipsToPlace.get(currentShipIndex).isPlaced()) {
+            currentShipIndex++;
+        }
+    }
+
     public Ship getCurrentShip() {
         if (currentShipIndex < shipsToPlace.size()) {
             return shipsToPlace.get(currentShipIndex);
@@ -69,6 +90,20 @@ public class ShipPlacementController {
         return true;
     }
 
+    /**
+     * Place every ship still unplaced at random positions and orientations
+     * @return true if the whole fleet is placed
+     */
+    public boolean placeRemainingRandomly(Random random) {
+        GameConfig config = gameState.getConfig();
+        int attempts = config.getCellCount() * shipsToPlace.size() * 2;
+        while (getCurrentShip() != null && attempts-- > 0) {
+            isHorizontal = random.nextBoolean();
+            placeCurrentShip(new Position(random.nextInt(config.getHeight()), random.nextInt(config.getWidth())));
+        }
+        return allShipsPlaced();
+    }
+
     public void toggleOrientation() {
         isHorizontal = !isHorizontal;
     }
@@ -90,8 +125,7 @@ public class ShipPlacementController {
         currentShipIndex = 0;
         isHorizontal = true;
         for (Ship ship : shipsToPlace) {
-            ship.setPlaced(false);
-            ship.setPositions(null);
+            ship.reset();
         }
     }
 }
\ No newline at end of file
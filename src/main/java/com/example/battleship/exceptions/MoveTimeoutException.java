@@ -0,0 +1,17 @@
+package com.example.battleship.exceptions;
+
+//Move deadline exception
+/**
+ * Checked exception for a player agent that gave no move before its deadline,
+ * including one whose connection dropped while the move was awaited.
+ */
+public class MoveTimeoutException extends GameExceptions {
+
+    public MoveTimeoutException(String message) {
+        super(message);
+    }
+
+    public MoveTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
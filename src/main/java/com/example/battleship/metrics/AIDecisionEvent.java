@@ -0,0 +1,31 @@
+package com.example.battleship.metrics;
+
+//JFR event for an AI shot decision
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the computer choosing its next shot.
+ */
+@Name("battleship.AIDecision")
+@Label("AI Decision")
+@Category("Battleship")
+@Description("Time spent by the AI strategy choosing a shot")
+public class AIDecisionEvent extends Event {
+
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Difficulty")
+    public String difficulty;
+
+    @Label("Row")
+    public int row;
+
+    @Label("Column")
+    public int col;
+}
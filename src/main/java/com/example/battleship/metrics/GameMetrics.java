@@ -0,0 +1,168 @@
+package com.example.battleship.metrics;
+
+//Process-wide metrics registry
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of counters, gauges and latency histograms for a game session.
+ * Counters are LongAdders so hot paths on several threads do not contend;
+ * gauges are sampled only when the registry is exported.
+ */
+public final class GameMetrics {
+
+    // Metric names
+    public static final String SHOTS_PLAYER = "shots.player";
+    public static final String SHOTS_COMPUTER = "shots.computer";
+    public static final String SHOTS_HIT = "shots.hit";
+    public static final String SHOTS_MISS = "shots.miss";
+    public static final String SHOTS_SUNK = "shots.sunk";
+    public static final String SAVES = "saves";
+    public static final String SAVE_FAILURES = "saves.failed";
+    public static final String PLACEMENTS = "placements";
+    public static final String SHOT_LATENCY = "shot.latency";
+    public static final String AI_DECISION_LATENCY = "ai.decision.latency";
+    public static final String SAVE_LATENCY = "save.latency";
+    public static final String PLACEMENT_LATENCY = "placement.latency";
+    public static final String SAVE_QUEUE_DEPTH = "save.queue.depth";
+    public static final String CONTROLLER_QUEUE_DEPTH = "controller.queue.depth";
+    public static final String UI_ANIMATIONS_RUNNING = "ui.animations.running";
+    public static final String UI_CELLS_PULSING = "ui.cells.pulsing";
+
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    private final Map<String, LongAdder> counters;
+    private final Map<String, LatencyHistogram> histograms;
+    // Every source registered under a gauge name; exported as their sum
+    private final Map<String, List<LongSupplier>> gauges;
+
+    private GameMetrics() {
+        this.counters = new ConcurrentHashMap<>();
+        this.histograms = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+    }
+
+    public static GameMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get or create a counter; callers should cache the returned adder on hot paths
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Get or create a latency histogram
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Add a source to a gauge sampled at export time. Sources under one name
+     * are summed, e.g. the queue depths of every live controller; owners
+     * remove theirs with removeGauge when they shut down.
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.compute(name, (key, sources) -> {
+            List<LongSupplier> list = sources != null ? sources : new CopyOnWriteArrayList<>();
+            list.add(supplier);
+            return list;
+        });
+    }
+
+    /**
+     * Remove a source added with gauge; the name goes once it has none
+     */
+    public void removeGauge(String name, LongSupplier supplier) {
+        gauges.computeIfPresent(name, (key, sources) -> {
+            sources.remove(supplier);
+            return sources.isEmpty() ? null : sources;
+        });
+    }
+
+    /**
+     * Reset counters and histograms; gauges are left registered
+     */
+    public void reset() {
+        counters.values().forEach(LongAdder::reset);
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Export every metric as a JSON document. Latencies are in microseconds.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(512);
+        json.append("{\n  \"counters\": {");
+        appendEntries(json, new TreeMap<>(counters), LongAdder::sum);
+        json.append("},\n  \"gauges\": {");
+        appendEntries(json, new TreeMap<>(gauges), sources -> {
+            long sum = 0;
+            for (LongSupplier source : sources) {
+                sum += source.getAsLong();
+            }
+            return sum;
+        });
+        json.append("},\n  \"histograms\": {");
+
+        boolean first = true;
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            json.append(first ? "\n" : ",\n");
+            first = false;
+            json.append("    \"").append(entry.getKey()).append("\": {")
+                    .append("\"count\": ").append(h.getCount())
+                    .append(", \"meanMicros\": ").append(micros(Math.round(h.getMean())))
+                    .append(", \"p50Micros\": ").append(micros(h.getPercentile(50)))
+                    .append(", \"p90Micros\": ").append(micros(h.getPercentile(90)))
+                    .append(", \"p99Micros\": ").append(micros(h.getPercentile(99)))
+                    .append(", \"p999Micros\": ").append(micros(h.getPercentile(99.9)))
+                    .append(", \"maxMicros\": ").append(micros(h.getMax()))
+                    .append('}');
+        }
+        json.append(first ? "}" : "\n  }").append("\n}\n");
+        return json.toString();
+    }
+
+    /**
+     * Write the JSON export to a file
+     */
+    public void writeJson(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, toJson(), StandardCharsets.UTF_8);
+    }
+
+    private static <T> void appendEntries(StringBuilder json, Map<String, T> entries,
+                                          java.util.function.ToLongFunction<T> value) {
+        boolean first = true;
+        for (Map.Entry<String, T> entry : entries.entrySet()) {
+            json.append(first ? "\n" : ",\n");
+            first = false;
+            json.append("    \"").append(entry.getKey()).append("\": ")
+                    .append(value.applyAsLong(entry.getValue()));
+        }
+        if (!first) {
+            json.append("\n  ");
+        }
+    }
+
+    private static String micros(long nanos) {
+        return String.format(java.util.Locale.ROOT, "%.3f", nanos / 1000.0);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.battleship.metrics;
+
+//JFR event for fleet placement
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the computer placing its whole fleet.
+ */
+@Name("battleship.Placement")
+@Label("Fleet Placement")
+@Category("Battleship")
+@Description("Random placement of the computer fleet")
+public class PlacementEvent extends Event {
+
+    @Label("Ships")
+    public int ships;
+
+    @Label("Placed")
+    public int placed;
+}
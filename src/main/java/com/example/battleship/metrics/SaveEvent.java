@@ -0,0 +1,26 @@
+package com.example.battleship.metrics;
+
+//JFR event for a game save
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering one asynchronous game save.
+ */
+@Name("battleship.Save")
+@Label("Game Save")
+@Category("Battleship")
+@Description("Serialization of the game state and player data")
+public class SaveEvent extends Event {
+
+    @Label("Queue Depth")
+    @Description("Saves still waiting in the saver queue when this one started")
+    public int queueDepth;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,31 @@
+package com.example.battleship.metrics;
+
+//JFR event for a single shot
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering one shot, from validation to game-state update.
+ */
+@Name("battleship.Shot")
+@Label("Shot")
+@Category("Battleship")
+@Description("A shot fired by the player or the computer")
+public class ShotEvent extends Event {
+
+    @Label("Shooter")
+    public String shooter;
+
+    @Label("Row")
+    public int row;
+
+    @Label("Column")
+    public int col;
+
+    @Label("Result")
+    public String result;
+}
@@ -0,0 +1,119 @@
+package com.example.battleship.model;
+
+//Persistent bitset over board cells
+
+import java.io.Serializable;
+
+/**
+ * Immutable bitset with one bit per board cell, split into 4096-bit chunks.
+ * with(index) and without(index) copy only the chunk table and the touched
+ * chunk; every other chunk is shared with the previous version, and all-zero
+ * chunks are never allocated. Instances can be handed to any thread without copying.
+ */
+public final class Bitboard implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int WORDS_PER_CHUNK = 64;
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final int size;
+    private final int count;
+    private final long[][] chunks;
+
+    private Bitboard(int size, int count, long[][] chunks) {
+        this.size = size;
+        this.count = count;
+        this.chunks = chunks;
+    }
+
+    /**
+     * All-clear bitboard for the given number of cells
+     */
+    public static Bitboard empty(int size) {
+        return new Bitboard(size, 0, new long[(size + CHUNK_MASK) >>> CHUNK_SHIFT][]);
+    }
+
+    public boolean get(int index) {
+        checkIndex(index);
+        long[] chunk = chunks[index >>> CHUNK_SHIFT];
+        return chunk != null && (chunk[(index & CHUNK_MASK) >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Version with one more bit set, or this if the bit was already set
+     */
+    public Bitboard with(int index) {
+        if (get(index)) {
+            return this;
+        }
+        int c = index >>> CHUNK_SHIFT;
+        long[] chunk = chunks[c] == null ? new long[WORDS_PER_CHUNK] : chunks[c].clone();
+        chunk[(index & CHUNK_MASK) >>> 6] |= 1L << index;
+        long[][] table = chunks.clone();
+        table[c] = chunk;
+        return new Bitboard(size, count + 1, table);
+    }
+
+    /**
+     * Version with one bit cleared, or this if the bit was already clear
+     */
+    public Bitboard without(int index) {
+        if (!get(index)) {
+            return this;
+        }
+        int c = index >>> CHUNK_SHIFT;
+        long[] chunk = chunks[c].clone();
+        chunk[(index & CHUNK_MASK) >>> 6] &= ~(1L << index);
+        long[][] table = chunks.clone();
+        table[c] = chunk;
+        return new Bitboard(size, count - 1, table);
+    }
+
+    /**
+     * First set bit at or after fromIndex, or -1
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        for (int c = fromIndex >>> CHUNK_SHIFT; c < chunks.length; c++) {
+            long[] chunk = chunks[c];
+            if (chunk == null) {
+                fromIndex = (c + 1) << CHUNK_SHIFT;
+                continue;
+            }
+            int base = c << CHUNK_SHIFT;
+            int word = (fromIndex - base) >>> 6;
+            long bits = word < WORDS_PER_CHUNK ? chunk[word] & (-1L << fromIndex) : 0;
+            while (true) {
+                if (bits != 0) {
+                    int index = base + (word << 6) + Long.numberOfTrailingZeros(bits);
+                    return index < size ? index : -1;
+                }
+                if (++word == WORDS_PER_CHUNK) {
+                    break;
+                }
+                bits = chunk[word];
+            }
+            fromIndex = base + (1 << CHUNK_SHIFT);
+        }
+        return -1;
+    }
+
+    /**
+     * True if both versions hold the same chunk object for this cell
+     */
+    public boolean sharesChunk(Bitboard other, int index) {
+        return chunks[index >>> CHUNK_SHIFT] == other.chunks[index >>> CHUNK_SHIFT];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Cell " + index + " outside 0.." + (size - 1));
+        }
+    }
+
+    public int size() { return size; }
+    public int cardinality() { return count; }
+}
@@ -2,27 +2,84 @@ package com.example.battleship.model;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import com.example.battleship.exceptions.InvalidPlacementException;
+import com.example.battleship.util.Constants;
+import com.example.battleship.util.Zobrist;
 
 /**
- * Represents a 10x10 game board for Battleship.
+ * Represents a game board for Battleship (10x10 by default, see GameConfig).
  * Uses multiple data structures: 2D array, List, Map (fulfills requirement of 4+ data structures)
  * HU-1: Handles ship placement validation
  * HU-2: Tracks shot results
+ * Cell storage goes through cellAt/materialize/resetCells so SparseBoard can
+ * replace the dense grid on very large boards.
+ * Every mutation also updates a 64-bit Zobrist key of ship occupancy (by type),
+ * shots and sunk cells, so two boards in the same state have the same key
+ * whatever order they got there in.
  */
 public class Board implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    private final int width = 10;
-    private final int height = 10;
+    private static final long ZOBRIST_SALT = 0x426F617264537461L;
+    private static final int SHOT = 0;
+    private static final int SUNK = 1;
+    // SHIP + type.ordinal(): ship of that type on the cell
+    private static final int SHIP = 2;
+
+    private final int width;
+    private final int height;
     private Cell[][] grid;
     private List<Ship> ships;
+    // Read-only view handed out by getShips(); created once, never copied
+    private List<Ship> shipsView;
+    // Unhit ship cells; game over is remainingShipCells == 0
+    private int remainingShipCells;
+    // Persistent copy of this board, replaced after every mutation
+    private volatile BoardSnapshot snapshot;
+    // Not serialized: false after loading a save, and the key is then rebuilt
+    // on first use (subclass cell storage is not restored yet in readObject)
+    private transient boolean zobristValid;
+    private transient long zobristKey;
 
     public Board() {
-        this.grid = new Cell[height][width];
+        this(GameConfig.defaultConfig());
+    }
+
+    public Board(GameConfig config) {
+        this(config.getWidth(), config.getHeight());
+    }
+
+    public Board(int width, int height) {
+        this(width, height, true);
+    }
+
+    /**
+     * @param denseGrid false lets subclasses supply their own cell storage
+     */
+    protected Board(int width, int height, boolean denseGrid) {
+        this.width = width;
+        this.height = height;
         this.ships = new ArrayList<>();
-        initializeGrid();
+        this.snapshot = BoardSnapshot.empty(width, height);
+        this.zobristValid = true;
+        if (denseGrid) {
+            this.grid = new Cell[height][width];
+            initializeGrid();
+        }
+    }
+
+    /**
+     * Dense board for small games, SparseBoard once the area passes
+     * Constants.SPARSE_BOARD_THRESHOLD
+     */
+    public static Board create(GameConfig config) {
+        if (config.getCellCount() > Constants.SPARSE_BOARD_THRESHOLD) {
+            return new SparseBoard(config);
+        }
+        return new Board(config);
     }
 
     private void initializeGrid() {
@@ -43,9 +100,7 @@ public class Board implements Serializable {
             return false;
         }
 
-        List<Position> positions = new ArrayList<>();
-
-        //Calculate all positions
+        //Check every covered cell
         for (int i = 0; i < ship.getSize(); i++) {
             int row = isHorizontal ? position.getRow() : position.getRow() + i;
             int col = isHorizontal ? position.getCol() + i : position.getCol();
@@ -56,22 +111,22 @@ public class Board implements Serializable {
             }
 
             //Check if cell already has a ship
-            if (grid[row][col].hasShip()) {
+            if (hasShip(row, col)) {
                 return false;
             }
-
-            positions.add(new Position(row, col));
         }
 
         //Place the ship
-        for (Position pos : positions) {
-            grid[pos.getRow()][pos.getCol()].setHasShip(true);
-            grid[pos.getRow()][pos.getCol()].setShip(ship);
+        ship.place(position.getRow(), position.getCol(), isHorizontal);
+        for (int i = 0; i < ship.getSize(); i++) {
+            Cell cell = materialize(ship.getSegmentRow(i), ship.getSegmentCol(i));
+            cell.setHasShip(true);
+            cell.setShip(ship);
+            toggle(ship.getSegmentRow(i), ship.getSegmentCol(i), SHIP + ship.getType().ordinal());
         }
-
-        ship.setPositions(positions);
-        ship.setPlaced(true);
         ships.add(ship);
+        remainingShipCells += ship.getSize();
+        snapshot = snapshot.withShip(ship);
         return true;
     }
 
@@ -87,32 +142,180 @@ public class Board implements Serializable {
         }
 
         cell.setShot(true);
+        toggle(position.getRow(), position.getCol(), SHOT);
 
         if (cell.hasShip()) {
             Ship ship = cell.getShip();
-            ship.hit();
+            ship.hit(ship.segmentAt(position.getRow(), position.getCol()));
+            remainingShipCells--;
+            snapshot = snapshot.withShot(position.getRow(), position.getCol(), ships.indexOf(ship), ship);
 
+            // Cells read sunk state from their ship, so only the key needs marking
             if (ship.isSunk()) {
-                // Mark all cells of the ship as sunk
-                for (Position pos : ship.getPositions()) {
-                    getCell(pos).setSunk(true);
-                }
+                toggleSunk(ship);
                 return ShotResult.SUNK;
             }
             return ShotResult.HIT;
         }
 
+        snapshot = snapshot.withShot(position.getRow(), position.getCol(), -1, null);
         return ShotResult.MISS;
     }
 
+    /**
+     * Record a shot whose result the board's owner reported, on a board whose
+     * ships are hidden (a network opponent's). A hit marks a ship cell without
+     * a Ship until revealShip; remaining ship cells are not tracked.
+     */
+    public void markShot(Position position, boolean hit) {
+        Cell cell = getCell(position);
+        if (cell.isShot()) {
+            return;
+        }
+        cell.setShot(true);
+        cell.setHasShip(hit);
+        toggle(position.getRow(), position.getCol(), SHOT);
+        snapshot = snapshot.withShot(position.getRow(), position.getCol(), -1, null);
+    }
+
+    /**
+     * Put a sunk ship the owner revealed onto a hidden board, over its already-marked hits
+     */
+    public void revealShip(Ship ship, Position position, boolean isHorizontal) {
+        ship.place(position.getRow(), position.getCol(), isHorizontal);
+        for (int i = 0; i < ship.getSize(); i++) {
+            Cell cell = getCell(ship.getSegmentRow(i), ship.getSegmentCol(i));
+            cell.setHasShip(true);
+            cell.setShip(ship);
+            if (!cell.isShot()) {
+                cell.setShot(true);
+                toggle(ship.getSegmentRow(i), ship.getSegmentCol(i), SHOT);
+            }
+            ship.hit(i);
+            toggle(ship.getSegmentRow(i), ship.getSegmentCol(i), SHIP + ship.getType().ordinal());
+        }
+        toggleSunk(ship);
+        ships.add(ship);
+        snapshot = snapshot.withShip(ship);
+    }
+
+    /**
+     * Take back a shot made by receiveShot (undo).
+     * @param priorHitMask hit mask of the ship at that cell before the shot
+     */
+    public void undoShot(Position position, long priorHitMask) {
+        Cell cell = getCell(position);
+        if (!cell.isShot()) {
+            return;
+        }
+        cell.setShot(false);
+        toggle(position.getRow(), position.getCol(), SHOT);
+
+        if (cell.hasShip()) {
+            Ship ship = cell.getShip();
+            if (ship.isSunk()) {
+                toggleSunk(ship);
+            }
+            ship.restoreHitMask(priorHitMask);
+            remainingShipCells++;
+            snapshot = snapshot.withoutShot(position.getRow(), position.getCol(), ships.indexOf(ship), ship);
+        } else {
+            snapshot = snapshot.withoutShot(position.getRow(), position.getCol(), -1, null);
+        }
+    }
+
+    /**
+     * Lift an undamaged ship off the board (undo of placeShip)
+     */
+    public boolean removeShip(Ship ship) {
+        int index = ships.indexOf(ship);
+        if (index < 0 || ship.getHitCount() > 0) {
+            return false;
+        }
+        for (int i = 0; i < ship.getSize(); i++) {
+            Cell cell = materialize(ship.getSegmentRow(i), ship.getSegmentCol(i));
+            cell.setHasShip(false);
+            cell.setShip(null);
+            toggle(ship.getSegmentRow(i), ship.getSegmentCol(i), SHIP + ship.getType().ordinal());
+        }
+        ships.remove(index);
+        remainingShipCells -= ship.getSize();
+        snapshot = snapshot.withoutShip(index);
+        ship.reset();
+        return true;
+    }
+
+    /**
+     * Get the live cell at a position. On a SparseBoard this allocates the
+     * cell if it was untouched, so scans should use isShot/hasShip/isSunk.
+     */
     public Cell getCell(Position position) {
         if (position.getRow() >= 0 && position.getRow() < height &&
                 position.getCol() >= 0 && position.getCol() < width) {
-            return grid[position.getRow()][position.getCol()];
+            return materialize(position.getRow(), position.getCol());
         }
         throw new IllegalArgumentException("Position out of bounds: " + position);
     }
 
+    /**
+     * Get cell by coordinates without allocating a Position
+     */
+    public Cell getCell(int row, int col) {
+        if (row >= 0 && row < height && col >= 0 && col < width) {
+            return materialize(row, col);
+        }
+        throw new IllegalArgumentException("Position out of bounds: (" + row + ", " + col + ")");
+    }
+
+    // Read-only queries; these never allocate cells
+    public boolean isShot(int row, int col) {
+        Cell cell = cellAt(row, col);
+        return cell != null && cell.isShot();
+    }
+
+    public boolean hasShip(int row, int col) {
+        Cell cell = cellAt(row, col);
+        return cell != null && cell.hasShip();
+    }
+
+    public boolean isSunk(int row, int col) {
+        Cell cell = cellAt(row, col);
+        return cell != null && cell.isSunk();
+    }
+
+    public Ship getShipAt(int row, int col) {
+        Cell cell = cellAt(row, col);
+        return cell == null ? null : cell.getShip();
+    }
+
+    /**
+     * Storage hook: existing cell at an in-bounds coordinate, or null if
+     * the storage has never touched it
+     */
+    protected Cell cellAt(int row, int col) {
+        return grid[row][col];
+    }
+
+    /**
+     * Storage hook: cell at an in-bounds coordinate, created on first use
+     */
+    protected Cell materialize(int row, int col) {
+        return grid[row][col];
+    }
+
+    /**
+     * Storage hook: return every cell to the empty state
+     */
+    protected void resetCells() {
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                grid[row][col].setHasShip(false);
+                grid[row][col].setShip(null);
+                grid[row][col].setShot(false);
+            }
+        }
+    }
+
     public int getWidth() {
         return width;
     }
@@ -121,12 +324,49 @@ public class Board implements Serializable {
         return height;
     }
 
+    /**
+     * Read-only live view of the placed ships; no copy is made
+     */
     public List<Ship> getShips() {
-        return new ArrayList<>(ships);
+        if (shipsView == null) {
+            shipsView = Collections.unmodifiableList(ships);
+        }
+        return shipsView;
+    }
+
+    public int shipCount() {
+        return ships.size();
+    }
+
+    public Ship getShip(int index) {
+        return ships.get(index);
     }
 
+    /**
+     * Visit every placed ship in placement order without creating an iterator
+     */
+    public void forEachShip(Consumer<? super Ship> action) {
+        for (int i = 0; i < ships.size(); i++) {
+            action.accept(ships.get(i));
+        }
+    }
+
+    /**
+     * O(1): every placed ship cell has been hit
+     */
     public boolean allShipsSunk() {
-        return ships.stream().allMatch(Ship::isSunk);
+        return remainingShipCells == 0;
+    }
+
+    public int getRemainingShipCells() {
+        return remainingShipCells;
+    }
+
+    /**
+     * Immutable state as of the last completed mutation; safe to read from any thread
+     */
+    public BoardSnapshot snapshot() {
+        return snapshot;
     }
 
     /**
@@ -141,15 +381,52 @@ public class Board implements Serializable {
      * Clear all ships from board (for reset)
      */
     public void clear() {
+        resetCells();
+        ships.clear();
+        remainingShipCells = 0;
+        snapshot = BoardSnapshot.empty(width, height);
+        zobristKey = 0L;
+        zobristValid = true;
+    }
+
+    private void toggle(int row, int col, int feature) {
+        zobristKey ^= Zobrist.key(ZOBRIST_SALT, row * width + col, feature);
+    }
+
+    private void toggleSunk(Ship ship) {
+        for (int i = 0; i < ship.getSize(); i++) {
+            toggle(ship.getSegmentRow(i), ship.getSegmentCol(i), SUNK);
+        }
+    }
+
+    /**
+     * Zobrist hash of ship occupancy, shots and sunk cells; 0 for an empty board
+     */
+    public long getZobristKey() {
+        if (!zobristValid) {
+            rebuildZobristKey();
+        }
+        return zobristKey;
+    }
+
+    private void rebuildZobristKey() {
+        zobristKey = 0L;
+        for (Ship ship : ships) {
+            for (int i = 0; i < ship.getSize(); i++) {
+                toggle(ship.getSegmentRow(i), ship.getSegmentCol(i), SHIP + ship.getType().ordinal());
+            }
+            if (ship.isSunk()) {
+                toggleSunk(ship);
+            }
+        }
         for (int row = 0; row < height; row++) {
             for (int col = 0; col < width; col++) {
-                grid[row][col].setHasShip(false);
-                grid[row][col].setShip(null);
-                grid[row][col].setShot(false);
-                grid[row][col].setSunk(false);
+                if (isShot(row, col)) {
+                    toggle(row, col, SHOT);
+                }
             }
         }
-        ships.clear();
+        zobristValid = true;
     }
 
     /**
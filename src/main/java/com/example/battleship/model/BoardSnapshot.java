@@ -0,0 +1,111 @@
+package com.example.battleship.model;
+
+//Immutable view of one board
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable board state: shot and ship-cell bitboards plus each ship's
+ * placement and hit mask. Every with* method returns a new version that
+ * shares all untouched chunks and ship records with this one.
+ */
+public record BoardSnapshot(int width, int height, Bitboard shots, Bitboard shipCells,
+                            List<ShipSnapshot> ships, int remainingShipCells) implements Serializable {
+
+    /**
+     * Placement and damage of one ship
+     */
+    public record ShipSnapshot(ShipType type, int startRow, int startCol, boolean horizontal,
+                               long hitMask) implements Serializable {
+
+        public static ShipSnapshot of(Ship ship) {
+            return new ShipSnapshot(ship.getType(), ship.getStartRow(), ship.getStartCol(),
+                    ship.isHorizontal(), ship.getHitMask());
+        }
+
+        public boolean isSunk() {
+            return Long.bitCount(hitMask) == type.getSize();
+        }
+    }
+
+    public static BoardSnapshot empty(int width, int height) {
+        return new BoardSnapshot(width, height, Bitboard.empty(width * height),
+                Bitboard.empty(width * height), List.of(), 0);
+    }
+
+    public boolean isShot(int row, int col) {
+        return shots.get(row * width + col);
+    }
+
+    public boolean hasShip(int row, int col) {
+        return shipCells.get(row * width + col);
+    }
+
+    public boolean allShipsSunk() {
+        return remainingShipCells == 0;
+    }
+
+    /**
+     * Version with one more ship placed; only its unhit cells count as
+     * remaining, so a revealed sunk ship adds none
+     */
+    public BoardSnapshot withShip(Ship ship) {
+        Bitboard cells = shipCells;
+        for (int i = 0; i < ship.getSize(); i++) {
+            cells = cells.with(ship.getSegmentRow(i) * width + ship.getSegmentCol(i));
+        }
+        List<ShipSnapshot> newShips = new ArrayList<>(ships.size() + 1);
+        newShips.addAll(ships);
+        newShips.add(ShipSnapshot.of(ship));
+        return new BoardSnapshot(width, height, shots, cells, Collections.unmodifiableList(newShips),
+                remainingShipCells + ship.getSize() - ship.getHitCount());
+    }
+
+    /**
+     * Version without the ship at shipIndex (placement undone)
+     */
+    public BoardSnapshot withoutShip(int shipIndex) {
+        ShipSnapshot removed = ships.get(shipIndex);
+        Bitboard cells = shipCells;
+        for (int i = 0; i < removed.type().getSize(); i++) {
+            int row = removed.horizontal() ? removed.startRow() : removed.startRow() + i;
+            int col = removed.horizontal() ? removed.startCol() + i : removed.startCol();
+            cells = cells.without(row * width + col);
+        }
+        List<ShipSnapshot> newShips = new ArrayList<>(ships);
+        newShips.remove(shipIndex);
+        return new BoardSnapshot(width, height, shots, cells, Collections.unmodifiableList(newShips),
+                remainingShipCells - removed.type().getSize());
+    }
+
+    /**
+     * Version with one more shot; shipIndex is -1 for a miss
+     */
+    public BoardSnapshot withShot(int row, int col, int shipIndex, Ship ship) {
+        Bitboard newShots = shots.with(row * width + col);
+        if (shipIndex < 0) {
+            return new BoardSnapshot(width, height, newShots, shipCells, ships, remainingShipCells);
+        }
+        List<ShipSnapshot> newShips = new ArrayList<>(ships);
+        newShips.set(shipIndex, ShipSnapshot.of(ship));
+        return new BoardSnapshot(width, height, newShots, shipCells, Collections.unmodifiableList(newShips),
+                remainingShipCells - 1);
+    }
+
+    /**
+     * Version with one shot taken back; shipIndex is -1 for a miss
+     */
+    public BoardSnapshot withoutShot(int row, int col, int shipIndex, Ship ship) {
+        Bitboard newShots = shots.without(row * width + col);
+        if (shipIndex < 0) {
+            return new BoardSnapshot(width, height, newShots, shipCells, ships, remainingShipCells);
+        }
+        List<ShipSnapshot> newShips = new ArrayList<>(ships);
+        newShips.set(shipIndex, ShipSnapshot.of(ship));
+        return new BoardSnapshot(width, height, newShots, shipCells, Collections.unmodifiableList(newShips),
+                remainingShipCells + 1);
+    }
+}
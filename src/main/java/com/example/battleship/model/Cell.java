@@ -14,14 +14,12 @@ public class Cell implements Serializable {
     private final Position position;
     private boolean hasShip;
     private boolean isShot;
-    private boolean isSunk;
     private Ship ship;
 
     public Cell(Position position) {
         this.position = position;
         this.hasShip = false;
         this.isShot = false;
-        this.isSunk = false;
         this.ship = null;
     }
 
@@ -31,8 +29,7 @@ public class Cell implements Serializable {
     public void setHasShip(boolean hasShip) { this.hasShip = hasShip; }
     public boolean isShot() { return isShot; }
     public void setShot(boolean shot) { this.isShot = shot; }
-    public boolean isSunk() { return isSunk; }
-    public void setSunk(boolean sunk) { this.isSunk = sunk; }
+    public boolean isSunk() { return ship != null && ship.isSunk(); }
     public Ship getShip() { return ship; }
     public void setShip(Ship ship) { this.ship = ship; }
 }
\ No newline at end of file
@@ -1,47 +1,54 @@
 package com.example.battleship.model;
 
 import java.util.Random;
+import java.util.SplittableRandom;
+import com.example.battleship.ai.HeatmapPlacement;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.LayoutPool;
+import com.example.battleship.ai.ShotHeatmap;
 import com.example.battleship.controller.AIStrategy;
+import com.example.battleship.util.GameLogger;
+import com.example.battleship.metrics.GameMetrics;
+import com.example.battleship.metrics.PlacementEvent;
 
 public class ComputerPlayer extends Player {
 
+    private static final GameLogger LOG = GameLogger.getLogger(ComputerPlayer.class);
+
     private AIStrategy aiStrategy;
     private Random random;
+    // Bitmask layouts for boards up to 128 cells; null on larger boards
+    private transient LayoutGenerator layoutGenerator;
+    private transient LayoutPool layoutPool;
+    private transient long[] layout;
+    private transient HeatmapPlacement heatmapPlacement;
 
     public ComputerPlayer() {
+        this(GameConfig.defaultConfig());
+    }
+
+    public ComputerPlayer(GameConfig config) {
         super("Computer");
         this.random = new Random();
-        this.aiStrategy = new AIStrategy();
-        initializeComputerShips(); // ADD THIS LINE
+        this.aiStrategy = new AIStrategy(config);
+        if (LayoutGenerator.supports(config)) {
+            this.layoutGenerator = new LayoutGenerator(config);
+            this.layout = new long[layoutGenerator.getStride()];
+        }
+        initializeComputerShips(config);
     }
 
     /**
-     * Initialize computer's ships
+     * Initialize computer's ships (same fleet as the player's)
      */
-    private void initializeComputerShips() {
+    private void initializeComputerShips(GameConfig config) {
         // Clear any existing ships
         getShips().clear();
+        for (Ship ship : config.createFleet()) {
+            addShip(ship);
+        }
 
-        // Add computer's ships (same as player's ships)
-        // 1 Aircraft Carrier (4 spaces)
-        addShip(new Ship(ShipType.AIRCRAFT_CARRIER));
-
-        // 2 Submarines (3 spaces each)
-        addShip(new Ship(ShipType.SUBMARINE));
-        addShip(new Ship(ShipType.SUBMARINE));
-
-        // 3 Destroyers (2 spaces each)
-        addShip(new Ship(ShipType.DESTROYER));
-        addShip(new Ship(ShipType.DESTROYER));
-        addShip(new Ship(ShipType.DESTROYER));
-
-        // 4 Frigates (1 space each)
-        addShip(new Ship(ShipType.FRIGATE));
-        addShip(new Ship(ShipType.FRIGATE));
-        addShip(new Ship(ShipType.FRIGATE));
-        addShip(new Ship(ShipType.FRIGATE));
-
-        System.out.println("Computer ships initialized: " + getShips().size() + " ships total");
+        LOG.debug(() -> "Computer ships initialized: " + getShips().size() + " ships total");
     }
 
     /**
@@ -55,43 +62,98 @@ public class ComputerPlayer extends Player {
      * Place ships randomly on board
      */
     public void placeShipsRandomly(Board board) {
-        System.out.println("=== STARTING COMPUTER SHIP PLACEMENT ===");
-        System.out.println("Computer has " + getShips().size() + " ships to place");
+        LOG.debug(() -> "Starting computer ship placement: " + getShips().size() + " ships to place");
+        PlacementEvent event = new PlacementEvent();
+        event.begin();
+        long start = System.nanoTime();
 
         // Reset all ships to not placed
         for (Ship ship : getShips()) {
-            ship.setPlaced(false);
-            ship.setPositions(null);
+            ship.reset();
         }
 
         //Clear the board first
         board.clear();
 
-        //Place ships using AI strategy
-        aiStrategy.placeShipsRandomly(board, getShips());
-
-        //Verify placement
-        int placedShips = 0;
-        for (Ship ship : getShips()) {
-            if (ship.isPlaced()) {
-                placedShips++;
-            }
+        //Take a ready layout when possible, otherwise let the AI strategy search
+        if (!placeFromLayout(board)) {
+            aiStrategy.placeShipsRandomly(board, getShips());
         }
 
-        System.out.println("Successfully placed " + placedShips + "/" + getShips().size() + " ships");
+        GameMetrics metrics = GameMetrics.getInstance();
+        metrics.histogram(GameMetrics.PLACEMENT_LATENCY).record(System.nanoTime() - start);
+        metrics.counter(GameMetrics.PLACEMENTS).increment();
+        event.end();
+        if (event.shouldCommit()) {
+            event.ships = getShips().size();
+            event.placed = board.shipCount();
+            event.commit();
+        }
 
-        //Count total ship cells
-        int shipCells = 0;
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                Position pos = new Position(row, col);
-                if (board.getCell(pos).hasShip()) {
-                    shipCells++;
+        //Verify placement (only worth the scan when someone is listening)
+        if (LOG.isDebugEnabled()) {
+            int placedShips = 0;
+            for (Ship ship : getShips()) {
+                if (ship.isPlaced()) {
+                    placedShips++;
                 }
             }
+
+            int shipCells = 0;
+            for (int i = 0; i < board.shipCount(); i++) {
+                shipCells += board.getShip(i).getSize();
+            }
+            LOG.debug("Placed " + placedShips + "/" + getShips().size()
+                    + " ships covering " + shipCells + " cells");
+        }
+    }
+
+    /**
+     * Place the fleet from the layout pool, or from a layout generated inline
+     */
+    private boolean placeFromLayout(Board board) {
+        if (layoutGenerator == null) {
+            return false;
+        }
+        boolean poolMatches = layoutPool != null
+                && layoutPool.getGenerator().getConfig().equals(layoutGenerator.getConfig());
+        boolean found;
+        if (heatmapPlacement != null) {
+            found = heatmapPlacement.choose(new SplittableRandom(random.nextLong()), poolMatches ? layoutPool : null, layout);
+        } else if (poolMatches) {
+            found = layoutPool.take(layout);
+        } else {
+            found = layoutGenerator.generate(new SplittableRandom(random.nextLong()), layout, 0);
+        }
+        if (found && layoutGenerator.apply(layout, 0, board, getShips())) {
+            return true;
+        }
+        // No layout for this fleet, or the fleet was changed after construction
+        board.clear();
+        for (Ship ship : getShips()) {
+            ship.reset();
+        }
+        return false;
+    }
+
+    /**
+     * Take layouts from a background pool (GameController passes LayoutPool.shared);
+     * a pool built for another config is ignored
+     */
+    public void setLayoutPool(LayoutPool layoutPool) {
+        this.layoutPool = layoutPool;
+    }
+
+    /**
+     * Place ships away from the opponent's recorded favourite cells; null (or a
+     * heatmap of another board size) goes back to uniform random placement
+     */
+    public void setShotHeatmap(ShotHeatmap heatmap) {
+        if (heatmap != null && layoutGenerator != null && heatmap.matches(layoutGenerator.getConfig())) {
+            this.heatmapPlacement = new HeatmapPlacement(layoutGenerator, heatmap);
+        } else {
+            this.heatmapPlacement = null;
         }
-        System.out.println("Total ship cells on computer board: " + shipCells + " (should be 20)");
-        System.out.println("=== COMPUTER SHIP PLACEMENT COMPLETE ===");
     }
 
     public AIStrategy getAiStrategy() {
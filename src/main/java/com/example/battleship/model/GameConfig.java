@@ -0,0 +1,135 @@
+package com.example.battleship.model;
+
+//Board size and fleet composition for one game
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import com.example.battleship.util.Constants;
+
+/**
+ * Immutable description of a game: board dimensions and fleet composition.
+ * Shared by the model, the AI and the views so none of them hard-code 10x10
+ * or the ship list.
+ */
+public final class GameConfig implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final GameConfig DEFAULT = new GameConfig(
+            Constants.BOARD_WIDTH, Constants.BOARD_HEIGHT, defaultFleet());
+
+    private final int width;
+    private final int height;
+    private final EnumMap<ShipType, Integer> fleet;
+    private final int totalShips;
+    private final int totalShipCells;
+
+    /**
+     * @param width board width (1 to Constants.MAX_BOARD_SIZE)
+     * @param height board height (1 to Constants.MAX_BOARD_SIZE)
+     * @param fleet number of ships of each type
+     */
+    public GameConfig(int width, int height, Map<ShipType, Integer> fleet) {
+        if (width < 1 || width > Constants.MAX_BOARD_SIZE || height < 1 || height > Constants.MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("Board size must be between 1x1 and "
+                    + Constants.MAX_BOARD_SIZE + "x" + Constants.MAX_BOARD_SIZE + ": " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.fleet = new EnumMap<>(ShipType.class);
+
+        int ships = 0;
+        int cells = 0;
+        for (Map.Entry<ShipType, Integer> entry : fleet.entrySet()) {
+            int count = entry.getValue();
+            if (count < 0) {
+                throw new IllegalArgumentException("Negative ship count for " + entry.getKey());
+            }
+            if (count > 0) {
+                if (entry.getKey().getSize() > Math.max(width, height)) {
+                    throw new IllegalArgumentException(entry.getKey() + " does not fit on a "
+                            + width + "x" + height + " board");
+                }
+                this.fleet.put(entry.getKey(), count);
+                ships += count;
+                cells += count * entry.getKey().getSize();
+            }
+        }
+        if (ships == 0) {
+            throw new IllegalArgumentException("Fleet must contain at least one ship");
+        }
+        if ((long) cells > (long) width * height) {
+            throw new IllegalArgumentException("Fleet needs " + cells + " cells but the board only has "
+                    + (long) width * height);
+        }
+        this.totalShips = ships;
+        this.totalShipCells = cells;
+    }
+
+    /**
+     * Standard 10x10 game with the fleet from Constants
+     */
+    public static GameConfig defaultConfig() {
+        return DEFAULT;
+    }
+
+    private static Map<ShipType, Integer> defaultFleet() {
+        EnumMap<ShipType, Integer> fleet = new EnumMap<>(ShipType.class);
+        fleet.put(ShipType.AIRCRAFT_CARRIER, Constants.AIRCRAFT_CARRIER_COUNT);
+        fleet.put(ShipType.SUBMARINE, Constants.SUBMARINE_COUNT);
+        fleet.put(ShipType.DESTROYER, Constants.DESTROYER_COUNT);
+        fleet.put(ShipType.FRIGATE, Constants.FRIGATE_COUNT);
+        return fleet;
+    }
+
+    /**
+     * Same fleet on a board of a different size
+     */
+    public GameConfig withBoardSize(int newWidth, int newHeight) {
+        return new GameConfig(newWidth, newHeight, fleet);
+    }
+
+    /**
+     * Build a fresh, unplaced fleet, largest ships first
+     */
+    public List<Ship> createFleet() {
+        List<Ship> ships = new ArrayList<>(totalShips);
+        for (Map.Entry<ShipType, Integer> entry : fleet.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                ships.add(new Ship(entry.getKey()));
+            }
+        }
+        return ships;
+    }
+
+    // Getters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getCellCount() { return width * height; }
+    public Map<ShipType, Integer> getFleet() { return Collections.unmodifiableMap(fleet); }
+    public int getShipCount(ShipType type) { return fleet.getOrDefault(type, 0); }
+    public int getTotalShips() { return totalShips; }
+    public int getTotalShipCells() { return totalShipCells; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        GameConfig config = (GameConfig) obj;
+        return width == config.width && height == config.height && fleet.equals(config.fleet);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(width, height, fleet);
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height + " " + fleet;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.battleship.model;
+
+//Immutable view of a whole game
+
+import com.example.battleship.ai.Difficulty;
+import java.io.Serializable;
+
+/**
+ * Consistent, immutable picture of a game at one point in time.
+ * Built in O(1) from the boards' current snapshots, so it can be handed to
+ * the saver, renderers or analytics on other threads without copying or locking.
+ * HU-5: this is what gets written to the save file.
+ * difficulty is null in saves made before difficulty tiers existed.
+ */
+public record GameSnapshot(GameConfig config, BoardSnapshot playerBoard, BoardSnapshot computerBoard,
+                           PlayerSnapshot player, PlayerSnapshot computer, boolean playerTurn,
+                           boolean gameStarted, boolean gameOver, String winner,
+                           Difficulty difficulty) implements Serializable {
+
+    /**
+     * Name and score of one side
+     */
+    public record PlayerSnapshot(String name, int score, int shipsSunk) implements Serializable {
+
+        public static PlayerSnapshot of(Player player) {
+            return new PlayerSnapshot(player.getName(), player.getScore(), player.getShipsSunk());
+        }
+    }
+}
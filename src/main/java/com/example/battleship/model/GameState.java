@@ -2,10 +2,13 @@ package com.example.battleship.model;
 
 //Main game state management
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Observable;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.patterns.GameEvent;
+import com.example.battleship.patterns.GameEventBus;
+import com.example.battleship.patterns.Observable;
 import com.example.battleship.patterns.Observer;
 
 /**
@@ -13,102 +16,177 @@ import com.example.battleship.patterns.Observer;
  * Implements Serializable for game saving (HU-5).
  * Follows SOLID's Single Responsibility Principle - manages only game state.
  */
-public class GameState extends Observable implements Serializable {
+public class GameState implements Observable, Serializable {
     private static final long serialVersionUID = 1L;
 
+    private GameConfig config;
     private Board playerBoard;
     private Board computerBoard;
     private Player player;
     private ComputerPlayer computer;
-    private boolean isPlayerTurn;
-    private boolean gameStarted;
-    private boolean gameOver;
-    private String winner;
-    private List<Observer> observers;
+    private volatile boolean isPlayerTurn;
+    private volatile boolean gameStarted;
+    private volatile boolean gameOver;
+    private volatile String winner;
+    // Listeners are UI objects and are not saved
+    private transient GameEventBus events;
 
     /**
-     * Constructor initializes game state with empty boards and players.
+     * Constructor initializes a standard 10x10 game.
      */
     public GameState() {
-        this.playerBoard = new Board();
-        this.computerBoard = new Board();
+        this(GameConfig.defaultConfig());
+    }
+
+    /**
+     * Constructor initializes game state with empty boards and players.
+     */
+    public GameState(GameConfig config) {
+        this.config = config;
+        this.playerBoard = Board.create(config);
+        this.computerBoard = Board.create(config);
         this.player = new Player("Player");
-        this.computer = new ComputerPlayer();
+        this.computer = new ComputerPlayer(config);
+        this.player.setBoard(playerBoard);
+        this.computer.setBoard(computerBoard);
         this.isPlayerTurn = true;
         this.gameStarted = false;
         this.gameOver = false;
-        this.observers = new ArrayList<>();
+        this.events = new GameEventBus();
 
         // Initialize boards with ships
         initializeShips();
     }
 
     /**
-     * HU-1: Initialize all ships for both players
+     * HU-1: Initialize the player's fleet from the config.
+     * The computer builds its own fleet from the same config.
      */
     private void initializeShips() {
-        // Player's ships
-        player.addShip(new Ship(ShipType.AIRCRAFT_CARRIER));
-        player.addShip(new Ship(ShipType.SUBMARINE));
-        player.addShip(new Ship(ShipType.SUBMARINE));
-        player.addShip(new Ship(ShipType.DESTROYER));
-        player.addShip(new Ship(ShipType.DESTROYER));
-        player.addShip(new Ship(ShipType.DESTROYER));
-        player.addShip(new Ship(ShipType.FRIGATE));
-        player.addShip(new Ship(ShipType.FRIGATE));
-        player.addShip(new Ship(ShipType.FRIGATE));
-        player.addShip(new Ship(ShipType.FRIGATE));
-
-        // Computer's ships
-        computer.addShip(new Ship(ShipType.AIRCRAFT_CARRIER));
-        computer.addShip(new Ship(ShipType.SUBMARINE));
-        computer.addShip(new Ship(ShipType.SUBMARINE));
-        computer.addShip(new Ship(ShipType.DESTROYER));
-        computer.addShip(new Ship(ShipType.DESTROYER));
-        computer.addShip(new Ship(ShipType.DESTROYER));
-        computer.addShip(new Ship(ShipType.FRIGATE));
-        computer.addShip(new Ship(ShipType.FRIGATE));
-        computer.addShip(new Ship(ShipType.FRIGATE));
-        computer.addShip(new Ship(ShipType.FRIGATE));
+        for (Ship ship : config.createFleet()) {
+            player.addShip(ship);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the current game, cheap enough to take after every move.
+     * Board parts are shared with earlier snapshots wherever they did not change.
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(config, playerBoard.snapshot(), computerBoard.snapshot(),
+                GameSnapshot.PlayerSnapshot.of(player), GameSnapshot.PlayerSnapshot.of(computer),
+                isPlayerTurn, gameStarted, gameOver, winner, getDifficulty());
+    }
+
+    /**
+     * HU-5: Rebuild a live game from a saved snapshot
+     */
+    public static GameState fromSnapshot(GameSnapshot snapshot) {
+        GameState state = new GameState(snapshot.config());
+        restoreBoard(state.playerBoard, state.player, snapshot.playerBoard());
+        restoreBoard(state.computerBoard, state.computer, snapshot.computerBoard());
+
+        // The computer must not fire at cells it already tried
+        Bitboard computerShots = snapshot.playerBoard().shots();
+        int width = snapshot.config().getWidth();
+        for (int i = computerShots.nextSetBit(0); i >= 0; i = computerShots.nextSetBit(i + 1)) {
+            state.computer.getAiStrategy().removeShotPosition(new Position(i / width, i % width));
+        }
+        state.computer.getAiStrategy().syncKnowledge(state.playerBoard);
+        if (snapshot.difficulty() != null) {
+            state.setDifficulty(snapshot.difficulty());
+        }
+
+        restorePlayer(state.player, snapshot.player());
+        restorePlayer(state.computer, snapshot.computer());
+        state.isPlayerTurn = snapshot.playerTurn();
+        state.gameStarted = snapshot.gameStarted();
+        state.gameOver = snapshot.gameOver();
+        state.winner = snapshot.winner();
+        return state;
+    }
+
+    private static void restoreBoard(Board board, Player owner, BoardSnapshot saved) {
+        // Place roster ships of the matching type so unplaced ones stay in the roster
+        for (BoardSnapshot.ShipSnapshot savedShip : saved.ships()) {
+            for (Ship ship : owner.getShips()) {
+                if (!ship.isPlaced() && ship.getType() == savedShip.type()) {
+                    board.placeShip(ship, new Position(savedShip.startRow(), savedShip.startCol()),
+                            savedShip.horizontal());
+                    break;
+                }
+            }
+        }
+        // Replaying shots restores hit masks, sunk state and counters
+        Bitboard shots = saved.shots();
+        for (int i = shots.nextSetBit(0); i >= 0; i = shots.nextSetBit(i + 1)) {
+            board.receiveShot(new Position(i / saved.width(), i % saved.width()));
+        }
+    }
+
+    private static void restorePlayer(Player player, GameSnapshot.PlayerSnapshot saved) {
+        player.setName(saved.name());
+        player.setScore(saved.score());
+        player.setShipsSunk(saved.shipsSunk());
     }
 
     // Getters and setters
+    public GameConfig getConfig() { return config; }
     public Board getPlayerBoard() { return playerBoard; }
     public Board getComputerBoard() { return computerBoard; }
     public Player getPlayer() { return player; }
     public ComputerPlayer getComputer() { return computer; }
+    public Difficulty getDifficulty() { return computer.getAiStrategy().getDifficulty(); }
+    public void setDifficulty(Difficulty difficulty) { computer.getAiStrategy().setDifficulty(difficulty); }
     public boolean isPlayerTurn() { return isPlayerTurn; }
     public void setPlayerTurn(boolean playerTurn) {
         this.isPlayerTurn = playerTurn;
-        notifyObservers();
+        events.publish(new GameEvent.TurnChanged(playerTurn));
     }
     public boolean isGameStarted() { return gameStarted; }
     public void setGameStarted(boolean started) {
         this.gameStarted = started;
-        notifyObservers();
+        events.publish(new GameEvent.GameStarted(started));
     }
     public boolean isGameOver() { return gameOver; }
     public void setGameOver(boolean over) {
         this.gameOver = over;
-        notifyObservers();
+        events.publish(new GameEvent.GameOver(over, winner));
     }
     public String getWinner() { return winner; }
     public void setWinner(String winner) {
         this.winner = winner;
-        notifyObservers();
+        events.publish(new GameEvent.GameOver(gameOver, winner));
+    }
+
+    /**
+     * Typed change events; wrap multi-step changes in beginBatch()/endBatch()
+     */
+    public GameEventBus getEvents() {
+        return events;
     }
 
     /**
      * Notify all observers of state changes
      * Observer Pattern implementation
      */
+    @Override
     public void notifyObservers() {
-        for (Observer observer : observers) {
-            observer.update();
-        }
+        events.publish(new GameEvent.StateChanged());
     }
 
+    @Override
     public void addObserver(Observer observer) {
-        observers.add(observer);
+        events.subscribe(observer);
+    }
+
+    @Override
+    public void removeObserver(Observer observer) {
+        events.unsubscribe(observer);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.events = new GameEventBus();
     }
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ public class Player implements Serializable {
     private List<Ship> ships;
     private int score;
     private int shipsSunk;
+    // Board the fleet is placed on; the source of truth for losses
+    private Board board;
 
     public Player(String name) {
         this.name = name;
@@ -45,11 +47,18 @@ public class Player implements Serializable {
     public void setScore(int score) { this.score = score; }
     public int getShipsSunk() { return shipsSunk; }
     public void setShipsSunk(int shipsSunk) { this.shipsSunk = shipsSunk; }
+    public Board getBoard() { return board; }
+    public void setBoard(Board board) { this.board = board; }
 
     /**
-     * Check if player has lost (all ships sunk)
+     * Check if player has lost (all ships sunk).
+     * Delegates to the board's hit counter once a board is assigned; the ship
+     * list is only the fleet roster used during placement.
      */
     public boolean hasLost() {
+        if (board != null) {
+            return board.allShipsSunk();
+        }
         return ships.stream().allMatch(Ship::isSunk);
     }
 }
\ No newline at end of file
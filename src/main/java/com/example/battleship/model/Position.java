@@ -35,6 +35,27 @@ public class Position implements Serializable {
         return 31 * row + col;
     }
 
+    /**
+     * Board coordinate in game notation, e.g. "A1" or "AB12" on wide boards
+     */
+    public String toCoordinate() {
+        return columnLabel(col) + (row + 1);
+    }
+
+    /**
+     * Spreadsheet-style column label: A..Z, AA..AZ, BA...
+     */
+    public static String columnLabel(int col) {
+        if (col < 26) {
+            return String.valueOf((char) ('A' + col));
+        }
+        StringBuilder label = new StringBuilder();
+        for (int n = col + 1; n > 0; n = (n - 1) / 26) {
+            label.append((char) ('A' + (n - 1) % 26));
+        }
+        return label.reverse().toString();
+    }
+
     @Override
     public String toString() {
         return "(" + row + ", " + col + ")";
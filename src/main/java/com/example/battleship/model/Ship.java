@@ -9,46 +9,143 @@ import java.util.ArrayList;
 /**
  * Represents a ship with type, size, and state.
  * Follows SOLID's Open/Closed Principle - can be extended with new ship types.
+ * Placement is stored as start cell plus orientation and damage as one bit per
+ * segment, so a ship is a few words regardless of size and sinking is a mask compare.
  */
 
 public class Ship implements Serializable {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    /** Segments are tracked in a long bitmask */
+    public static final int MAX_SIZE = Long.SIZE;
 
     private final ShipType type;
     private final int size;
-    private List<Position> positions;
-    private int hitCount;
+    private final long fullMask;
+    private int startRow;
+    private int startCol;
+    private boolean horizontal;
+    private long hitMask;
     private boolean placed;
-    private boolean sunk;
 
     public Ship(ShipType type) {
         this.type = type;
         this.size = type.getSize();
-        this.positions = null;
-        this.hitCount = 0;
+        this.fullMask = size == MAX_SIZE ? -1L : (1L << size) - 1;
+        this.startRow = -1;
+        this.startCol = -1;
+        this.hitMask = 0L;
+        this.placed = false;
+    }
+
+    /**
+     * Anchor the ship at a start cell; Board validates bounds and overlap
+     */
+    public void place(int row, int col, boolean isHorizontal) {
+        this.startRow = row;
+        this.startCol = col;
+        this.horizontal = isHorizontal;
+        this.hitMask = 0L;
+        this.placed = true;
+    }
+
+    /**
+     * Return to the unplaced, undamaged state
+     */
+    public void reset() {
+        this.startRow = -1;
+        this.startCol = -1;
+        this.hitMask = 0L;
         this.placed = false;
-        this.sunk = false;
     }
 
     /**
-     * Record a hit on the ship
+     * Record a hit on the lowest undamaged segment
      */
     public void hit() {
-        hitCount++;
-        if (hitCount >= size) {
-            sunk = true;
+        long open = ~hitMask & fullMask;
+        if (open != 0) {
+            hitMask |= Long.lowestOneBit(open);
+        }
+    }
+
+    /**
+     * Record a hit on one segment
+     * @return false if that segment was already hit
+     * @throws IllegalArgumentException if segment is not in 0..size-1, e.g. -1 from an unplaced ship
+     */
+    public boolean hit(int segment) {
+        if (segment < 0 || segment >= size) {
+            throw new IllegalArgumentException("No segment " + segment + " on a " + type + " of size " + size);
+        }
+        long bit = 1L << segment;
+        if ((hitMask & bit) != 0) {
+            return false;
+        }
+        hitMask |= bit;
+        return true;
+    }
+
+    /**
+     * Put back a previously recorded hit mask (undo)
+     */
+    public void restoreHitMask(long mask) {
+        this.hitMask = mask & fullMask;
+    }
+
+    /**
+     * Segment index covering a board cell, or -1 if the ship does not cover it
+     */
+    public int segmentAt(int row, int col) {
+        if (!placed) {
+            return -1;
+        }
+        int offset = horizontal ? col - startCol : row - startRow;
+        int across = horizontal ? row - startRow : col - startCol;
+        if (across != 0 || offset < 0 || offset >= size) {
+            return -1;
+        }
+        return offset;
+    }
+
+    public int getSegmentRow(int segment) {
+        return horizontal ? startRow : startRow + segment;
+    }
+
+    public int getSegmentCol(int segment) {
+        return horizontal ? startCol + segment : startCol;
+    }
+
+    public boolean isSegmentHit(int segment) {
+        return (hitMask & (1L << segment)) != 0;
+    }
+
+    /**
+     * Covered cells, built on demand (null while unplaced).
+     * Hot paths should use getSegmentRow/getSegmentCol instead.
+     */
+    public List<Position> getPositions() {
+        if (!placed) {
+            return null;
+        }
+        List<Position> positions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            positions.add(new Position(getSegmentRow(i), getSegmentCol(i)));
         }
+        return positions;
     }
 
     // Getters and setters
     public ShipType getType() { return type; }
     public int getSize() { return size; }
-    public List<Position> getPositions() { return positions; }
-    public void setPositions(List<Position> positions) { this.positions = positions; }
-    public int getHitCount() { return hitCount; }
+    public int getStartRow() { return startRow; }
+    public int getStartCol() { return startCol; }
+    public boolean isHorizontal() { return horizontal; }
+    public long getHitMask() { return hitMask; }
+    public int getHitCount() { return Long.bitCount(hitMask); }
     public boolean isPlaced() { return placed; }
     public void setPlaced(boolean placed) { this.placed = placed; }
-    public boolean isSunk() { return sunk; }
+    public boolean isSunk() { return hitMask == fullMask; }
 
     /**
      * Get ship name based on type
@@ -56,4 +153,4 @@ public class Ship implements Serializable {
     public String getName() {
         return type.name().replace("_", " ");
     }
-}
\ No newline at end of file
+}
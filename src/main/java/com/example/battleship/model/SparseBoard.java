@@ -0,0 +1,72 @@
+package com.example.battleship.model;
+
+//Board that only stores touched cells
+
+import java.util.ArrayList;
+import java.util.List;
+import com.example.battleship.util.LongIntHashMap;
+
+/**
+ * Board for very large grids.
+ * Only cells that hold a ship or have been shot exist; they are found through a
+ * primitive long -> int map from packed (row, col) to an index in a cell list.
+ * Memory and clear() are proportional to activity instead of board area.
+ */
+public class SparseBoard extends Board {
+    private static final long serialVersionUID = 1L;
+
+    private static final int NO_CELL = -1;
+
+    private final LongIntHashMap cellIndex;
+    private final List<Cell> cells;
+
+    public SparseBoard(GameConfig config) {
+        this(config.getWidth(), config.getHeight(), config.getTotalShipCells());
+    }
+
+    public SparseBoard(int width, int height) {
+        this(width, height, 0);
+    }
+
+    private SparseBoard(int width, int height, int expectedCells) {
+        super(width, height, false);
+        this.cellIndex = new LongIntHashMap(expectedCells);
+        this.cells = new ArrayList<>(expectedCells);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | col;
+    }
+
+    @Override
+    protected Cell cellAt(int row, int col) {
+        int index = cellIndex.get(key(row, col), NO_CELL);
+        return index == NO_CELL ? null : cells.get(index);
+    }
+
+    @Override
+    protected Cell materialize(int row, int col) {
+        long key = key(row, col);
+        int index = cellIndex.get(key, NO_CELL);
+        if (index != NO_CELL) {
+            return cells.get(index);
+        }
+        Cell cell = new Cell(new Position(row, col));
+        cellIndex.put(key, cells.size());
+        cells.add(cell);
+        return cell;
+    }
+
+    @Override
+    protected void resetCells() {
+        cellIndex.clear();
+        cells.clear();
+    }
+
+    /**
+     * Number of cells currently stored (ships plus shots)
+     */
+    public int getStoredCellCount() {
+        return cells.size();
+    }
+}
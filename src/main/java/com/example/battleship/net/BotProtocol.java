@@ -0,0 +1,115 @@
+package com.example.battleship.net;
+
+//Line protocol spoken between BotServer and bots
+
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.exceptions.InvalidShotException;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import java.util.StringJoiner;
+
+/**
+ * ASCII lines ending in '\n', fields separated by single spaces, rows and
+ * columns counted from 0. One game per connection:
+ * <pre>
+ * bot:    HELLO name [PLAYER|COMPUTER] [EASY|MEDIUM|HARD|EXPERT]
+ * server: GAME width height PLAYER|COMPUTER moveTimeoutMs shipSizes (comma separated)
+ * server: TURN msLeft                      bot: FIRE row col
+ * server: RESULT row col MISS|HIT|SUNK     (the bot's own shot)
+ * server: INCOMING row col MISS|HIT|SUNK   (the opponent's shot)
+ * server: END WIN|LOSS                     then the server closes the connection
+ * server: ERROR message                    after a bad HELLO, then closes
+ * </pre>
+ * The seat defaults to PLAYER, which moves first; the difficulty is that of
+ * the built-in AI on the other side. The server places the bot's ships at
+ * random. A FIRE that is late, malformed or at a cell already shot loses the game.
+ */
+public final class BotProtocol {
+
+    public static final String HELLO = "HELLO";
+    public static final String GAME = "GAME";
+    public static final String TURN = "TURN";
+    public static final String FIRE = "FIRE";
+    public static final String RESULT = "RESULT";
+    public static final String INCOMING = "INCOMING";
+    public static final String END = "END";
+    public static final String ERROR = "ERROR";
+
+    public static final String PLAYER = "PLAYER";
+    public static final String COMPUTER = "COMPUTER";
+    public static final String WIN = "WIN";
+    public static final String LOSS = "LOSS";
+
+    // Longest line either side may send
+    public static final int MAX_LINE_LENGTH = 256;
+
+    /**
+     * What a bot asked for in its HELLO
+     */
+    public record Hello(String name, boolean computerSide, Difficulty difficulty) {
+    }
+
+    private BotProtocol() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if line is not a valid HELLO
+     */
+    public static Hello parseHello(String line) {
+        String[] fields = line.split(" ");
+        if (fields.length < 2 || fields.length > 4 || !HELLO.equals(fields[0])) {
+            throw new IllegalArgumentException("Expected HELLO name [PLAYER|COMPUTER] [difficulty]: " + line);
+        }
+        String seat = fields.length > 2 ? fields[2] : PLAYER;
+        if (!PLAYER.equals(seat) && !COMPUTER.equals(seat)) {
+            throw new IllegalArgumentException("Unknown seat " + seat);
+        }
+        Difficulty difficulty = fields.length > 3 ? Difficulty.valueOf(fields[3]) : Difficulty.MEDIUM;
+        return new Hello(fields[1], COMPUTER.equals(seat), difficulty);
+    }
+
+    public static String game(GameConfig config, boolean computerSide, long moveTimeoutMillis) {
+        StringJoiner sizes = new StringJoiner(",");
+        for (Ship ship : config.createFleet()) {
+            sizes.add(String.valueOf(ship.getSize()));
+        }
+        return GAME + " " + config.getWidth() + " " + config.getHeight() + " "
+                + (computerSide ? COMPUTER : PLAYER) + " " + moveTimeoutMillis + " " + sizes;
+    }
+
+    public static String turn(long millisLeft) {
+        return TURN + " " + millisLeft;
+    }
+
+    public static String fire(Position position) {
+        return FIRE + " " + position.getRow() + " " + position.getCol();
+    }
+
+    /**
+     * RESULT or INCOMING line for a resolved shot
+     */
+    public static String shot(boolean own, Position position, Board.ShotResult result) {
+        return (own ? RESULT : INCOMING) + " " + position.getRow() + " " + position.getCol() + " " + result;
+    }
+
+    public static String end(boolean won) {
+        return END + " " + (won ? WIN : LOSS);
+    }
+
+    /**
+     * Target of a FIRE line; bounds are checked by the controller
+     */
+    public static Position parseFire(String line) throws InvalidShotException {
+        String[] fields = line.split(" ");
+        if (fields.length != 3 || !FIRE.equals(fields[0])) {
+            throw new InvalidShotException("Expected FIRE row col: " + line);
+        }
+        try {
+            return new Position(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]));
+        } catch (NumberFormatException e) {
+            throw new InvalidShotException("Expected FIRE row col: " + line, e);
+        }
+    }
+}
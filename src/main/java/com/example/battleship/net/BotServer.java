@@ -0,0 +1,103 @@
+package com.example.battleship.net;
+
+//Loopback server where external bots play the built-in AI
+
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.util.Constants;
+import com.example.battleship.util.GameLogger;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepts bot connections on the loopback interface and plays one game per
+ * connection (see BotProtocol). Each connection gets a virtual thread, so
+ * hundreds of bots can play at once while blocked on their sockets.
+ * Usage: BotServer [--port N] [--timeout-ms N]
+ */
+public class BotServer implements AutoCloseable {
+
+    private static final GameLogger LOG = GameLogger.getLogger(BotServer.class);
+    private static final int BACKLOG = 512;
+
+    private final GameConfig config;
+    private final long moveTimeoutMillis;
+    private final ServerSocket serverSocket;
+    private final ThreadFactory sessionThreads = Thread.ofVirtual().name("bot-session-", 0).factory();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private Thread acceptor;
+
+    /**
+     * @param port 0 picks a free port
+     */
+    public BotServer(GameConfig config, int port, long moveTimeoutMillis) throws IOException {
+        this.config = config;
+        this.moveTimeoutMillis = moveTimeoutMillis;
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+    }
+
+    public synchronized void start() {
+        if (acceptor == null) {
+            acceptor = Thread.ofPlatform().name("bot-acceptor").start(this::acceptLoop);
+            LOG.info("Bot server listening on " + serverSocket.getLocalSocketAddress());
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                activeSessions.incrementAndGet();
+                sessionThreads.newThread(() -> {
+                    try {
+                        new BotSession(socket, config, moveTimeoutMillis).run();
+                    } finally {
+                        activeSessions.decrementAndGet();
+                    }
+                }).start();
+            } catch (SocketException e) {
+                // Closed by close()
+            } catch (IOException e) {
+                LOG.warn("Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Games in progress
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Stop accepting; games in progress play on
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = Constants.BOT_PORT;
+        long timeout = Constants.BOT_MOVE_TIMEOUT_MS;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(args[i + 1]);
+                case "--timeout-ms" -> timeout = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        BotServer server = new BotServer(GameConfig.defaultConfig(), port, timeout);
+        server.start();
+        server.acceptor.join();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.battleship.net;
+
+//One bot connection playing one game
+
+import com.example.battleship.controller.AIPlayerAgent;
+import com.example.battleship.controller.GameController;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.GameState;
+import com.example.battleship.util.GameLogger;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the bot's HELLO, seats it in a headless GameController against the
+ * built-in AI and waits for the game to end. Runs on its own virtual thread;
+ * the controller's turns run on virtual threads too.
+ */
+final class BotSession implements Runnable {
+
+    private static final GameLogger LOG = GameLogger.getLogger(BotSession.class);
+
+    private final Socket socket;
+    private final GameConfig config;
+    private final long moveTimeoutMillis;
+
+    BotSession(Socket socket, GameConfig config, long moveTimeoutMillis) {
+        this.socket = socket;
+        this.config = config;
+        this.moveTimeoutMillis = moveTimeoutMillis;
+    }
+
+    @Override
+    public void run() {
+        GameController controller = null;
+        try (LineChannel channel = new LineChannel(socket)) {
+            BotProtocol.Hello hello;
+            try {
+                hello = BotProtocol.parseHello(channel.readLine(moveTimeoutMillis));
+            } catch (IllegalArgumentException e) {
+                channel.writeLine(BotProtocol.ERROR + " " + e.getMessage());
+                return;
+            }
+
+            GameState gameState = new GameState(config);
+            controller = new GameController(gameState, Executors::newVirtualThreadPerTaskExecutor);
+            controller.setAutoSave(false);
+            controller.setThinkingDelayMillis(0);
+            controller.setMoveTimeoutMillis(moveTimeoutMillis);
+            controller.setDifficulty(hello.difficulty());
+
+            RemoteBotAgent bot = new RemoteBotAgent(channel, hello.computerSide());
+            gameState.getEvents().subscribe(bot);
+            if (hello.computerSide()) {
+                AIPlayerAgent ai = new AIPlayerAgent(gameState, false, hello.difficulty());
+                gameState.getEvents().subscribe(ai);
+                controller.setPlayerAgent(ai);
+                controller.setComputerAgent(bot);
+            } else {
+                controller.setPlayerAgent(bot);
+            }
+            if (!controller.getShipPlacementController().placeRemainingRandomly(new Random())) {
+                channel.writeLine(BotProtocol.ERROR + " Could not place the fleet");
+                return;
+            }
+
+            channel.writeLine(BotProtocol.game(config, hello.computerSide(), moveTimeoutMillis));
+            controller.startGame();
+            // Every turn either moves or forfeits within the timeout, so this only trips on a stuck game
+            long limit = moveTimeoutMillis * config.getCellCount() * 2;
+            if (!bot.awaitEnd(limit, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Bot game with " + hello.name() + " did not finish in " + limit + " ms");
+                channel.writeLine(BotProtocol.ERROR + " Game did not finish");
+                return;
+            }
+            LOG.info("Bot " + hello.name() + (bot.hasWon() ? " won" : " lost"));
+        } catch (IOException e) {
+            LOG.debug(() -> "Bot connection ended: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (controller != null) {
+                controller.shutdown();
+            }
+        }
+    }
+}
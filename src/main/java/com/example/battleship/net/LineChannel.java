@@ -0,0 +1,64 @@
+package com.example.battleship.net;
+
+//Bounded ASCII lines over a socket
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads lines with a per-call timeout and a length limit, and writes whole
+ * lines atomically, so events and turn prompts from different threads never interleave.
+ */
+final class LineChannel implements Closeable {
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    LineChannel(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new BufferedInputStream(socket.getInputStream());
+        this.out = socket.getOutputStream();
+    }
+
+    /**
+     * Next line without its terminator
+     * @throws java.net.SocketTimeoutException if no full line arrived within timeoutMillis
+     */
+    String readLine(long timeoutMillis) throws IOException {
+        socket.setSoTimeout((int) Math.max(1, Math.min(timeoutMillis, Integer.MAX_VALUE)));
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Connection closed");
+            }
+            if (b == '\n') {
+                return line.toString();
+            }
+            if (b != '\r') {
+                if (line.length() == BotProtocol.MAX_LINE_LENGTH) {
+                    throw new IOException("Line longer than " + BotProtocol.MAX_LINE_LENGTH + " characters");
+                }
+                line.append((char) b);
+            }
+        }
+    }
+
+    synchronized void writeLine(String line) throws IOException {
+        out.write((line + "\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
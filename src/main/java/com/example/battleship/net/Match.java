@@ -0,0 +1,151 @@
+package com.example.battleship.net;
+
+//Authoritative state of one server-hosted match
+
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.controller.AIStrategy;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import java.util.concurrent.Executor;
+
+/**
+ * Two seats, each with its own board; seat 0 fires first. A seat is either a
+ * client connection or, for seat 1, the built-in AI, whose moves run on the
+ * AI executor. Every state change is synchronized on the match, so shots from
+ * the selector thread, AI moves and disconnects apply one at a time; the AI
+ * thinks outside the lock. Only one AI move is ever scheduled at a time.
+ */
+final class Match {
+
+    private static final int AI_SEAT = 1;
+
+    private final int id;
+    private final GameConfig config;
+    private final MatchConnection[] seats;
+    private final Board[] boards;
+    private final AIStrategy ai;
+    private final Executor aiExecutor;
+    private final Runnable onEnd;
+    private int turn;
+    private boolean over;
+
+    /**
+     * @param second the other client, or null to play the AI
+     */
+    Match(int id, GameConfig config, MatchConnection first, Board firstBoard, MatchConnection second,
+          Board secondBoard, Difficulty difficulty, Executor aiExecutor, Runnable onEnd) {
+        this.id = id;
+        this.config = config;
+        this.seats = new MatchConnection[] {first, second};
+        this.boards = new Board[] {firstBoard, secondBoard};
+        this.aiExecutor = aiExecutor;
+        this.onEnd = onEnd;
+        if (second == null) {
+            ai = new AIStrategy(config);
+            ai.setDifficulty(difficulty);
+            ai.placeShipsRandomly(secondBoard, config.createFleet());
+        } else {
+            ai = null;
+        }
+    }
+
+    synchronized void start() {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] != null) {
+                seats[seat].match = this;
+                seats[seat].seat = seat;
+                seats[seat].send(WireFormat.start(id, config, seat == turn, ai != null));
+            }
+        }
+    }
+
+    /**
+     * Apply a shot by seat; illegal shots are answered with ERROR and change nothing
+     */
+    synchronized void fire(int seat, Position position) {
+        if (over) {
+            reject(seat, WireFormat.ERROR_NOT_IN_MATCH);
+            return;
+        }
+        if (seat != turn) {
+            reject(seat, WireFormat.ERROR_NOT_YOUR_TURN);
+            return;
+        }
+        Board target = boards[1 - seat];
+        if (!target.isValidPosition(position) || target.isShot(position.getRow(), position.getCol())) {
+            reject(seat, WireFormat.ERROR_INVALID_SHOT);
+            return;
+        }
+        Board.ShotResult result = target.receiveShot(position);
+        Ship ship = target.getShipAt(position.getRow(), position.getCol());
+        if (seat == AI_SEAT && ai != null) {
+            ai.recordResult(position, result, ship);
+        }
+        if (result == Board.ShotResult.MISS) {
+            turn = 1 - seat;
+        }
+        boolean won = target.allShipsSunk();
+        Ship sunk = result == Board.ShotResult.SUNK ? ship : null;
+        for (int s = 0; s < seats.length && !over; s++) {
+            if (seats[s] != null) {
+                seats[s].send(WireFormat.shot(s == seat, position, result, sunk, !won && s == turn));
+            }
+        }
+        // A failed send above may already have ended the match
+        if (over) {
+            return;
+        }
+        if (won) {
+            end(seat, WireFormat.END_FLEET_SUNK, WireFormat.END_FLEET_SUNK);
+        } else if (seats[turn] == null) {
+            aiExecutor.execute(this::aiTurn);
+        }
+    }
+
+    /**
+     * Choose the AI's shot without holding the match: HARD and EXPERT sample
+     * for up to their move budget, and a LEAVE or disconnect meanwhile must not
+     * block the selector thread. fire() re-checks that the match is still on
+     * and that it is still the AI's turn.
+     */
+    private void aiTurn() {
+        synchronized (this) {
+            if (over || turn != AI_SEAT) {
+                return;
+            }
+        }
+        fire(AI_SEAT, ai.generateShot());
+    }
+
+    /**
+     * Seat gave up or disconnected; the other seat wins
+     */
+    synchronized void leave(int seat) {
+        if (!over) {
+            end(1 - seat, WireFormat.END_OPPONENT_LEFT, WireFormat.END_YOU_LEFT);
+        }
+    }
+
+    private void end(int winner, byte winnerReason, byte loserReason) {
+        over = true;
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] != null) {
+                seats[seat].match = null;
+                seats[seat].send(WireFormat.end(seat == winner, seat == winner ? winnerReason : loserReason));
+            }
+        }
+        onEnd.run();
+    }
+
+    private void reject(int seat, byte code) {
+        if (seats[seat] != null) {
+            seats[seat].send(WireFormat.error(code));
+        }
+    }
+
+    int getId() {
+        return id;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.battleship.net;
+
+//Client end of a MatchServer connection
+
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.controller.MatchLink;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.Constants;
+import com.example.battleship.util.GameLogger;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Connects to a MatchServer and turns its frames into MatchLink.Listener
+ * calls on a virtual reader thread. One connection can play any number of
+ * matches, one at a time.
+ */
+public class MatchClient implements MatchLink {
+
+    private static final GameLogger LOG = GameLogger.getLogger(MatchClient.class);
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final OutputStream out;
+    private final boolean vsAi;
+    // Listeners of the matches joined here, oldest first. The server closes
+    // every accepted JOIN with one END, so a frame belongs to the head, even
+    // when a new match was joined before the old one's END arrived.
+    private final Deque<Listener> sessions = new ConcurrentLinkedDeque<>();
+    private Thread reader;
+
+    /**
+     * @param vsAi play the server's AI instead of waiting for a human opponent
+     */
+    public MatchClient(String host, int port, boolean vsAi) throws IOException {
+        this.socket = new Socket();
+        socket.connect(new InetSocketAddress(host, port), Constants.SERVER_CONNECT_TIMEOUT_MS);
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = socket.getOutputStream();
+        this.vsAi = vsAi;
+    }
+
+    /**
+     * Split a host:port server address ([::1]:7879 for IPv6 literals)
+     * @throws IllegalArgumentException naming what is wrong with the address
+     */
+    public static InetSocketAddress parseAddress(String hostPort) {
+        int colon = hostPort.lastIndexOf(':');
+        if (colon <= 0 || colon == hostPort.length() - 1) {
+            throw new IllegalArgumentException("Server address must be host:port, got \"" + hostPort + "\"");
+        }
+        String host = hostPort.substring(0, colon);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        int port;
+        try {
+            port = Integer.parseInt(hostPort.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Server port must be a number, got \"" + hostPort.substring(colon + 1) + "\"");
+        }
+        if (port < 1 || port > 65535) {
+            throw new IllegalArgumentException("Server port must be 1 to 65535, got " + port);
+        }
+        return InetSocketAddress.createUnresolved(host, port);
+    }
+
+    @Override
+    public void join(List<Ship> fleet, Difficulty difficulty, Listener listener) throws IOException {
+        sessions.add(listener);
+        synchronized (this) {
+            if (reader == null) {
+                reader = Thread.ofVirtual().name("match-client").start(this::readLoop);
+            }
+        }
+        try {
+            send(WireFormat.join(vsAi, difficulty, fleet));
+        } catch (IOException e) {
+            sessions.removeLastOccurrence(listener);
+            throw e;
+        }
+    }
+
+    @Override
+    public void fire(Position position) throws IOException {
+        send(WireFormat.fire(position));
+    }
+
+    @Override
+    public void leave() throws IOException {
+        send(WireFormat.leave());
+    }
+
+    private synchronized void send(ByteBuffer frame) throws IOException {
+        out.write(frame.array(), frame.position(), frame.remaining());
+        out.flush();
+    }
+
+    private void readLoop() {
+        try {
+            byte[] frame = new byte[WireFormat.MAX_FRAME];
+            while (true) {
+                int length = in.readUnsignedShort();
+                if (length == 0 || length > WireFormat.MAX_FRAME) {
+                    throw new IOException("Bad frame length " + length);
+                }
+                in.readFully(frame, 0, length);
+                dispatch(ByteBuffer.wrap(frame, 0, length));
+            }
+        } catch (IOException e) {
+            LOG.debug(() -> "Match connection closed: " + e.getMessage());
+            for (Listener session = sessions.poll(); session != null; session = sessions.poll()) {
+                session.matchEnded(false, "connection lost");
+            }
+        }
+    }
+
+    private void dispatch(ByteBuffer frame) {
+        Listener listener = sessions.peek();
+        if (listener == null) {
+            LOG.warn("Ignoring a frame outside any match");
+            return;
+        }
+        switch (frame.get()) {
+            case WireFormat.WAITING -> LOG.info("Waiting for an opponent");
+            case WireFormat.START -> {
+                int matchId = frame.getInt();
+                frame.getShort();
+                frame.getShort();
+                int flags = frame.get();
+                LOG.info("Joined match " + matchId + ((flags & WireFormat.OPPONENT_AI) != 0 ? " against the AI" : ""));
+                listener.matchStarted((flags & WireFormat.YOUR_TURN) != 0);
+            }
+            case WireFormat.SHOT -> {
+                int flags = frame.get();
+                Position position = WireFormat.readPosition(frame);
+                Board.ShotResult result = Board.ShotResult.values()[frame.get()];
+                Ship sunk = result == Board.ShotResult.SUNK ? WireFormat.readShip(frame) : null;
+                listener.shotResolved((flags & WireFormat.BY_YOU) != 0, position, result, sunk,
+                        (flags & WireFormat.YOUR_TURN) != 0);
+            }
+            case WireFormat.END -> {
+                boolean won = frame.get() != 0;
+                sessions.poll();
+                listener.matchEnded(won, WireFormat.endReason(frame.get()));
+            }
+            case WireFormat.ERROR -> {
+                byte code = frame.get();
+                // A refused JOIN never gets an END; it was the latest one sent
+                Listener refused = WireFormat.isJoinError(code) ? sessions.pollLast() : listener;
+                refused.rejected(WireFormat.errorMessage(code));
+            }
+            default -> LOG.warn("Ignoring unknown frame type");
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            LOG.debug(() -> "Close failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.battleship.net;
+
+//One client socket of the match server
+
+import com.example.battleship.model.Board;
+import com.example.battleship.util.GameLogger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.function.BiConsumer;
+
+/**
+ * Non-blocking framing for one client. Reads happen on the selector thread;
+ * send() may be called from any thread and writes straight to the socket,
+ * queueing only what the socket buffer cannot take yet.
+ */
+final class MatchConnection {
+
+    private static final GameLogger LOG = GameLogger.getLogger(MatchConnection.class);
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer in = ByteBuffer.allocate(WireFormat.HEADER + WireFormat.MAX_FRAME);
+    private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+    private final Runnable onClose;
+    private volatile boolean closed;
+    // Set by the selector thread on JOIN, cleared when the match ends
+    volatile Match match;
+    volatile int seat;
+    // Fleet of a client waiting for a human opponent
+    Board waitingBoard;
+
+    MatchConnection(SocketChannel channel, SelectionKey key, Runnable onClose) {
+        this.channel = channel;
+        this.key = key;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Read what has arrived and pass each complete frame (type byte first) to handler
+     */
+    void read(BiConsumer<MatchConnection, ByteBuffer> handler) {
+        try {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+        } catch (IOException e) {
+            close();
+            return;
+        }
+        in.flip();
+        while (!closed && in.remaining() >= WireFormat.HEADER) {
+            int length = in.getShort(in.position()) & 0xFFFF;
+            if (length == 0 || length > WireFormat.MAX_FRAME) {
+                send(WireFormat.error(WireFormat.ERROR_BAD_FRAME));
+                close();
+                return;
+            }
+            if (in.remaining() < WireFormat.HEADER + length) {
+                break;
+            }
+            int start = in.position() + WireFormat.HEADER;
+            in.position(start + length);
+            handler.accept(this, in.slice(start, length));
+        }
+        in.compact();
+    }
+
+    void send(ByteBuffer frame) {
+        boolean failed = false;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            try {
+                if (out.isEmpty()) {
+                    channel.write(frame);
+                    if (!frame.hasRemaining()) {
+                        return;
+                    }
+                }
+                out.add(frame);
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } catch (IOException e) {
+                LOG.debug(() -> "Write failed: " + e.getMessage());
+                closeChannel();
+                failed = true;
+            }
+        }
+        if (failed) {
+            onClose.run();
+        } else {
+            key.selector().wakeup();
+        }
+    }
+
+    /**
+     * Write queued frames once the socket can take them (selector thread)
+     */
+    void flush() {
+        synchronized (this) {
+            try {
+                while (!out.isEmpty()) {
+                    ByteBuffer frame = out.peek();
+                    channel.write(frame);
+                    if (frame.hasRemaining()) {
+                        return;
+                    }
+                    out.poll();
+                }
+                key.interestOps(SelectionKey.OP_READ);
+                return;
+            } catch (IOException e) {
+                closeChannel();
+            }
+        }
+        onClose.run();
+    }
+
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closeChannel();
+        }
+        onClose.run();
+    }
+
+    private void closeChannel() {
+        closed = true;
+        out.clear();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.debug(() -> "Close failed: " + e.getMessage());
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.battleship.net;
+
+//Headless server hosting many matches over non-blocking sockets
+
+import com.example.battleship.controller.AIStrategy;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.Constants;
+import com.example.battleship.util.GameLogger;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts human-vs-human and human-vs-AI matches (see WireFormat). One selector
+ * thread does all socket reads and applies the clients' moves; AI moves run
+ * on virtual threads. The server owns every board, so clients only ever see
+ * what their shots and their opponent's shots revealed.
+ * Usage: MatchServer [--host ADDRESS] [--port N]; binds to loopback by default.
+ */
+public class MatchServer implements AutoCloseable {
+
+    private static final GameLogger LOG = GameLogger.getLogger(MatchServer.class);
+    private static final int BACKLOG = 4096;
+
+    private final GameConfig config;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService aiExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // Clients waiting for a human opponent; selector thread only
+    private final ArrayDeque<MatchConnection> waiting = new ArrayDeque<>();
+    private volatile int waitingPlayers;
+    private final AtomicInteger nextMatchId = new AtomicInteger(1);
+    private final AtomicInteger activeMatches = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+    private volatile boolean running = true;
+    private Thread loop;
+
+    public MatchServer(GameConfig config, InetSocketAddress address) throws IOException {
+        this.config = config;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, BACKLOG);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public synchronized void start() {
+        if (loop == null) {
+            loop = Thread.ofPlatform().name("match-server").start(this::run);
+            LOG.info("Match server listening on " + serverChannel.socket().getLocalSocketAddress());
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        MatchConnection connection = (MatchConnection) key.attachment();
+                        if (key.isWritable()) {
+                            connection.flush();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            connection.read(this::handle);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Match server stopped: " + e.getMessage(), e);
+        } finally {
+            closeChannels();
+        }
+    }
+
+    private void closeChannels() {
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException e) {
+                LOG.debug(() -> "Close failed: " + e.getMessage());
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOG.debug(() -> "Close failed: " + e.getMessage());
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            MatchConnection[] holder = new MatchConnection[1];
+            holder[0] = new MatchConnection(channel, key, () -> disconnected(holder[0]));
+            key.attach(holder[0]);
+            connections.incrementAndGet();
+        }
+    }
+
+    private void disconnected(MatchConnection connection) {
+        connections.decrementAndGet();
+        Match match = connection.match;
+        if (match != null) {
+            match.leave(connection.seat);
+        }
+    }
+
+    private void handle(MatchConnection connection, ByteBuffer frame) {
+        try {
+            switch (frame.get()) {
+                case WireFormat.JOIN -> join(connection, WireFormat.readJoin(frame));
+                case WireFormat.FIRE -> {
+                    Match match = connection.match;
+                    if (match == null) {
+                        connection.send(WireFormat.error(WireFormat.ERROR_NOT_IN_MATCH));
+                    } else {
+                        match.fire(connection.seat, WireFormat.readPosition(frame));
+                    }
+                }
+                case WireFormat.LEAVE -> {
+                    Match match = connection.match;
+                    if (match != null) {
+                        match.leave(connection.seat);
+                    } else if (waiting.remove(connection)) {
+                        connection.waitingBoard = null;
+                        waitingPlayers = waiting.size();
+                        connection.send(WireFormat.end(false, WireFormat.END_YOU_LEFT));
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown frame type");
+            }
+        } catch (RuntimeException e) {
+            LOG.debug(() -> "Bad frame: " + e.getMessage());
+            connection.send(WireFormat.error(WireFormat.ERROR_BAD_FRAME));
+            connection.close();
+        }
+    }
+
+    private void join(MatchConnection connection, WireFormat.Join join) {
+        if (connection.match != null || waiting.contains(connection)) {
+            connection.send(WireFormat.error(WireFormat.ERROR_IN_MATCH));
+            return;
+        }
+        Board board = placeFleet(join.ships());
+        if (board == null) {
+            connection.send(WireFormat.error(WireFormat.ERROR_BAD_FLEET));
+            return;
+        }
+        if (join.vsAi()) {
+            startMatch(connection, board, null, Board.create(config), join);
+            return;
+        }
+        MatchConnection opponent = waiting.poll();
+        while (opponent != null && opponent.isClosed()) {
+            opponent = waiting.poll();
+        }
+        if (opponent == null) {
+            connection.waitingBoard = board;
+            waiting.add(connection);
+            connection.send(WireFormat.waiting());
+        } else {
+            Board opponentBoard = opponent.waitingBoard;
+            opponent.waitingBoard = null;
+            startMatch(opponent, opponentBoard, connection, board, join);
+        }
+        waitingPlayers = waiting.size();
+    }
+
+    private void startMatch(MatchConnection first, Board firstBoard, MatchConnection second, Board secondBoard,
+                            WireFormat.Join join) {
+        activeMatches.incrementAndGet();
+        new Match(nextMatchId.getAndIncrement(), config, first, firstBoard, second, secondBoard,
+                join.difficulty(), aiExecutor, activeMatches::decrementAndGet).start();
+    }
+
+    /**
+     * The client's fleet on a fresh board, or null if it is not exactly the
+     * game's fleet; no ships means place them at random
+     */
+    private Board placeFleet(List<WireFormat.Placement> placements) {
+        Board board = Board.create(config);
+        List<Ship> fleet = config.createFleet();
+        if (placements.isEmpty()) {
+            new AIStrategy(config).placeShipsRandomly(board, fleet);
+            return board.shipCount() == fleet.size() ? board : null;
+        }
+        if (placements.size() != fleet.size()) {
+            return null;
+        }
+        for (WireFormat.Placement placement : placements) {
+            Ship ship = fleet.stream()
+                    .filter(candidate -> candidate.getType() == placement.type() && !candidate.isPlaced())
+                    .findFirst().orElse(null);
+            if (ship == null || !board.placeShip(ship, new Position(placement.row(), placement.col()),
+                    placement.horizontal())) {
+                return null;
+            }
+        }
+        return board;
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int getActiveMatches() {
+        return activeMatches.get();
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Clients queued for a human opponent, as of the last join
+     */
+    public int getWaitingPlayers() {
+        return waitingPlayers;
+    }
+
+    /**
+     * Stop accepting and drop every connection
+     */
+    @Override
+    public void close() {
+        running = false;
+        Thread thread;
+        synchronized (this) {
+            thread = loop;
+        }
+        if (thread == null) {
+            closeChannels();
+        } else {
+            selector.wakeup();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        aiExecutor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        int port = Constants.MATCH_PORT;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--host" -> host = args[i + 1];
+                case "--port" -> port = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        MatchServer server = new MatchServer(GameConfig.defaultConfig(), new InetSocketAddress(host, port));
+        server.start();
+        server.loop.join();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.battleship.net;
+
+//A bot on the other end of a socket as a player agent
+
+import com.example.battleship.controller.PlayerAgent;
+import com.example.battleship.exceptions.InvalidShotException;
+import com.example.battleship.exceptions.MoveTimeoutException;
+import com.example.battleship.model.GameState;
+import com.example.battleship.model.Position;
+import com.example.battleship.patterns.GameEvent;
+import com.example.battleship.patterns.GameEventListener;
+import com.example.battleship.util.GameLogger;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asks the bot for each shot with TURN and forwards every resolved shot and
+ * the end of the game to it. Subscribe it to the game's event bus.
+ */
+public class RemoteBotAgent implements PlayerAgent, GameEventListener {
+
+    private static final GameLogger LOG = GameLogger.getLogger(RemoteBotAgent.class);
+
+    private final LineChannel channel;
+    private final boolean computerSide;
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile boolean won;
+
+    RemoteBotAgent(LineChannel channel, boolean computerSide) {
+        this.channel = channel;
+        this.computerSide = computerSide;
+    }
+
+    @Override
+    public Position chooseShot(GameState gameState, boolean computerSide, long deadlineNanos)
+            throws MoveTimeoutException, InvalidShotException {
+        long millisLeft = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (millisLeft <= 0) {
+            throw new MoveTimeoutException("No time left for the bot's move");
+        }
+        String line;
+        try {
+            channel.writeLine(BotProtocol.turn(millisLeft));
+            line = channel.readLine(millisLeft);
+        } catch (SocketTimeoutException e) {
+            throw new MoveTimeoutException("Bot gave no move within " + millisLeft + " ms", e);
+        } catch (IOException e) {
+            throw new MoveTimeoutException("Bot connection lost: " + e.getMessage(), e);
+        }
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new MoveTimeoutException("Bot move arrived after the deadline");
+        }
+        return BotProtocol.parseFire(line);
+    }
+
+    @Override
+    public void onEvents(List<GameEvent> events) {
+        for (GameEvent event : events) {
+            if (event instanceof GameEvent.ShotResolved shot) {
+                send(BotProtocol.shot(shot.byComputer() == computerSide, shot.position(), shot.result()));
+            } else if (event instanceof GameEvent.GameOver over && over.over()) {
+                won = (computerSide ? "Computer" : "Player").equals(over.winner());
+                send(BotProtocol.end(won));
+                finished.countDown();
+            }
+        }
+    }
+
+    /**
+     * Notifications are best effort; a dead bot forfeits at its next turn
+     */
+    private void send(String line) {
+        try {
+            channel.writeLine(line);
+        } catch (IOException e) {
+            LOG.debug(() -> "Could not send to bot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Wait for the game to end; false on timeout
+     */
+    public boolean awaitEnd(long timeout, TimeUnit unit) throws InterruptedException {
+        return finished.await(timeout, unit);
+    }
+
+    public boolean hasWon() {
+        return won;
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.battleship.net;
+
+//Binary frames between MatchServer and its clients
+
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import com.example.battleship.model.ShipType;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every frame is a big-endian u16 length of the rest, a u8 type and the payload:
+ * <pre>
+ * client  JOIN   u8 opponent (0 human, 1 AI), u8 difficulty, u8 ships,
+ *                per ship u8 type, u16 row, u16 col, u8 horizontal (0 ships: server places them)
+ * client  FIRE   u16 row, u16 col
+ * client  LEAVE  -
+ * server  WAITING -
+ * server  START  u32 match id, u16 width, u16 height, u8 flags (YOUR_TURN, OPPONENT_AI)
+ * server  SHOT   u8 flags (BY_YOU, YOUR_TURN), u16 row, u16 col, u8 result,
+ *                and after SUNK: u8 type, u16 row, u16 col, u8 horizontal of the sunk ship
+ * server  END    u8 you won, u8 reason
+ * server  ERROR  u8 code
+ * </pre>
+ * Enum values travel as ordinals. A shot is 7 bytes on the wire and its result 9 (15 with a sunk ship).
+ * Every accepted JOIN is closed by exactly one END, including a LEAVE while
+ * still waiting; a refused JOIN gets ERROR BAD_FLEET or IN_MATCH instead.
+ */
+public final class WireFormat {
+
+    public static final int HEADER = 2;
+    public static final int MAX_FRAME = 1024;
+
+    public static final byte JOIN = 0x01;
+    public static final byte FIRE = 0x02;
+    public static final byte LEAVE = 0x03;
+    public static final byte WAITING = 0x10;
+    public static final byte START = 0x11;
+    public static final byte SHOT = 0x12;
+    public static final byte END = 0x13;
+    public static final byte ERROR = 0x14;
+
+    public static final int YOUR_TURN = 1;
+    public static final int OPPONENT_AI = 2;
+    public static final int BY_YOU = 2;
+
+    public static final byte END_FLEET_SUNK = 0;
+    public static final byte END_OPPONENT_LEFT = 1;
+    public static final byte END_YOU_LEFT = 2;
+
+    public static final byte ERROR_BAD_FRAME = 1;
+    public static final byte ERROR_BAD_FLEET = 2;
+    public static final byte ERROR_NOT_YOUR_TURN = 3;
+    public static final byte ERROR_INVALID_SHOT = 4;
+    public static final byte ERROR_NOT_IN_MATCH = 5;
+    public static final byte ERROR_IN_MATCH = 6;
+
+    /**
+     * One ship of a JOIN
+     */
+    public record Placement(ShipType type, int row, int col, boolean horizontal) {
+    }
+
+    public record Join(boolean vsAi, Difficulty difficulty, List<Placement> ships) {
+    }
+
+    private WireFormat() {
+    }
+
+    private static ByteBuffer frame(byte type, int payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER + 1 + payload);
+        buffer.putShort((short) (1 + payload));
+        return buffer.put(type);
+    }
+
+    public static ByteBuffer join(boolean vsAi, Difficulty difficulty, List<Ship> fleet) {
+        List<Ship> placed = fleet.stream().filter(Ship::isPlaced).toList();
+        ByteBuffer buffer = frame(JOIN, 3 + 6 * placed.size())
+                .put((byte) (vsAi ? 1 : 0))
+                .put((byte) difficulty.ordinal())
+                .put((byte) placed.size());
+        for (Ship ship : placed) {
+            putShip(buffer, ship);
+        }
+        return buffer.flip();
+    }
+
+    public static ByteBuffer fire(Position position) {
+        return frame(FIRE, 4).putShort((short) position.getRow()).putShort((short) position.getCol()).flip();
+    }
+
+    public static ByteBuffer leave() {
+        return frame(LEAVE, 0).flip();
+    }
+
+    public static ByteBuffer waiting() {
+        return frame(WAITING, 0).flip();
+    }
+
+    public static ByteBuffer start(int matchId, GameConfig config, boolean yourTurn, boolean opponentAi) {
+        return frame(START, 9).putInt(matchId)
+                .putShort((short) config.getWidth()).putShort((short) config.getHeight())
+                .put((byte) ((yourTurn ? YOUR_TURN : 0) | (opponentAi ? OPPONENT_AI : 0)))
+                .flip();
+    }
+
+    /**
+     * @param sunk the ship a SUNK shot finished, else null
+     */
+    public static ByteBuffer shot(boolean byYou, Position position, Board.ShotResult result, Ship sunk,
+                                  boolean yourTurn) {
+        ByteBuffer buffer = frame(SHOT, sunk == null ? 6 : 12)
+                .put((byte) ((byYou ? BY_YOU : 0) | (yourTurn ? YOUR_TURN : 0)))
+                .putShort((short) position.getRow()).putShort((short) position.getCol())
+                .put((byte) result.ordinal());
+        if (sunk != null) {
+            putShip(buffer, sunk);
+        }
+        return buffer.flip();
+    }
+
+    public static ByteBuffer end(boolean youWon, byte reason) {
+        return frame(END, 2).put((byte) (youWon ? 1 : 0)).put(reason).flip();
+    }
+
+    public static ByteBuffer error(byte code) {
+        return frame(ERROR, 1).put(code).flip();
+    }
+
+    private static void putShip(ByteBuffer buffer, Ship ship) {
+        buffer.put((byte) ship.getType().ordinal())
+                .putShort((short) ship.getStartRow()).putShort((short) ship.getStartCol())
+                .put((byte) (ship.isHorizontal() ? 1 : 0));
+    }
+
+    /**
+     * Payload of a JOIN frame (after the type byte)
+     * @throws IllegalArgumentException if it is malformed
+     */
+    public static Join readJoin(ByteBuffer payload) {
+        try {
+            boolean vsAi = payload.get() != 0;
+            Difficulty difficulty = Difficulty.values()[payload.get() & 0xFF];
+            int count = payload.get() & 0xFF;
+            List<Placement> ships = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Ship ship = readShip(payload);
+                ships.add(new Placement(ship.getType(), ship.getStartRow(), ship.getStartCol(), ship.isHorizontal()));
+            }
+            return new Join(vsAi, difficulty, ships);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed JOIN", e);
+        }
+    }
+
+    public static Position readPosition(ByteBuffer payload) {
+        return new Position(payload.getShort() & 0xFFFF, payload.getShort() & 0xFFFF);
+    }
+
+    /**
+     * Ship written by putShip, placed (not on any board) where it lies
+     */
+    public static Ship readShip(ByteBuffer payload) {
+        Ship ship = new Ship(ShipType.values()[payload.get() & 0xFF]);
+        int row = payload.getShort() & 0xFFFF;
+        int col = payload.getShort() & 0xFFFF;
+        ship.place(row, col, payload.get() != 0);
+        return ship;
+    }
+
+    public static String endReason(byte reason) {
+        return switch (reason) {
+            case END_OPPONENT_LEFT -> "opponent left";
+            case END_YOU_LEFT -> "you left";
+            default -> "fleet sunk";
+        };
+    }
+
+    /**
+     * True for the errors that refuse a JOIN rather than a shot
+     */
+    public static boolean isJoinError(byte code) {
+        return code == ERROR_BAD_FLEET || code == ERROR_IN_MATCH;
+    }
+
+    public static String errorMessage(byte code) {
+        return switch (code) {
+            case ERROR_BAD_FRAME -> "Malformed frame";
+            case ERROR_BAD_FLEET -> "Fleet does not fit the board or the game's ships";
+            case ERROR_NOT_YOUR_TURN -> "Not your turn";
+            case ERROR_INVALID_SHOT -> "Position out of bounds or already shot";
+            case ERROR_NOT_IN_MATCH -> "Not in a match";
+            case ERROR_IN_MATCH -> "Already in a match";
+            default -> "Error " + code;
+        };
+    }
+}
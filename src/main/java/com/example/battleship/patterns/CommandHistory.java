@@ -0,0 +1,98 @@
+package com.example.battleship.patterns;
+
+//Undo/redo history of encoded commands
+
+/**
+ * Fixed-size ring buffer of commands encoded as longs (see GameCommand.encode).
+ * Entries before the cursor can be undone, entries after it redone; recording a
+ * new command discards the redo tail, and a full buffer drops its oldest entry.
+ * Every operation is O(1) and the whole history is one long[].
+ */
+public class CommandHistory {
+
+    private final long[] entries;
+    private int start;
+    private int size;
+    private int cursor;
+
+    public CommandHistory(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("History capacity must be positive: " + capacity);
+        }
+        this.entries = new long[capacity];
+    }
+
+    private int physical(int logical) {
+        return (start + logical) % entries.length;
+    }
+
+    /**
+     * Append an executed command, discarding anything that could be redone
+     */
+    public synchronized void record(long entry) {
+        size = cursor;
+        if (size == entries.length) {
+            start = physical(1);
+            size--;
+        }
+        entries[physical(size)] = entry;
+        size++;
+        cursor = size;
+    }
+
+    public synchronized boolean canUndo() {
+        return cursor > 0;
+    }
+
+    public synchronized boolean canRedo() {
+        return cursor < size;
+    }
+
+    /**
+     * Entry that undo() would return; only valid when canUndo()
+     */
+    public synchronized long peekUndo() {
+        return entries[physical(cursor - 1)];
+    }
+
+    /**
+     * Entry that redo() would return; only valid when canRedo()
+     */
+    public synchronized long peekRedo() {
+        return entries[physical(cursor)];
+    }
+
+    /**
+     * Step back over the last executed entry and return it
+     */
+    public synchronized long undo() {
+        if (cursor == 0) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        return entries[physical(--cursor)];
+    }
+
+    /**
+     * Step forward over the next undone entry and return it
+     */
+    public synchronized long redo() {
+        if (cursor == size) {
+            throw new IllegalStateException("Nothing to redo");
+        }
+        return entries[physical(cursor++)];
+    }
+
+    public synchronized void clear() {
+        start = 0;
+        size = 0;
+        cursor = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.battleship.patterns;
+
+//Command for a single shot
+
+import com.example.battleship.model.*;
+import com.example.battleship.util.Constants;
+
+/**
+ * One shot by the player or the computer.
+ * Undo clears the shot, restores the target ship's hit mask, score, sunk count
+ * and turn flags, and gives the cell back to the AI when it was the computer's shot.
+ */
+public class FireCommand extends GameCommand {
+
+    private final boolean byComputer;
+    private final Position target;
+    private Board.ShotResult result;
+    private long priorHitMask;
+    private boolean priorPlayerTurn;
+    private boolean priorGameOver;
+
+    public FireCommand(GameState gameState, boolean byComputer, Position target) {
+        super(gameState);
+        this.byComputer = byComputer;
+        this.target = target;
+    }
+
+    static FireCommand fromEntry(GameState gameState, long entry) {
+        FireCommand command = new FireCommand(gameState, isComputerMove(entry), unpackCell(gameState, entry));
+        command.result = Board.ShotResult.values()[(int) ((entry >>> RESULT_SHIFT) & RESULT_BITS)];
+        command.priorHitMask = (entry >>> MASK_SHIFT) & MASK_BITS;
+        command.priorPlayerTurn = (entry & PRIOR_PLAYER_TURN) != 0;
+        command.priorGameOver = (entry & PRIOR_GAME_OVER) != 0;
+        return command;
+    }
+
+    private Board targetBoard() {
+        return byComputer ? gameState.getPlayerBoard() : gameState.getComputerBoard();
+    }
+
+    private Player shooter() {
+        return byComputer ? gameState.getComputer() : gameState.getPlayer();
+    }
+
+    @Override
+    public void execute() {
+        Board board = targetBoard();
+        priorPlayerTurn = gameState.isPlayerTurn();
+        priorGameOver = gameState.isGameOver();
+        Ship ship = board.getShipAt(target.getRow(), target.getCol());
+        priorHitMask = ship == null ? 0L : ship.getHitMask();
+
+        result = board.receiveShot(target);
+        if (result == Board.ShotResult.HIT || result == Board.ShotResult.SUNK) {
+            if (!byComputer) {
+                shooter().incrementScore(Constants.HIT_SCORE);
+            }
+            if (result == Board.ShotResult.SUNK) {
+                shooter().incrementShipsSunk();
+            }
+        }
+        if (byComputer) {
+            // No-op on the first run; keeps the AI in step when redoing
+            gameState.getComputer().getAiStrategy().removeShotPosition(target);
+            gameState.getComputer().getAiStrategy().recordResult(target, result, ship);
+        }
+        gameState.getEvents().publish(new GameEvent.ShotResolved(byComputer, target, result));
+    }
+
+    @Override
+    public void undo() {
+        if (result == null || result == Board.ShotResult.ALREADY_SHOT) {
+            return;
+        }
+        targetBoard().undoShot(target, priorHitMask);
+        if (result == Board.ShotResult.HIT || result == Board.ShotResult.SUNK) {
+            if (!byComputer) {
+                shooter().incrementScore(-Constants.HIT_SCORE);
+            }
+            if (result == Board.ShotResult.SUNK) {
+                shooter().setShipsSunk(shooter().getShipsSunk() - 1);
+            }
+        }
+        if (byComputer) {
+            gameState.getComputer().getAiStrategy().restoreShotPosition(target);
+        }
+        if (!priorGameOver && gameState.isGameOver()) {
+            gameState.setWinner(null);
+            gameState.setGameOver(false);
+        }
+        gameState.setPlayerTurn(priorPlayerTurn);
+        gameState.getEvents().publish(new GameEvent.StateChanged());
+    }
+
+    @Override
+    public long encode() {
+        long entry = packCell(gameState, target)
+                | ((long) result.ordinal() << RESULT_SHIFT)
+                | ((priorHitMask & MASK_BITS) << MASK_SHIFT);
+        if (byComputer) {
+            entry |= COMPUTER_MOVE;
+        }
+        if (priorPlayerTurn) {
+            entry |= PRIOR_PLAYER_TURN;
+        }
+        if (priorGameOver) {
+            entry |= PRIOR_GAME_OVER;
+        }
+        return entry;
+    }
+
+    public Board.ShotResult getResult() { return result; }
+    public Position getTarget() { return target; }
+    public boolean isByComputer() { return byComputer; }
+}
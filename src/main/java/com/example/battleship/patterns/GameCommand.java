@@ -6,9 +6,29 @@ import com.example.battleship.model.*;
 
 /**
  * Concrete implementation of Command pattern for game actions.
+ * Executed commands are stored in CommandHistory as a single long holding the
+ * inverse delta; decode() rebuilds an equivalent command for undo or redo.
+ *
+ * Encoding: bit 0 kind (fire/place), bit 1 computer move, bit 2 horizontal,
+ * bits 3-4 prior turn and game-over flags, bits 5-6 shot result,
+ * bits 8-23 fleet index, bits 24-43 cell index, bits 44-63 prior hit mask.
  */
 public abstract class GameCommand implements Command {
 
+    protected static final long KIND_PLACE = 1L;
+    protected static final long COMPUTER_MOVE = 1L << 1;
+    protected static final long HORIZONTAL = 1L << 2;
+    protected static final long PRIOR_PLAYER_TURN = 1L << 3;
+    protected static final long PRIOR_GAME_OVER = 1L << 4;
+    protected static final int RESULT_SHIFT = 5;
+    protected static final int SHIP_SHIFT = 8;
+    protected static final int CELL_SHIFT = 24;
+    protected static final int MASK_SHIFT = 44;
+    protected static final long RESULT_BITS = 0x3L;
+    protected static final long SHIP_BITS = 0xFFFFL;
+    protected static final long CELL_BITS = 0xFFFFFL;
+    protected static final long MASK_BITS = 0xFFFFFL;
+
     protected GameState gameState;
 
     public GameCommand(GameState gameState) {
@@ -20,4 +40,38 @@ public abstract class GameCommand implements Command {
 
     @Override
     public abstract void undo();
+
+    /**
+     * Pack this executed command into one history entry
+     */
+    public abstract long encode();
+
+    /**
+     * Rebuild the command stored in a history entry
+     */
+    public static GameCommand decode(GameState gameState, long entry) {
+        if (isPlacement(entry)) {
+            return PlaceShipCommand.fromEntry(gameState, entry);
+        }
+        return FireCommand.fromEntry(gameState, entry);
+    }
+
+    public static boolean isPlacement(long entry) {
+        return (entry & KIND_PLACE) != 0;
+    }
+
+    public static boolean isComputerMove(long entry) {
+        return (entry & COMPUTER_MOVE) != 0;
+    }
+
+    protected static long packCell(GameState gameState, Position position) {
+        long cell = (long) position.getRow() * gameState.getConfig().getWidth() + position.getCol();
+        return (cell & CELL_BITS) << CELL_SHIFT;
+    }
+
+    protected static Position unpackCell(GameState gameState, long entry) {
+        int cell = (int) ((entry >>> CELL_SHIFT) & CELL_BITS);
+        int width = gameState.getConfig().getWidth();
+        return new Position(cell / width, cell % width);
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.battleship.patterns;
+
+//Typed game change events
+
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Position;
+
+/**
+ * Typed change notifications published on the GameEventBus.
+ * Inside a batch, later events of a coalescing type replace earlier ones, so
+ * listeners only see the final turn or game-over state of a move.
+ */
+public sealed interface GameEvent {
+
+    /**
+     * True if only the latest event of this type in a batch matters
+     */
+    default boolean coalesces() {
+        return true;
+    }
+
+    record TurnChanged(boolean playerTurn) implements GameEvent {
+    }
+
+    record GameStarted(boolean started) implements GameEvent {
+    }
+
+    record GameOver(boolean over, String winner) implements GameEvent {
+    }
+
+    /**
+     * A shot landed (undone shots are reported as StateChanged)
+     */
+    record ShotResolved(boolean byComputer, Position position, Board.ShotResult result) implements GameEvent {
+        @Override
+        public boolean coalesces() {
+            return false;
+        }
+    }
+
+    /**
+     * Untyped refresh, e.g. after undo or an explicit notifyObservers()
+     */
+    record StateChanged() implements GameEvent {
+    }
+}
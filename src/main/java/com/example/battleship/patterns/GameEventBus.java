@@ -0,0 +1,82 @@
+package com.example.battleship.patterns;
+
+//Event bus with per-thread batching
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Dispatches typed GameEvents to listeners.
+ * Listeners live in a CopyOnWriteArrayList, so publishing never locks and
+ * listeners may unsubscribe while being notified. Between beginBatch() and the
+ * matching endBatch() events are collected per thread and coalesced, and
+ * listeners get a single onEvents call when the outermost batch ends.
+ */
+public class GameEventBus {
+
+    private final CopyOnWriteArrayList<GameEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Batch> batches = ThreadLocal.withInitial(Batch::new);
+
+    private static final class Batch {
+        private int depth;
+        private final List<GameEvent> pending = new ArrayList<>();
+    }
+
+    public void subscribe(GameEventListener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    public void unsubscribe(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Publish now, or queue until the current batch on this thread ends
+     */
+    public void publish(GameEvent event) {
+        Batch batch = batches.get();
+        if (batch.depth == 0) {
+            dispatch(List.of(event));
+            return;
+        }
+        if (event.coalesces()) {
+            batch.pending.removeIf(queued -> queued.getClass() == event.getClass());
+        }
+        batch.pending.add(event);
+    }
+
+    /**
+     * Start collecting events; batches nest
+     */
+    public void beginBatch() {
+        batches.get().depth++;
+    }
+
+    /**
+     * End a batch; the outermost end delivers everything collected
+     */
+    public void endBatch() {
+        Batch batch = batches.get();
+        if (batch.depth == 0) {
+            throw new IllegalStateException("endBatch() without beginBatch()");
+        }
+        if (--batch.depth > 0 || batch.pending.isEmpty()) {
+            return;
+        }
+        List<GameEvent> events = Collections.unmodifiableList(new ArrayList<>(batch.pending));
+        batch.pending.clear();
+        dispatch(events);
+    }
+
+    private void dispatch(List<GameEvent> events) {
+        for (GameEventListener listener : listeners) {
+            listener.onEvents(events);
+        }
+    }
+
+    public int getListenerCount() {
+        return listeners.size();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.battleship.patterns;
+
+//Listener for batched game events
+
+import java.util.List;
+
+/**
+ * Receives the events of one logical change (one move, one game start) at once.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    void onEvents(List<GameEvent> events);
+}
@@ -2,10 +2,19 @@ package com.example.battleship.patterns;
 
 //Observer interface
 
+import java.util.List;
+
 /**
  * Observer interface for the Observer pattern.
  * Allows objects to observe changes in game state.
+ * Observers are GameEventListeners that ignore the event details: they get
+ * one update() per delivered batch.
  */
-public interface Observer {
+public interface Observer extends GameEventListener {
     void update();
+
+    @Override
+    default void onEvents(List<GameEvent> events) {
+        update();
+    }
 }
@@ -0,0 +1,62 @@
+package com.example.battleship.patterns;
+
+//Command for placing one of the player's ships
+
+import com.example.battleship.model.*;
+
+/**
+ * Places the player's ship at a fleet index; undo lifts it off the board again.
+ */
+public class PlaceShipCommand extends GameCommand {
+
+    private final int shipIndex;
+    private final Position position;
+    private final boolean horizontal;
+    private boolean placed;
+
+    public PlaceShipCommand(GameState gameState, int shipIndex, Position position, boolean horizontal) {
+        super(gameState);
+        this.shipIndex = shipIndex;
+        this.position = position;
+        this.horizontal = horizontal;
+    }
+
+    static PlaceShipCommand fromEntry(GameState gameState, long entry) {
+        PlaceShipCommand command = new PlaceShipCommand(gameState,
+                (int) ((entry >>> SHIP_SHIFT) & SHIP_BITS), unpackCell(gameState, entry),
+                (entry & HORIZONTAL) != 0);
+        command.placed = true;
+        return command;
+    }
+
+    private Ship ship() {
+        return gameState.getPlayer().getShips().get(shipIndex);
+    }
+
+    @Override
+    public void execute() {
+        placed = gameState.getPlayerBoard().placeShip(ship(), position, horizontal);
+    }
+
+    @Override
+    public void undo() {
+        if (placed) {
+            gameState.getPlayerBoard().removeShip(ship());
+            placed = false;
+        }
+    }
+
+    @Override
+    public long encode() {
+        long entry = KIND_PLACE | packCell(gameState, position) | (((long) shipIndex & SHIP_BITS) << SHIP_SHIFT);
+        if (horizontal) {
+            entry |= HORIZONTAL;
+        }
+        return entry;
+    }
+
+    /**
+     * True if the last execute() actually placed the ship
+     */
+    public boolean isPlaced() { return placed; }
+}
@@ -0,0 +1,14 @@
+package com.example.battleship.sim;
+
+//Whole-batch loops BoardBatch can hand to an accelerated implementation
+
+/**
+ * Shot and game-over loops over a whole BoardBatch. Each method handles the
+ * boards it can and returns the index where BoardBatch's scalar tail starts.
+ */
+interface BatchKernels {
+
+    int receiveShots(BoardBatch batch, int[] cells, byte[] results);
+
+    int gameOver(BoardBatch batch, boolean[] gameOver);
+}
@@ -0,0 +1,290 @@
+package com.example.battleship.sim;
+
+//Many small boards as parallel bitmask arrays
+
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Ship;
+import com.example.battleship.model.ShipType;
+import com.example.battleship.util.Constants;
+import com.example.battleship.util.GameLogger;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Up to MAX_BOARDS boards of at most 128 cells, stored structure-of-arrays:
+ * ship cells, shot cells and every ship's own cells are parallel long[] masks
+ * (two words per board), and sunk ships are one bit per ship. One shot per
+ * board is then a handful of whole-array bitwise operations, which run on
+ * jdk.incubator.vector when that module is present (add it with
+ * --add-modules jdk.incubator.vector) and in plain loops otherwise.
+ * Shot semantics match Board.receiveShot: results use Board.ShotResult
+ * ordinals, a ship is sunk when all of its cells are shot, and a board's game
+ * is over when no ship cell is left unshot.
+ * The vector kernels are built only with the vector profile
+ * (mvn -Pvector), which keeps the default build free of the incubator
+ * warning; without them every batch uses the plain loops.
+ */
+public class BoardBatch {
+
+    public static final int MAX_BOARDS = 1024;
+
+    static final byte HIT = (byte) Board.ShotResult.HIT.ordinal();
+    static final byte MISS = (byte) Board.ShotResult.MISS.ordinal();
+    static final byte SUNK = (byte) Board.ShotResult.SUNK.ordinal();
+    static final byte ALREADY_SHOT = (byte) Board.ShotResult.ALREADY_SHOT.ordinal();
+
+    private static final GameLogger LOG = GameLogger.getLogger(BoardBatch.class);
+    private static final BatchKernels VECTOR_KERNELS = loadVectorKernels();
+    private static final boolean VECTOR_AVAILABLE = VECTOR_KERNELS != null;
+
+    private final GameConfig config;
+    private final int size;
+    private final int shipCount;
+    private final boolean vectorized;
+    // Per board (index b): all ship cells, shot cells, sunk ship bits
+    final long[] shipLo;
+    final long[] shipHi;
+    final long[] shotLo;
+    final long[] shotHi;
+    final long[] sunk;
+    // Per ship s and board b, at s * size + b: that ship's cells
+    final long[] shipMaskLo;
+    final long[] shipMaskHi;
+    private final ShipType[] shipTypes;
+    private final ShipType[] fleetTypes;
+    // Shot cells widened to long for the vector kernel
+    final long[] cellScratch;
+
+    public BoardBatch(GameConfig config, int size) {
+        this(config, size, VECTOR_AVAILABLE);
+    }
+
+    /**
+     * @param vectorized use the Vector API kernels; ignored when the module is absent
+     */
+    public BoardBatch(GameConfig config, int size, boolean vectorized) {
+        if (!LayoutGenerator.supports(config)) {
+            throw new IllegalArgumentException("Board batches need at most " + LayoutGenerator.MAX_CELLS
+                    + " cells: " + config);
+        }
+        if (size < 1 || size > MAX_BOARDS) {
+            throw new IllegalArgumentException("Batch size must be 1 to " + MAX_BOARDS + ": " + size);
+        }
+        this.config = config;
+        this.size = size;
+        this.shipCount = config.getTotalShips();
+        if (shipCount > Long.SIZE) {
+            throw new IllegalArgumentException("At most 64 ships per board: " + shipCount);
+        }
+        this.vectorized = vectorized && VECTOR_AVAILABLE;
+        this.shipLo = new long[size];
+        this.shipHi = new long[size];
+        this.shotLo = new long[size];
+        this.shotHi = new long[size];
+        this.sunk = new long[size];
+        this.shipMaskLo = new long[shipCount * size];
+        this.shipMaskHi = new long[shipCount * size];
+        this.shipTypes = new ShipType[shipCount * size];
+        List<Ship> fleet = config.createFleet();
+        this.fleetTypes = new ShipType[shipCount];
+        for (int ship = 0; ship < shipCount; ship++) {
+            fleetTypes[ship] = fleet.get(ship).getType();
+        }
+        this.cellScratch = new long[size];
+    }
+
+    /**
+     * The vector kernels, or null when the module is absent, they are switched
+     * off, or this build does not contain them
+     */
+    private static BatchKernels loadVectorKernels() {
+        Optional<Module> vector = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (vector.isEmpty() || !Boolean.parseBoolean(System.getProperty(Constants.VECTOR_PROPERTY, "true"))) {
+            return null;
+        }
+        try {
+            // module-info does not require the incubator module, so read it here
+            BoardBatch.class.getModule().addReads(vector.get());
+            return (BatchKernels) Class.forName(BoardBatch.class.getPackageName() + ".VectorBatchKernels")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOG.debug(() -> "Vector kernels unavailable: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * True if this JVM can run the vector kernels
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Put a fresh, unshot layout from generator (same config) on board index
+     */
+    public void load(int index, LayoutGenerator generator, long[] layout, int offset) {
+        long[] mask = new long[2];
+        shipLo[index] = layout[offset];
+        shipHi[index] = layout[offset + 1];
+        shotLo[index] = 0L;
+        shotHi[index] = 0L;
+        sunk[index] = 0L;
+        for (int ship = 0; ship < shipCount; ship++) {
+            generator.shipMask(layout, offset, ship, mask);
+            shipMaskLo[ship * size + index] = mask[0];
+            shipMaskHi[ship * size + index] = mask[1];
+            shipTypes[ship * size + index] = fleetTypes[ship];
+        }
+    }
+
+    /**
+     * Copy a live board with the config's full fleet placed, including its shots, into board index
+     */
+    public void load(int index, Board board) {
+        int width = config.getWidth();
+        if (board.shipCount() != shipCount) {
+            throw new IllegalArgumentException("Board has " + board.shipCount() + " ships, batch expects " + shipCount);
+        }
+        shipLo[index] = 0L;
+        shipHi[index] = 0L;
+        shotLo[index] = 0L;
+        shotHi[index] = 0L;
+        sunk[index] = 0L;
+        for (int ship = 0; ship < shipCount; ship++) {
+            long lo = 0L;
+            long hi = 0L;
+            Ship placed = board.getShip(ship);
+            for (int i = 0; i < placed.getSize(); i++) {
+                int cell = placed.getSegmentRow(i) * width + placed.getSegmentCol(i);
+                lo |= cell < 64 ? 1L << cell : 0L;
+                hi |= cell < 64 ? 0L : 1L << (cell - 64);
+            }
+            sunk[index] |= placed.isSunk() ? 1L << ship : 0L;
+            shipTypes[ship * size + index] = placed.getType();
+            shipMaskLo[ship * size + index] = lo;
+            shipMaskHi[ship * size + index] = hi;
+            shipLo[index] |= lo;
+            shipHi[index] |= hi;
+        }
+        for (int cell = 0; cell < config.getCellCount(); cell++) {
+            if (board.isShot(cell / width, cell % width)) {
+                shotLo[index] |= cell < 64 ? 1L << cell : 0L;
+                shotHi[index] |= cell < 64 ? 0L : 1L << (cell - 64);
+            }
+        }
+    }
+
+    /**
+     * Fire cells[b] at every board b; results[b] receives the Board.ShotResult ordinal
+     */
+    public void receiveShots(int[] cells, byte[] results) {
+        int from = vectorized ? VECTOR_KERNELS.receiveShots(this, cells, results) : 0;
+        for (int b = from; b < size; b++) {
+            results[b] = receiveShot(b, cells[b]);
+        }
+    }
+
+    /**
+     * Fire one cell at one board
+     */
+    public byte receiveShot(int index, int cell) {
+        long bitLo = cell < 64 ? 1L << cell : 0L;
+        long bitHi = cell < 64 ? 0L : 1L << (cell - 64);
+        if ((shotLo[index] & bitLo) != 0 || (shotHi[index] & bitHi) != 0) {
+            return ALREADY_SHOT;
+        }
+        long lo = shotLo[index] |= bitLo;
+        long hi = shotHi[index] |= bitHi;
+        if ((shipLo[index] & bitLo) == 0 && (shipHi[index] & bitHi) == 0) {
+            return MISS;
+        }
+        long before = sunk[index];
+        long after = before;
+        for (int ship = 0; ship < shipCount; ship++) {
+            long maskLo = shipMaskLo[ship * size + index];
+            long maskHi = shipMaskHi[ship * size + index];
+            if ((lo & maskLo) == maskLo && (hi & maskHi) == maskHi) {
+                after |= 1L << ship;
+            }
+        }
+        sunk[index] = after;
+        return after != before ? SUNK : HIT;
+    }
+
+    /**
+     * Mark gameOver[b] for every board with no unshot ship cell; returns how many
+     */
+    public int gameOver(boolean[] gameOver) {
+        int from = vectorized ? VECTOR_KERNELS.gameOver(this, gameOver) : 0;
+        for (int b = from; b < size; b++) {
+            gameOver[b] = isGameOver(b);
+        }
+        int count = 0;
+        for (int b = 0; b < size; b++) {
+            count += gameOver[b] ? 1 : 0;
+        }
+        return count;
+    }
+
+    public boolean isGameOver(int index) {
+        return (shipLo[index] & ~shotLo[index]) == 0 && (shipHi[index] & ~shotHi[index]) == 0;
+    }
+
+    public boolean isShot(int index, int cell) {
+        return cell < 64 ? (shotLo[index] & (1L << cell)) != 0 : (shotHi[index] & (1L << (cell - 64))) != 0;
+    }
+
+    public boolean hasShip(int index, int cell) {
+        return cell < 64 ? (shipLo[index] & (1L << cell)) != 0 : (shipHi[index] & (1L << (cell - 64))) != 0;
+    }
+
+    /**
+     * Index of the ship covering cell in fleet order, or -1
+     */
+    public int shipAt(int index, int cell) {
+        long bitLo = cell < 64 ? 1L << cell : 0L;
+        long bitHi = cell < 64 ? 0L : 1L << (cell - 64);
+        for (int ship = 0; ship < shipCount; ship++) {
+            if ((shipMaskLo[ship * size + index] & bitLo) != 0 || (shipMaskHi[ship * size + index] & bitHi) != 0) {
+                return ship;
+            }
+        }
+        return -1;
+    }
+
+    public ShipType getShipType(int index, int ship) {
+        return shipTypes[ship * size + index];
+    }
+
+    /**
+     * Lowest cell of a ship
+     */
+    public int getShipStart(int index, int ship) {
+        long lo = shipMaskLo[ship * size + index];
+        return lo != 0 ? Long.numberOfTrailingZeros(lo) : 64 + Long.numberOfTrailingZeros(shipMaskHi[ship * size + index]);
+    }
+
+    public boolean isShipHorizontal(int index, int ship) {
+        int start = getShipStart(index, ship);
+        int next = start + 1;
+        return next % config.getWidth() != 0 && next < config.getCellCount()
+                && (next < 64 ? (shipMaskLo[ship * size + index] & (1L << next)) != 0
+                        : (shipMaskHi[ship * size + index] & (1L << (next - 64))) != 0);
+    }
+
+    public boolean isSunk(int index, int ship) {
+        return (sunk[index] & (1L << ship)) != 0;
+    }
+
+    public int getSunkCount(int index) {
+        return Long.bitCount(sunk[index]);
+    }
+
+    public GameConfig getConfig() { return config; }
+    public int size() { return size; }
+    public int getShipCount() { return shipCount; }
+    public boolean isVectorized() { return vectorized; }
+}
@@ -0,0 +1,62 @@
+package com.example.battleship.sim;
+
+//Ranked tuning results written as CSV
+
+import com.example.battleship.exceptions.FileOperationException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Collects evaluated candidates and ranks them by mean shots to win, fewest first.
+ * The CSV has one column per tuned parameter followed by the match statistics.
+ */
+public class Leaderboard {
+
+    private final List<Tuner.Result> results = new ArrayList<>();
+
+    public synchronized void add(Tuner.Result result) {
+        results.add(result);
+    }
+
+    public synchronized List<Tuner.Result> ranked() {
+        List<Tuner.Result> ranked = new ArrayList<>(results);
+        ranked.sort(Comparator.comparingDouble(Tuner.Result::meanShots));
+        return ranked;
+    }
+
+    public void write(Path path) throws FileOperationException {
+        List<Tuner.Result> ranked = ranked();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path))) {
+                List<String> names = ranked.isEmpty() ? List.of() : new ArrayList<>(ranked.get(0).params().keySet());
+                StringBuilder header = new StringBuilder("rank");
+                for (String name : names) {
+                    header.append(',').append(name);
+                }
+                out.println(header.append(",pairs,wins,losses,draws,mean_shots,baseline_mean_shots,llr,verdict"));
+                for (int i = 0; i < ranked.size(); i++) {
+                    Tuner.Result result = ranked.get(i);
+                    StringBuilder row = new StringBuilder().append(i + 1);
+                    for (String name : names) {
+                        row.append(',').append(result.params().get(name));
+                    }
+                    row.append(String.format(Locale.ROOT, ",%d,%d,%d,%d,%.3f,%.3f,%.3f,%s",
+                            result.pairs(), result.wins(), result.losses(), result.draws(),
+                            result.meanShots(), result.baselineMeanShots(), result.llr(), result.verdict()));
+                    out.println(row);
+                }
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Failed to write leaderboard " + path, e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.battleship.sim;
+
+//Integer parameters a strategy can be tuned over
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Named integer parameters, each with a range and a step. A point in the space
+ * is a map from name to value, in declaration order, so points print and sort
+ * the same way every run.
+ */
+public class ParameterSpace {
+
+    /**
+     * One parameter: values min, min + step, ... up to max
+     */
+    public record Parameter(String name, int min, int max, int step) {
+        public Parameter {
+            if (step <= 0 || max < min) {
+                throw new IllegalArgumentException("Bad range for " + name + ": " + min + ".." + max + " step " + step);
+            }
+        }
+
+        int valueCount() {
+            return (max - min) / step + 1;
+        }
+
+        int value(int index) {
+            return min + index * step;
+        }
+    }
+
+    private final List<Parameter> parameters = new ArrayList<>();
+
+    public ParameterSpace add(String name, int min, int max, int step) {
+        parameters.add(new Parameter(name, min, max, step));
+        return this;
+    }
+
+    public List<Parameter> getParameters() {
+        return Collections.unmodifiableList(parameters);
+    }
+
+    /**
+     * Every point of the grid, first parameter varying slowest
+     */
+    public List<Map<String, Integer>> grid() {
+        List<Map<String, Integer>> points = new ArrayList<>();
+        points.add(new LinkedHashMap<>());
+        for (Parameter parameter : parameters) {
+            List<Map<String, Integer>> next = new ArrayList<>();
+            for (Map<String, Integer> point : points) {
+                for (int i = 0; i < parameter.valueCount(); i++) {
+                    Map<String, Integer> extended = new LinkedHashMap<>(point);
+                    extended.put(parameter.name(), parameter.value(i));
+                    next.add(extended);
+                }
+            }
+            points = next;
+        }
+        return points;
+    }
+
+    /**
+     * Middle of every range; the usual starting point of a search
+     */
+    public Map<String, Integer> centre() {
+        Map<String, Integer> point = new LinkedHashMap<>();
+        for (Parameter parameter : parameters) {
+            point.put(parameter.name(), parameter.value((parameter.valueCount() - 1) / 2));
+        }
+        return point;
+    }
+
+    /**
+     * Copy of point with one random parameter moved one step up or down (clamped)
+     */
+    public Map<String, Integer> mutate(Map<String, Integer> point, SplittableRandom random) {
+        Map<String, Integer> mutated = new LinkedHashMap<>(point);
+        Parameter parameter = parameters.get(random.nextInt(parameters.size()));
+        int value = point.get(parameter.name()) + (random.nextBoolean() ? parameter.step() : -parameter.step());
+        mutated.put(parameter.name(), Math.max(parameter.min(), Math.min(parameter.max(), value)));
+        return mutated;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.battleship.sim;
+
+//Headless single-sided game
+
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.ShotKnowledge;
+import com.example.battleship.ai.ShotStrategy;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Plays one strategy against a fixed fleet layout until every ship is sunk,
+ * with no UI, controller, events or saving. Both sides of a battleship game
+ * are independent, so the number of shots a strategy needs is its score, and
+ * two strategies compared on the same layout form a paired game.
+ */
+public final class SelfPlay {
+
+    private SelfPlay() {
+    }
+
+    /**
+     * Shots the strategy needs to sink the fleet of the layout. Like AIStrategy,
+     * a null strategy (or a shot at a fired cell) fires at a random unshot cell.
+     */
+    public static int shotsToWin(LayoutGenerator generator, long[] layout, ShotStrategy strategy,
+                                 SplittableRandom random) {
+        GameConfig config = generator.getConfig();
+        int width = config.getWidth();
+        Board board = new Board(config);
+        if (!generator.apply(layout, 0, board, config.createFleet())) {
+            throw new IllegalArgumentException("Layout does not fit the board");
+        }
+        ShotKnowledge knowledge = new ShotKnowledge(config);
+        int shots = 0;
+        while (!board.allShipsSunk()) {
+            Position chosen = strategy == null ? null : strategy.nextShot(knowledge);
+            int cell = chosen == null ? -1 : chosen.getRow() * width + chosen.getCol();
+            if (cell < 0 || knowledge.isShot(cell)) {
+                cell = randomUnshot(knowledge, config.getCellCount() - shots, random);
+            }
+            Ship ship = board.getShipAt(cell / width, cell % width);
+            Board.ShotResult result = board.receiveShot(new Position(cell / width, cell % width));
+            knowledge.record(cell, result, ship);
+            shots++;
+        }
+        return shots;
+    }
+
+    /**
+     * Play every board of the batch in lock-step, strategies[b] firing at board b,
+     * until all games are over. shots[b] receives the shots game b took.
+     * Boards whose game is over keep firing at an already shot cell, which changes nothing.
+     */
+    public static void playBatch(BoardBatch batch, ShotStrategy[] strategies, SplittableRandom random, int[] shots) {
+        GameConfig config = batch.getConfig();
+        int width = config.getWidth();
+        int size = batch.size();
+        ShotKnowledge[] knowledge = new ShotKnowledge[size];
+        for (int b = 0; b < size; b++) {
+            knowledge[b] = new ShotKnowledge(config);
+        }
+        int[] cells = new int[size];
+        byte[] results = new byte[size];
+        boolean[] over = new boolean[size];
+        Arrays.fill(shots, 0, size, 0);
+        int finished = batch.gameOver(over);
+        while (finished < size) {
+            for (int b = 0; b < size; b++) {
+                if (over[b]) {
+                    continue;
+                }
+                Position chosen = strategies[b] == null ? null : strategies[b].nextShot(knowledge[b]);
+                int cell = chosen == null ? -1 : chosen.getRow() * width + chosen.getCol();
+                if (cell < 0 || knowledge[b].isShot(cell)) {
+                    cell = randomUnshot(knowledge[b], config.getCellCount() - shots[b], random);
+                }
+                cells[b] = cell;
+            }
+            batch.receiveShots(cells, results);
+            for (int b = 0; b < size; b++) {
+                if (over[b]) {
+                    continue;
+                }
+                shots[b]++;
+                if (results[b] == BoardBatch.MISS) {
+                    knowledge[b].recordMiss(cells[b]);
+                } else {
+                    knowledge[b].recordHit(cells[b]);
+                    if (results[b] == BoardBatch.SUNK) {
+                        int ship = batch.shipAt(b, cells[b]);
+                        knowledge[b].recordSunk(batch.getShipType(b, ship), batch.getShipStart(b, ship),
+                                batch.isShipHorizontal(b, ship));
+                    }
+                }
+            }
+            finished = batch.gameOver(over);
+        }
+    }
+
+    private static int randomUnshot(ShotKnowledge knowledge, int unshot, SplittableRandom random) {
+        int pick = random.nextInt(unshot);
+        for (int cell = 0; ; cell++) {
+            if (!knowledge.isShot(cell) && pick-- == 0) {
+                return cell;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.battleship.sim;
+
+//Sequential probability ratio test on game outcomes
+
+/**
+ * Wald's SPRT on decisive paired games. H0: the candidate wins a decisive
+ * game with probability p0 (usually 0.5, no better than the baseline);
+ * H1: with probability p1. After each game the log-likelihood ratio moves by a
+ * fixed amount per win or loss, and the test stops as soon as it leaves
+ * (lower, upper), which typically takes far fewer games than a fixed sample
+ * with the same error rates. Draws carry no information and are ignored.
+ */
+public class Sprt {
+
+    public enum Verdict {
+        /** Not better than the baseline by the tested margin */
+        ACCEPT_H0,
+        /** Better than the baseline */
+        ACCEPT_H1,
+        CONTINUE
+    }
+
+    private final double winStep;
+    private final double lossStep;
+    private final double lower;
+    private final double upper;
+    private int wins;
+    private int losses;
+
+    /**
+     * @param alpha chance of accepting H1 when H0 holds
+     * @param beta chance of accepting H0 when H1 holds
+     */
+    public Sprt(double p0, double p1, double alpha, double beta) {
+        if (!(0 < p0 && p0 < p1 && p1 < 1)) {
+            throw new IllegalArgumentException("Need 0 < p0 < p1 < 1: " + p0 + ", " + p1);
+        }
+        this.winStep = Math.log(p1 / p0);
+        this.lossStep = Math.log((1 - p1) / (1 - p0));
+        this.lower = Math.log(beta / (1 - alpha));
+        this.upper = Math.log((1 - beta) / alpha);
+    }
+
+    public void addWin() {
+        wins++;
+    }
+
+    public void addLoss() {
+        losses++;
+    }
+
+    public double llr() {
+        return wins * winStep + losses * lossStep;
+    }
+
+    public Verdict verdict() {
+        double llr = llr();
+        if (llr >= upper) {
+            return Verdict.ACCEPT_H1;
+        }
+        if (llr <= lower) {
+            return Verdict.ACCEPT_H0;
+        }
+        return Verdict.CONTINUE;
+    }
+
+    public int getWins() { return wins; }
+    public int getLosses() { return losses; }
+}
@@ -0,0 +1,243 @@
+package com.example.battleship.sim;
+
+//Parallel self-play evaluation and parameter search
+
+import com.example.battleship.ai.CachingStrategy;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.LayoutPool;
+import com.example.battleship.ai.OpeningBook;
+import com.example.battleship.ai.ShotStrategy;
+import com.example.battleship.ai.TranspositionCache;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.util.GameLogger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scores strategy parameters by paired self-play against a Difficulty baseline.
+ * Each pair deals one fleet layout (from a shared LayoutPool) to the candidate
+ * and to the baseline; the side needing fewer shots wins. A task's pairs are
+ * played together on one BoardBatch. Pairs run in batches
+ * on a fixed thread pool, and after every batch an SPRT decides whether the
+ * comparison is settled, so clearly good or bad candidates stop early.
+ * Candidates can share a TranspositionCache across all their games and open
+ * from an OpeningBook.
+ */
+public class Tuner implements AutoCloseable {
+
+    private static final GameLogger LOG = GameLogger.getLogger(Tuner.class);
+
+    private static final int PAIRS_PER_TASK = 8;
+    private static final int POOL_CAPACITY = 1024;
+
+    /**
+     * Builds a fresh strategy for one game from a parameter point
+     */
+    @FunctionalInterface
+    public interface StrategyFactory {
+        ShotStrategy create(GameConfig config, Map<String, Integer> params, SplittableRandom random);
+    }
+
+    /**
+     * Outcome of one candidate against the baseline
+     */
+    public record Result(Map<String, Integer> params, int pairs, int wins, int losses, int draws,
+                         long shots, long baselineShots, double llr, Sprt.Verdict verdict) {
+
+        public double meanShots() {
+            return pairs == 0 ? 0 : (double) shots / pairs;
+        }
+
+        public double baselineMeanShots() {
+            return pairs == 0 ? 0 : (double) baselineShots / pairs;
+        }
+    }
+
+    private final GameConfig config;
+    private final LayoutGenerator generator;
+    private final StrategyFactory factory;
+    private final Difficulty baseline;
+    private final int threads;
+    private final ExecutorService executor;
+    private final LayoutPool pool;
+    private final SplittableRandom random;
+    private int maxPairs = 2000;
+    private double p1 = 0.55;
+    private double alpha = 0.05;
+    private double beta = 0.05;
+    private int cacheEntries;
+    private OpeningBook book;
+
+    public Tuner(GameConfig config, StrategyFactory factory, Difficulty baseline, int threads, long seed) {
+        this.config = config;
+        this.generator = new LayoutGenerator(config);
+        this.factory = factory;
+        this.baseline = baseline;
+        this.threads = Math.max(1, threads);
+        this.executor = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "tuner-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pool = new LayoutPool(generator, POOL_CAPACITY, 1);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Upper bound on pairs per candidate when the SPRT does not settle
+     */
+    public void setMaxPairs(int maxPairs) {
+        this.maxPairs = maxPairs;
+    }
+
+    /**
+     * H1 win probability and error rates of the SPRT (H0 is 0.5)
+     */
+    public void setSprt(double p1, double alpha, double beta) {
+        this.p1 = p1;
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * Share a cache of this many entries between a candidate's games; 0 turns it off
+     */
+    public void setCacheEntries(int cacheEntries) {
+        this.cacheEntries = cacheEntries;
+    }
+
+    /**
+     * Opening book in front of every candidate, and of the baseline when it is
+     * a tier that uses one; null turns it off
+     */
+    public void setOpeningBook(OpeningBook book) {
+        this.book = book;
+    }
+
+    /**
+     * Play pairs until the SPRT settles or maxPairs is reached
+     */
+    public Result evaluate(Map<String, Integer> params) {
+        Sprt sprt = new Sprt(0.5, p1, alpha, beta);
+        TranspositionCache cache = cacheEntries > 0 ? new TranspositionCache(cacheEntries, threads * 4) : null;
+        int pairs = 0;
+        int draws = 0;
+        long shots = 0;
+        long baselineShots = 0;
+        while (pairs < maxPairs && sprt.verdict() == Sprt.Verdict.CONTINUE) {
+            List<Callable<int[]>> tasks = new ArrayList<>();
+            int batch = Math.min(threads * PAIRS_PER_TASK, maxPairs - pairs);
+            for (int from = 0; from < batch; from += PAIRS_PER_TASK) {
+                int count = Math.min(PAIRS_PER_TASK, batch - from);
+                SplittableRandom taskRandom = random.split();
+                tasks.add(() -> playPairs(params, cache, count, taskRandom));
+            }
+            for (int[] outcome : runAll(tasks)) {
+                for (int i = 0; i < outcome.length; i += 2) {
+                    shots += outcome[i];
+                    baselineShots += outcome[i + 1];
+                    if (outcome[i] < outcome[i + 1]) {
+                        sprt.addWin();
+                    } else if (outcome[i] > outcome[i + 1]) {
+                        sprt.addLoss();
+                    } else {
+                        draws++;
+                    }
+                }
+            }
+            pairs += batch;
+        }
+        Result result = new Result(params, pairs, sprt.getWins(), sprt.getLosses(), draws,
+                shots, baselineShots, sprt.llr(), sprt.verdict());
+        LOG.info("Evaluated " + params + ": " + String.format("%.2f", result.meanShots()) + " shots vs "
+                + String.format("%.2f", result.baselineMeanShots()) + " over " + pairs + " pairs, " + result.verdict());
+        return result;
+    }
+
+    /**
+     * (candidate shots, baseline shots) for count layouts. Each layout goes on
+     * two boards of one BoardBatch, the candidate firing at one and the baseline
+     * at the other, and SelfPlay.playBatch advances all of them in lock-step.
+     */
+    private int[] playPairs(Map<String, Integer> params, TranspositionCache cache, int count, SplittableRandom taskRandom) {
+        BoardBatch batch = new BoardBatch(config, 2 * count);
+        ShotStrategy[] strategies = new ShotStrategy[2 * count];
+        long[] layout = new long[generator.getStride()];
+        for (int i = 0; i < count; i++) {
+            if (!pool.take(layout)) {
+                throw new IllegalStateException("No fleet layout fits " + config);
+            }
+            batch.load(2 * i, generator, layout, 0);
+            batch.load(2 * i + 1, generator, layout, 0);
+            ShotStrategy candidate = factory.create(config, params, taskRandom.split());
+            if (cache != null || book != null) {
+                candidate = new CachingStrategy(candidate, cache, book);
+            }
+            strategies[2 * i] = candidate;
+            strategies[2 * i + 1] = baseline.createStrategy(config, taskRandom.split(), book);
+        }
+        int[] outcome = new int[2 * count];
+        SelfPlay.playBatch(batch, strategies, taskRandom, outcome);
+        return outcome;
+    }
+
+    private List<int[]> runAll(List<Callable<int[]>> tasks) {
+        List<int[]> outcomes = new ArrayList<>();
+        try {
+            for (Future<int[]> future : executor.invokeAll(tasks)) {
+                outcomes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tuning interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play game failed", e.getCause());
+        }
+        return outcomes;
+    }
+
+    /**
+     * Evaluate every point of the grid
+     */
+    public void runGrid(ParameterSpace space, Leaderboard leaderboard) {
+        for (Map<String, Integer> params : space.grid()) {
+            leaderboard.add(evaluate(params));
+        }
+    }
+
+    /**
+     * (1+1) evolution: mutate the champion one step at a time and keep the
+     * child when it needs fewer shots on average. Returns the final champion.
+     */
+    public Result evolve(ParameterSpace space, int generations, Leaderboard leaderboard) {
+        Result champion = evaluate(space.centre());
+        leaderboard.add(champion);
+        for (int generation = 0; generation < generations; generation++) {
+            Map<String, Integer> params = space.mutate(champion.params(), random);
+            if (params.equals(champion.params())) {
+                continue;
+            }
+            Result child = evaluate(params);
+            leaderboard.add(child);
+            if (child.meanShots() < champion.meanShots()) {
+                champion = child;
+                LOG.info("Generation " + generation + ": new champion " + params);
+            }
+        }
+        return champion;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        pool.close();
+    }
+}
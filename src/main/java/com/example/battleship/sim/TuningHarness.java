@@ -0,0 +1,72 @@
+package com.example.battleship.sim;
+
+//Command-line entry point for strategy tuning
+
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.OpeningBook;
+import com.example.battleship.ai.SamplingStrategy;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.util.Constants;
+import com.example.battleship.util.GameLogger;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tunes SamplingStrategy's sample count and time budget on the default board.
+ * Usage: TuningHarness [--mode grid|evolve] [--generations N] [--max-pairs N]
+ * [--baseline EASY|MEDIUM|HARD|EXPERT] [--threads N] [--cache ENTRIES]
+ * [--book FILE|none] [--seed N] [--out FILE]
+ * The opening book defaults to the game's, built there if it is missing.
+ */
+public final class TuningHarness {
+
+    private static final GameLogger LOG = GameLogger.getLogger(TuningHarness.class);
+
+    private TuningHarness() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        GameConfig config = GameConfig.defaultConfig();
+        ParameterSpace space = new ParameterSpace()
+                .add("samples", 500, 4000, 500)
+                .add("budgetMs", 5, 50, 15);
+        Tuner.StrategyFactory factory = (cfg, params, random) -> new SamplingStrategy(cfg,
+                params.get("samples"), TimeUnit.MILLISECONDS.toNanos(params.get("budgetMs")), random);
+
+        Difficulty baseline = Difficulty.valueOf(options.getOrDefault("baseline", "MEDIUM"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(System.nanoTime())));
+        Path out = Path.of(options.getOrDefault("out", Constants.LEADERBOARD_PATH));
+
+        Leaderboard leaderboard = new Leaderboard();
+        try (Tuner tuner = new Tuner(config, factory, baseline, threads, seed)) {
+            tuner.setMaxPairs(Integer.parseInt(options.getOrDefault("max-pairs", "2000")));
+            tuner.setCacheEntries(Integer.parseInt(options.getOrDefault("cache", "0")));
+            String book = options.getOrDefault("book",
+                    Path.of(Constants.HEATMAP_DIR, OpeningBook.fileName(config)).toString());
+            if (!"none".equals(book)) {
+                tuner.setOpeningBook(OpeningBook.loadOrBuild(book, config,
+                        Difficulty.EXPERT.createStrategy(config, new SplittableRandom(Constants.OPENING_BOOK_SEED)),
+                        Constants.OPENING_BOOK_DEPTH));
+            }
+            if ("evolve".equals(options.getOrDefault("mode", "grid"))) {
+                tuner.evolve(space, Integer.parseInt(options.getOrDefault("generations", "20")), leaderboard);
+            } else {
+                tuner.runGrid(space, leaderboard);
+            }
+        }
+        leaderboard.write(out);
+        LOG.info("Leaderboard written to " + out);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.battleship.sim;
+
+//Vector API kernels for BoardBatch
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD versions of the BoardBatch shot and game-over loops, one board per lane.
+ * Compiled only by the vector build profile and loaded reflectively when
+ * jdk.incubator.vector is in the boot layer. Each method handles the boards up
+ * to the last full vector and returns where the scalar tail must start.
+ */
+final class VectorBatchKernels implements BatchKernels {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    VectorBatchKernels() {
+    }
+
+    @Override
+    public int receiveShots(BoardBatch batch, int[] cells, byte[] results) {
+        int size = batch.size();
+        int bound = SPECIES.loopBound(size);
+        long[] scratch = batch.cellScratch;
+        for (int b = 0; b < bound; b++) {
+            scratch[b] = cells[b];
+        }
+        LongVector one = LongVector.broadcast(SPECIES, 1L);
+        LongVector zero = LongVector.zero(SPECIES);
+        for (int b = 0; b < bound; b += SPECIES.length()) {
+            LongVector cell = LongVector.fromArray(SPECIES, scratch, b);
+            VectorMask<Long> low = cell.compare(VectorOperators.LT, 64L);
+            // Shifts use the count mod 64, so each half is cleared where the cell is in the other word
+            LongVector bitLo = one.lanewise(VectorOperators.LSHL, cell).blend(zero, low.not());
+            LongVector bitHi = one.lanewise(VectorOperators.LSHL, cell.sub(64L)).blend(zero, low);
+
+            LongVector oldLo = LongVector.fromArray(SPECIES, batch.shotLo, b);
+            LongVector oldHi = LongVector.fromArray(SPECIES, batch.shotHi, b);
+            VectorMask<Long> already = oldLo.and(bitLo).or(oldHi.and(bitHi)).compare(VectorOperators.NE, 0L);
+            LongVector lo = oldLo.or(bitLo);
+            LongVector hi = oldHi.or(bitHi);
+            lo.intoArray(batch.shotLo, b);
+            hi.intoArray(batch.shotHi, b);
+
+            VectorMask<Long> hit = LongVector.fromArray(SPECIES, batch.shipLo, b).and(bitLo)
+                    .or(LongVector.fromArray(SPECIES, batch.shipHi, b).and(bitHi))
+                    .compare(VectorOperators.NE, 0L).andNot(already);
+
+            LongVector before = LongVector.fromArray(SPECIES, batch.sunk, b);
+            LongVector after = before;
+            for (int ship = 0; ship < batch.getShipCount(); ship++) {
+                LongVector maskLo = LongVector.fromArray(SPECIES, batch.shipMaskLo, ship * size + b);
+                LongVector maskHi = LongVector.fromArray(SPECIES, batch.shipMaskHi, ship * size + b);
+                VectorMask<Long> full = lo.and(maskLo).compare(VectorOperators.EQ, maskLo)
+                        .and(hi.and(maskHi).compare(VectorOperators.EQ, maskHi));
+                after = after.blend(after.or(1L << ship), full);
+            }
+            after.intoArray(batch.sunk, b);
+            VectorMask<Long> sank = after.compare(VectorOperators.NE, before);
+
+            LongVector result = LongVector.broadcast(SPECIES, BoardBatch.MISS)
+                    .blend(BoardBatch.HIT, hit)
+                    .blend(BoardBatch.SUNK, sank)
+                    .blend(BoardBatch.ALREADY_SHOT, already);
+            result.intoArray(scratch, b);
+        }
+        for (int b = 0; b < bound; b++) {
+            results[b] = (byte) scratch[b];
+        }
+        return bound;
+    }
+
+    @Override
+    public int gameOver(BoardBatch batch, boolean[] gameOver) {
+        int bound = SPECIES.loopBound(batch.size());
+        for (int b = 0; b < bound; b += SPECIES.length()) {
+            LongVector left = LongVector.fromArray(SPECIES, batch.shipLo, b)
+                    .and(LongVector.fromArray(SPECIES, batch.shotLo, b).not())
+                    .or(LongVector.fromArray(SPECIES, batch.shipHi, b)
+                            .and(LongVector.fromArray(SPECIES, batch.shotHi, b).not()));
+            left.compare(VectorOperators.EQ, 0L).intoArray(gameOver, b);
+        }
+        return bound;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.battleship.util;
+
+//Asynchronous ring-buffer appender
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands log records to a background thread through a bounded lock-free ring buffer.
+ * Callers never block on I/O: when the buffer is full the record is dropped and
+ * counted instead. Slots are preallocated and reused, so logging does not
+ * allocate a record object per message.
+ */
+public class AsyncLogAppender implements LogAppender {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final LogAppender target;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong tail;
+    private final LongAdder dropped;
+    private final Thread worker;
+    private long head;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+
+    /**
+     * One preallocated buffer entry; sequence implements the claim/publish protocol
+     */
+    private static final class Slot {
+        volatile long sequence;
+        long timestamp;
+        LogLevel level;
+        String loggerName;
+        String message;
+        Throwable error;
+    }
+
+    /**
+     * @param target appender that performs the actual output on the worker thread
+     * @param capacity buffer size, rounded up to a power of two
+     */
+    public AsyncLogAppender(LogAppender target, int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.target = target;
+        this.slots = new Slot[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            slots[i].sequence = i;
+        }
+        this.tail = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.worker = new Thread(this::drainLoop, "battleship-log");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void append(long timestampMillis, LogLevel level, String loggerName, String message, Throwable error) {
+        if (closed) {
+            target.append(timestampMillis, level, loggerName, message, error);
+            return;
+        }
+        while (true) {
+            long position = tail.get();
+            Slot slot = slots[(int) (position & mask)];
+            long difference = slot.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.timestamp = timestampMillis;
+                    slot.level = level;
+                    slot.loggerName = loggerName;
+                    slot.message = message;
+                    slot.error = error;
+                    slot.sequence = position + 1;
+                    if (sleeping) {
+                        LockSupport.unpark(worker);
+                    }
+                    return;
+                }
+            } else if (difference < 0) {
+                // Buffer full: drop rather than block the caller
+                dropped.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Worker loop: drain everything available, then park until woken
+     */
+    private void drainLoop() {
+        while (!closed) {
+            if (drain() == 0) {
+                sleeping = true;
+                if (!hasPending()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                sleeping = false;
+            }
+        }
+    }
+
+    private boolean hasPending() {
+        return slots[(int) (head & mask)].sequence == head + 1;
+    }
+
+    /**
+     * Forward every published record to the target, returning how many were written
+     */
+    private synchronized int drain() {
+        int count = 0;
+        while (true) {
+            Slot slot = slots[(int) (head & mask)];
+            if (slot.sequence != head + 1) {
+                return count;
+            }
+            try {
+                target.append(slot.timestamp, slot.level, slot.loggerName, slot.message, slot.error);
+            } catch (RuntimeException e) {
+                // A failing target must not kill the logging thread
+            }
+            slot.level = null;
+            slot.loggerName = null;
+            slot.message = null;
+            slot.error = null;
+            slot.sequence = head + mask + 1;
+            head++;
+            count++;
+        }
+    }
+
+    /**
+     * Number of records dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+        long lost = dropped.sum();
+        if (lost > 0) {
+            target.append(System.currentTimeMillis(), LogLevel.WARN, "AsyncLogAppender",
+                    lost + " log records dropped (buffer full)", null);
+        }
+        target.close();
+    }
+}
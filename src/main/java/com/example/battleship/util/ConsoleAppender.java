@@ -0,0 +1,27 @@
+package com.example.battleship.util;
+
+//Synchronous console appender
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes log records to standard output, or standard error for WARN and above.
+ */
+public class ConsoleAppender implements LogAppender {
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    @Override
+    public void append(long timestampMillis, LogLevel level, String loggerName, String message, Throwable error) {
+        PrintStream out = level.compareTo(LogLevel.WARN) >= 0 ? System.err : System.out;
+        out.println(TIME_FORMAT.format(Instant.ofEpochMilli(timestampMillis))
+                + " [" + level + "] " + loggerName + " - " + message);
+        if (error != null) {
+            error.printStackTrace(out);
+        }
+    }
+}
@@ -9,6 +9,9 @@ public class Constants {
     // Board dimensions
     public static final int BOARD_WIDTH = 10;
     public static final int BOARD_HEIGHT = 10;
+    public static final int MAX_BOARD_SIZE = 1000;
+    // Boards with more cells than this use SparseBoard storage
+    public static final int SPARSE_BOARD_THRESHOLD = 64 * 64;
 
     // Ship counts
     public static final int AIRCRAFT_CARRIER_COUNT = 1;
@@ -29,7 +32,44 @@ public class Constants {
     // File paths
     public static final String SAVE_FILE_PATH = "saves/battleship_save.ser";
     public static final String PLAYER_DATA_PATH = "data/player_data.txt";
+    public static final String METRICS_FILE_PATH = "data/metrics.json";
+    // Player shot heatmaps, one memory-mapped file per board size
+    public static final String HEATMAP_DIR = "data";
+    // Opening books (one file per board size, next to the heatmaps) and their length
+    public static final int OPENING_BOOK_DEPTH = 8;
+    public static final long OPENING_BOOK_SEED = 43L;
+    // Strategy tuning results (sim.TuningHarness)
+    public static final String LEADERBOARD_PATH = "data/tuning_leaderboard.csv";
+    // Board batches use the Vector API when available (-Dbattleship.vector=false disables it)
+    public static final String VECTOR_PROPERTY = "battleship.vector";
+
+    // Undo/redo history (8 bytes per move, oldest moves dropped when full)
+    public static final int HISTORY_CAPACITY = 512;
 
     // Thread pool size
     public static final int THREAD_POOL_SIZE = 2;
+
+    // Computer's pause before each shot in the UI
+    public static final long COMPUTER_THINKING_MS = 1000;
+
+    // Bot server (loopback only) and the time a bot gets per shot
+    public static final int BOT_PORT = 7878;
+    public static final long BOT_MOVE_TIMEOUT_MS = 1000;
+
+    // Match server: port, how long a client waits to connect, and the
+    // client switch (-Dbattleship.server=host:port -Dbattleship.server.opponent=human|ai)
+    public static final int MATCH_PORT = 7879;
+    public static final int SERVER_CONNECT_TIMEOUT_MS = 3000;
+    public static final String SERVER_PROPERTY = "battleship.server";
+    public static final String SERVER_OPPONENT_PROPERTY = "battleship.server.opponent";
+
+    // Board renderer selection (-Dbattleship.renderer=canvas)
+    public static final String RENDERER_PROPERTY = "battleship.renderer";
+    public static final String RENDERER_NODES = "nodes";
+    public static final String RENDERER_CANVAS = "canvas";
+
+    // Logging (-Dbattleship.log.level=DEBUG, -Dbattleship.log.async=false)
+    public static final String LOG_LEVEL_PROPERTY = "battleship.log.level";
+    public static final String LOG_ASYNC_PROPERTY = "battleship.log.async";
+    public static final int LOG_BUFFER_SIZE = 8192;
 }
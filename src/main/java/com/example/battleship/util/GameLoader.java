@@ -2,6 +2,7 @@ package com.example.battleship.util;
 
 //Handles game loading
 
+import com.example.battleship.model.GameSnapshot;
 import com.example.battleship.model.GameState;
 import com.example.battleship.controller.FileManager;
 import com.example.battleship.exceptions.FileOperationException;
@@ -12,6 +13,8 @@ import com.example.battleship.exceptions.FileOperationException;
  */
 public class GameLoader {
 
+    private static final GameLogger LOG = GameLogger.getLogger(GameLoader.class);
+
     private FileManager fileManager;
 
     public GameLoader() {
@@ -19,18 +22,27 @@ public class GameLoader {
     }
 
     /**
-     * Load saved game state
+     * Load saved game state.
+     * Accepts snapshot saves as well as older files holding a whole GameState.
      */
     public GameState loadGame() {
         try {
-            GameState gameState = (GameState) fileManager.loadSerializable(
-                    Constants.SAVE_FILE_PATH);
-
-            System.out.println("Game loaded successfully.");
+            Object saved = fileManager.loadSerializable(Constants.SAVE_FILE_PATH);
+            GameState gameState;
+            if (saved instanceof GameSnapshot snapshot) {
+                gameState = GameState.fromSnapshot(snapshot);
+            } else if (saved instanceof GameState legacy) {
+                gameState = legacy;
+            } else {
+                LOG.warn("Unrecognised save file contents, starting new game.");
+                return null;
+            }
+
+            LOG.info("Game loaded successfully.");
             return gameState;
 
         } catch (FileOperationException e) {
-            System.out.println("No saved game found, starting new game.");
+            LOG.info("No saved game found, starting new game.");
             return null;
         }
     }
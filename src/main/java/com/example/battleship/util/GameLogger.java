@@ -0,0 +1,82 @@
+package com.example.battleship.util;
+
+//Lightweight logging facade
+
+import java.util.function.Supplier;
+
+/**
+ * Minimal logging facade used instead of System.out across the game.
+ * The active level is a single volatile read, and Supplier overloads defer
+ * message formatting, so disabled statements cost next to nothing on hot paths.
+ *
+ * Configured with -Dbattleship.log.level (default INFO) and
+ * -Dbattleship.log.async (default true, uses AsyncLogAppender).
+ */
+public final class GameLogger {
+
+    private static volatile int threshold;
+    private static volatile LogAppender appender;
+
+    static {
+        LogLevel level = LogLevel.parse(System.getProperty(Constants.LOG_LEVEL_PROPERTY), LogLevel.INFO);
+        threshold = level.ordinal();
+        boolean async = !"false".equalsIgnoreCase(System.getProperty(Constants.LOG_ASYNC_PROPERTY));
+        appender = async
+                ? new AsyncLogAppender(new ConsoleAppender(), Constants.LOG_BUFFER_SIZE)
+                : new ConsoleAppender();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> appender.close(), "battleship-log-flush"));
+    }
+
+    private final String name;
+
+    private GameLogger(String name) {
+        this.name = name;
+    }
+
+    public static GameLogger getLogger(Class<?> type) {
+        return new GameLogger(type.getSimpleName());
+    }
+
+    // Global configuration
+    public static LogLevel getLevel() { return LogLevel.values()[threshold]; }
+    public static void setLevel(LogLevel level) { threshold = level.ordinal(); }
+
+    /**
+     * Replace the active appender, closing the previous one
+     */
+    public static void setAppender(LogAppender newAppender) {
+        LogAppender old = appender;
+        appender = newAppender;
+        old.close();
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public boolean isTraceEnabled() { return isEnabled(LogLevel.TRACE); }
+    public boolean isDebugEnabled() { return isEnabled(LogLevel.DEBUG); }
+
+    public void trace(String message) { log(LogLevel.TRACE, message, null); }
+    public void trace(Supplier<String> message) { log(LogLevel.TRACE, message); }
+    public void debug(String message) { log(LogLevel.DEBUG, message, null); }
+    public void debug(Supplier<String> message) { log(LogLevel.DEBUG, message); }
+    public void info(String message) { log(LogLevel.INFO, message, null); }
+    public void info(Supplier<String> message) { log(LogLevel.INFO, message); }
+    public void warn(String message) { log(LogLevel.WARN, message, null); }
+    public void warn(String message, Throwable error) { log(LogLevel.WARN, message, error); }
+    public void error(String message) { log(LogLevel.ERROR, message, null); }
+    public void error(String message, Throwable error) { log(LogLevel.ERROR, message, error); }
+
+    private void log(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            appender.append(System.currentTimeMillis(), level, name, message.get(), null);
+        }
+    }
+
+    private void log(LogLevel level, String message, Throwable error) {
+        if (isEnabled(level)) {
+            appender.append(System.currentTimeMillis(), level, name, message, error);
+        }
+    }
+}
@@ -2,11 +2,16 @@ package com.example.battleship.util;
 
 //Handles game saving
 
-import com.example.battleship.model.GameState;
+import com.example.battleship.model.GameSnapshot;
 import com.example.battleship.controller.FileManager;
 import com.example.battleship.exceptions.FileOperationException;
+import com.example.battleship.metrics.GameMetrics;
+import com.example.battleship.metrics.SaveEvent;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 /**
  * Handles game saving operations with concurrency.
@@ -15,35 +20,78 @@ import java.util.concurrent.Executors;
  */
 public class GameSaver {
 
+    private static final GameLogger LOG = GameLogger.getLogger(GameSaver.class);
+
     private FileManager fileManager;
     private ExecutorService executorService;
+    private final LongSupplier queueDepthGauge = this::getQueueDepth;
 
     public GameSaver() {
         this.fileManager = new FileManager();
-        this.executorService = Executors.newSingleThreadExecutor();
+        this.executorService = Executors.newFixedThreadPool(1);
+        GameMetrics.getInstance().gauge(GameMetrics.SAVE_QUEUE_DEPTH, queueDepthGauge);
+    }
+
+    /**
+     * Saves waiting to be written
+     */
+    public int getQueueDepth() {
+        return ((ThreadPoolExecutor) executorService).getQueue().size();
     }
 
     /**
-     * Save game state asynchronously
+     * Save a game snapshot asynchronously.
+     * The snapshot is immutable, so the writer never sees a half-applied move.
      */
-    public void saveGame(GameState gameState) {
+    public void saveGame(GameSnapshot snapshot) {
+        if (executorService.isShutdown()) {
+            LOG.warn("Save skipped: saver already shut down");
+            return;
+        }
         executorService.submit(() -> {
+            GameMetrics metrics = GameMetrics.getInstance();
+            SaveEvent event = new SaveEvent();
+            event.queueDepth = getQueueDepth();
+            event.begin();
+            long start = System.nanoTime();
             try {
                 // Save serializable board state
-                fileManager.saveSerializable(gameState, Constants.SAVE_FILE_PATH);
+                fileManager.saveSerializable(snapshot, Constants.SAVE_FILE_PATH);
 
                 // Save player data to flat file
                 fileManager.savePlayerData(
-                        gameState.getPlayer().getName(),
-                        gameState.getPlayer().getScore(),
-                        gameState.getPlayer().getShipsSunk()
+                        snapshot.player().name(),
+                        snapshot.player().score(),
+                        snapshot.player().shipsSunk()
                 );
 
-                System.out.println("Game saved successfully.");
+                LOG.debug("Game saved successfully.");
+                event.success = true;
+                metrics.counter(GameMetrics.SAVES).increment();
 
             } catch (FileOperationException e) {
-                System.err.println("Failed to save game: " + e.getMessage());
+                LOG.error("Failed to save game: " + e.getMessage());
+                metrics.counter(GameMetrics.SAVE_FAILURES).increment();
+            } finally {
+                metrics.histogram(GameMetrics.SAVE_LATENCY).record(System.nanoTime() - start);
+                event.commit();
             }
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Finish pending saves, then stop the writer thread and drop the queue gauge
+     */
+    public void shutdown() {
+        GameMetrics.getInstance().removeGauge(GameMetrics.SAVE_QUEUE_DEPTH, queueDepthGauge);
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
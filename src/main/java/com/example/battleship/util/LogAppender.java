@@ -0,0 +1,18 @@
+package com.example.battleship.util;
+
+//Destination for log records
+
+/**
+ * Destination for formatted log records.
+ * Implementations decide where records go (console, ring buffer, file...).
+ */
+public interface LogAppender {
+
+    void append(long timestampMillis, LogLevel level, String loggerName, String message, Throwable error);
+
+    /**
+     * Flush pending records and release resources
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.battleship.util;
+
+//Log severity levels
+
+/**
+ * Severity levels understood by GameLogger, ordered from most to least verbose.
+ */
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF;
+
+    /**
+     * Parse a level name, falling back to the given default when unknown
+     */
+    public static LogLevel parse(String name, LogLevel fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return LogLevel.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.battleship.util;
+
+//Deterministic Zobrist keys
+
+/**
+ * Zobrist keys for (cell, feature) pairs. Keys come from the SplitMix64
+ * finalizer rather than a random table, so they are the same in every run and
+ * on every board size, and hashes can be stored on disk. A position's hash is
+ * the XOR of the keys of its features, so setting or clearing one feature is
+ * a single XOR.
+ */
+public final class Zobrist {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Zobrist() {
+    }
+
+    /**
+     * Key for a feature of a cell; salt separates independent hash families
+     */
+    public static long key(long salt, int cell, int feature) {
+        return mix(salt ^ ((((long) cell << 8) | feature) + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
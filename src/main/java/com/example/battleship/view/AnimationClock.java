@@ -0,0 +1,76 @@
+package com.example.battleship.view;
+
+//Shared frame clock for canvas animations
+
+import javafx.animation.AnimationTimer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single AnimationTimer shared by every canvas renderer.
+ * The timer only runs while at least one listener is subscribed.
+ */
+public final class AnimationClock {
+
+    /**
+     * Callback invoked once per pulse with the frame timestamp in nanoseconds.
+     */
+    public interface FrameListener {
+        void onFrame(long now);
+    }
+
+    private static final AnimationClock INSTANCE = new AnimationClock();
+
+    private final List<FrameListener> listeners;
+    private final AnimationTimer timer;
+    private boolean running;
+
+    private AnimationClock() {
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                for (FrameListener listener : listeners) {
+                    listener.onFrame(now);
+                }
+            }
+        };
+    }
+
+    public static AnimationClock getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Subscribe a listener, starting the timer if it was idle
+     */
+    public void subscribe(FrameListener listener) {
+        if (listeners.contains(listener)) {
+            return;
+        }
+        listeners.add(listener);
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Unsubscribe a listener, stopping the timer once nobody is left
+     */
+    public void unsubscribe(FrameListener listener) {
+        listeners.remove(listener);
+        if (running && listeners.isEmpty()) {
+            running = false;
+            timer.stop();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getListenerCount() {
+        return listeners.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.battleship.view;
+
+//Common contract for board renderers
+
+import javafx.scene.layout.VBox;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.Position;
+import com.example.battleship.util.Constants;
+import java.util.function.Consumer;
+
+/**
+ * Contract shared by all board renderers.
+ * Lets GameUI switch between the node-based BoardView and the CanvasBoardView.
+ */
+public interface BoardDisplay {
+
+    void updateAllCells();
+
+    void updateCell(Position position, Board.ShotResult result);
+
+    void setOnCellClick(Consumer<Position> handler);
+
+    void setTitle(String title);
+
+    void setRevealShips(boolean reveal);
+
+    VBox getView();
+
+    void reset();
+
+    /**
+     * Release animations and other resources before the view is replaced
+     */
+    void dispose();
+
+    /**
+     * Create the renderer selected by the "battleship.renderer" system property.
+     * "canvas" picks CanvasBoardView, anything else keeps BoardView.
+     */
+    static BoardDisplay create(Board board, boolean isPlayerBoard) {
+        String renderer = System.getProperty(Constants.RENDERER_PROPERTY, Constants.RENDERER_NODES);
+        if (Constants.RENDERER_CANVAS.equalsIgnoreCase(renderer)) {
+            return new CanvasBoardView(board, isPlayerBoard);
+        }
+        return new BoardView(board, isPlayerBoard);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.battleship.view;
+
+//Shared palette for board rendering
+
+import javafx.css.PseudoClass;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.paint.Color;
+
+/**
+ * Palette registry for board views.
+ * Every Paint, Effect and pseudo-class used while rendering cells is built
+ * once here, so refreshing or hovering a board allocates nothing.
+ */
+public final class BoardTheme {
+
+    // Water and board frame
+    public static final Color BOARD_BACKGROUND = Color.web("#0a2463");
+    public static final Color WATER = Color.rgb(173, 216, 230);
+    public static final Color WATER_BORDER = Color.rgb(25, 118, 210);
+
+    // Cell backgrounds per state
+    public static final Color SHIP_BACKGROUND = Color.rgb(150, 150, 150, 0.3);
+    public static final Color HIT_BACKGROUND = Color.rgb(255, 100, 100, 0.5);
+    public static final Color MISS_BACKGROUND = Color.rgb(200, 220, 255);
+    public static final Color SUNK_BACKGROUND = Color.rgb(255, 150, 150, 0.7);
+
+    // Ship hull
+    public static final Color SHIP_FILL = Color.rgb(100, 100, 100);
+    public static final Color SHIP_BORDER = Color.rgb(50, 50, 50);
+    public static final Color HIT_SHIP_FILL = Color.rgb(150, 50, 50);
+    public static final Color SUNK_SHIP_FILL = Color.rgb(100, 0, 0);
+
+    // Markers
+    public static final Color HIT_MARKER = Color.rgb(255, 50, 50, 0.8);
+    public static final Color HIT_MARKER_BORDER = Color.rgb(200, 0, 0);
+    public static final Color MISS_MARKER = Color.rgb(255, 255, 255, 0.9);
+    public static final Color MISS_MARKER_BORDER = Color.rgb(100, 149, 237);
+    public static final Color SUNK_CROSS = Color.rgb(255, 0, 0);
+    public static final Color HOVER_BORDER = Color.YELLOW;
+
+    // Effects (an Effect may be shared by any number of nodes)
+    public static final DropShadow SHIP_GLOW = createShipGlow();
+
+    // CSS hooks, see board.css
+    public static final String CELL_STYLE_CLASS = "board-cell";
+    public static final PseudoClass TARGETED = PseudoClass.getPseudoClass("targeted");
+    public static final String STYLESHEET =
+            BoardTheme.class.getResource("/com/example/battleship/board.css").toExternalForm();
+
+    private BoardTheme() {
+    }
+
+    private static DropShadow createShipGlow() {
+        DropShadow glow = new DropShadow();
+        glow.setColor(Color.rgb(0, 200, 255, 0.7));
+        glow.setRadius(10);
+        glow.setSpread(0.5);
+        return glow;
+    }
+}
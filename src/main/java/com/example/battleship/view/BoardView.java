@@ -13,7 +13,7 @@ import java.util.function.Consumer;
  * Visual representation of a game board with 2D graphics.
  * Uses JavaFX shapes for ships, water, hits, and sunk markers.
  */
-public class BoardView {
+public class BoardView implements BoardDisplay {
 
     private GridPane grid;
     private CellView[][] cells;
@@ -22,13 +22,15 @@ public class BoardView {
     private String title;
     private boolean revealShips;
     private Consumer<Position> cellClickHandler;
+    private final SunkPulseAnimator pulseAnimator;
 
     public BoardView(Board board, boolean isPlayerBoard) {
         this.board = board;
         this.isPlayerBoard = isPlayerBoard;
         this.revealShips = false;
         this.grid = new GridPane();
-        this.cells = new CellView[10][10];
+        this.cells = new CellView[board.getHeight()][board.getWidth()];
+        this.pulseAnimator = new SunkPulseAnimator();
         initializeBoard();
     }
 
@@ -39,18 +41,19 @@ public class BoardView {
         grid.setHgap(2);
         grid.setVgap(2);
         grid.setStyle("-fx-background-color: #0a2463; -fx-padding: 10; -fx-border-color: #1e3c72; -fx-border-width: 3; -fx-border-radius: 5;");
+        grid.getStylesheets().add(BoardTheme.STYLESHEET);
 
-        // Add column headers (A-J)
-        for (int col = 0; col < 10; col++) {
-            Text header = new Text(String.valueOf((char)('A' + col)));
+        // Add column headers (A, B, ...)
+        for (int col = 0; col < board.getWidth(); col++) {
+            Text header = new Text(Position.columnLabel(col));
             header.setFill(Color.WHITE);
             header.setStyle("-fx-font-weight: bold; -fx-font-size: 14;");
             GridPane.setHalignment(header, javafx.geometry.HPos.CENTER);
             grid.add(header, col + 1, 0);
         }
 
-        // Add row headers (1-10)
-        for (int row = 0; row < 10; row++) {
+        // Add row headers (1, 2, ...)
+        for (int row = 0; row < board.getHeight(); row++) {
             Text header = new Text(String.valueOf(row + 1));
             header.setFill(Color.WHITE);
             header.setStyle("-fx-font-weight: bold; -fx-font-size: 14;");
@@ -59,23 +62,23 @@ public class BoardView {
         }
 
         // Create cells
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
                 Position position = new Position(row, col);
                 CellView cellView = new CellView();
 
                 // Set up event handlers
                 cellView.getView().setOnMouseClicked(event -> handleCellClick(event, position));
 
-                // Add hover effect
+                // Add hover effect (pseudo-class toggle, no inline CSS parsing)
                 cellView.getView().setOnMouseEntered(event -> {
-                    if (cellClickHandler != null && !isPlayerBoard && board.getCell(position).isShot() == false) {
-                        cellView.getView().setStyle("-fx-border-color: yellow; -fx-border-width: 2;");
+                    if (cellClickHandler != null && !isPlayerBoard && !board.isShot(position.getRow(), position.getCol())) {
+                        cellView.getView().pseudoClassStateChanged(BoardTheme.TARGETED, true);
                     }
                 });
 
                 cellView.getView().setOnMouseExited(event -> {
-                    cellView.getView().setStyle("");
+                    cellView.getView().pseudoClassStateChanged(BoardTheme.TARGETED, false);
                 });
 
                 cells[row][col] = cellView;
@@ -99,21 +102,23 @@ public class BoardView {
      * Update all cells based on board state
      * FIXED: Now properly shows computer ships when revealShips is true
      */
+    @Override
     public void updateAllCells() {
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
-                Position position = new Position(row, col);
-                Cell cell = board.getCell(position);
+        pulseAnimator.clear();
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
                 CellView cellView = cells[row][col];
+                boolean hasShip = board.hasShip(row, col);
 
                 // First, clear the cell
                 cellView.clear();
 
                 // If cell has been shot, show the result
-                if (cell.isShot()) {
-                    if (cell.hasShip()) {
-                        if (cell.isSunk()) {
+                if (board.isShot(row, col)) {
+                    if (hasShip) {
+                        if (board.isSunk(row, col)) {
                             cellView.showSunk();
+                            pulseAnimator.add(cellView);
                         } else {
                             cellView.showHit();
                         }
@@ -122,11 +127,11 @@ public class BoardView {
                     }
                 }
                 // If not shot, show ships if we're supposed to reveal them
-                else if (revealShips && cell.hasShip()) {
+                else if (revealShips && hasShip) {
                     cellView.showShip();
                 }
                 // For player board, always show ships (since they're visible to player)
-                else if (isPlayerBoard && cell.hasShip()) {
+                else if (isPlayerBoard && hasShip) {
                     cellView.showShip();
                 }
             }
@@ -136,10 +141,12 @@ public class BoardView {
     /**
      * Update specific cell based on shot result
      */
+    @Override
     public void updateCell(Position position, Board.ShotResult result) {
         CellView cellView = cells[position.getRow()][position.getCol()];
 
         // Clear existing markers first
+        pulseAnimator.remove(cellView);
         cellView.clear();
 
         // Apply new state based on shot result
@@ -152,21 +159,20 @@ public class BoardView {
                 break;
             case SUNK:
                 cellView.showSunk();
+                pulseAnimator.add(cellView);
                 break;
             case ALREADY_SHOT:
                 break;
         }
 
-        //Update the cell's shot status in the model
-        Cell cell = board.getCell(position);
-        cell.setShot(true);
-
         // If it's a sunk result, update all cells of that ship
-        if (result == Board.ShotResult.SUNK && cell.hasShip()) {
-            Ship ship = cell.getShip();
-            if (ship != null && ship.getPositions() != null) {
-                for (Position shipPos : ship.getPositions()) {
-                    cells[shipPos.getRow()][shipPos.getCol()].showSunk();
+        if (result == Board.ShotResult.SUNK) {
+            Ship ship = board.getShipAt(position.getRow(), position.getCol());
+            if (ship != null && ship.isPlaced()) {
+                for (int i = 0; i < ship.getSize(); i++) {
+                    CellView shipCell = cells[ship.getSegmentRow(i)][ship.getSegmentCol(i)];
+                    shipCell.showSunk();
+                    pulseAnimator.add(shipCell);
                 }
             }
         }
@@ -175,6 +181,7 @@ public class BoardView {
     /**
      * Set cell click handler
      */
+    @Override
     public void setOnCellClick(Consumer<Position> handler) {
         this.cellClickHandler = handler;
     }
@@ -182,6 +189,7 @@ public class BoardView {
     /**
      * Set board title
      */
+    @Override
     public void setTitle(String title) {
         this.title = title;
     }
@@ -189,6 +197,7 @@ public class BoardView {
     /**
      * Set whether to reveal ships (for computer board)
      */
+    @Override
     public void setRevealShips(boolean reveal) {
         this.revealShips = reveal;
         updateAllCells(); // Re-render all cells with new reveal state
@@ -197,6 +206,7 @@ public class BoardView {
     /**
      * Get the view of this board
      */
+    @Override
     public VBox getView() {
         VBox container = new VBox(10);
         container.setAlignment(Pos.CENTER);
@@ -218,12 +228,22 @@ public class BoardView {
     /**
      * Reset the board view
      */
+    @Override
     public void reset() {
-        for (int row = 0; row < 10; row++) {
-            for (int col = 0; col < 10; col++) {
+        pulseAnimator.clear();
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
                 cells[row][col].clear();
             }
         }
         updateAllCells();
     }
-}
\ No newline at end of file
+
+    /**
+     * Take the sunk pulse off the shared clock before this view is discarded
+     */
+    @Override
+    public void dispose() {
+        pulseAnimator.clear();
+    }
+}
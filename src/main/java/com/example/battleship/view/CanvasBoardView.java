@@ -0,0 +1,410 @@
+package com.example.battleship.view;
+
+import javafx.geometry.Pos;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import com.example.battleship.model.*;
+import java.util.BitSet;
+import java.util.function.Consumer;
+
+/**
+ * Canvas-based board renderer.
+ * Draws the whole grid on one Canvas from cached sprite images instead of
+ * building a StackPane node tree per cell. Clicks are resolved arithmetically
+ * and sunk crosses pulse from the shared AnimationClock.
+ */
+public class CanvasBoardView implements BoardDisplay {
+
+    private static final int SPRITE_SIZE = 40;
+    private static final int MIN_CELL_SIZE = 3;
+    private static final int MIN_LABELLED_CELL_SIZE = 14;
+    private static final double MAX_BOARD_PIXELS = 420;
+    private static final int GAP = 2;
+    private static final int HEADER_SIZE = 20;
+
+    private final Board board;
+    private final boolean isPlayerBoard;
+    private final int cellSize;
+    private final int pitch;
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final StackPane holder;
+    private final BitSet sunkCells;
+    private final AnimationClock.FrameListener pulseListener;
+    private String title;
+    private boolean revealShips;
+    private Consumer<Position> cellClickHandler;
+    private int hoveredIndex = -1;
+    private double pulseScale = 1.0;
+
+    public CanvasBoardView(Board board, boolean isPlayerBoard) {
+        this.board = board;
+        this.isPlayerBoard = isPlayerBoard;
+        this.revealShips = false;
+        this.sunkCells = new BitSet(board.getWidth() * board.getHeight());
+        // Full-size sprites up to 10x10; larger boards shrink cells to stay on screen
+        int longestSide = Math.max(board.getWidth(), board.getHeight());
+        this.cellSize = Math.max(MIN_CELL_SIZE,
+                Math.min(SPRITE_SIZE, (int) (MAX_BOARD_PIXELS / longestSide)));
+        this.pitch = cellSize + GAP;
+        this.canvas = new Canvas(
+                HEADER_SIZE + GAP + board.getWidth() * pitch,
+                HEADER_SIZE + GAP + board.getHeight() * pitch);
+        this.gc = canvas.getGraphicsContext2D();
+        this.holder = new StackPane(canvas);
+        this.pulseListener = this::onFrame;
+        initializeBoard();
+    }
+
+    /**
+     * Initialize the canvas and its event handlers
+     */
+    private void initializeBoard() {
+        holder.setStyle("-fx-background-color: #0a2463; -fx-padding: 10; -fx-border-color: #1e3c72; -fx-border-width: 3; -fx-border-radius: 5;");
+
+        canvas.setOnMouseClicked(this::handleClick);
+        canvas.setOnMouseMoved(event -> setHovered(cellIndexAt(event.getX(), event.getY())));
+        canvas.setOnMouseExited(event -> setHovered(-1));
+
+        drawHeaders();
+        updateAllCells();
+    }
+
+    /**
+     * Draw column (A, B, ...) and row (1, 2, ...) headers
+     */
+    private void drawHeaders() {
+        gc.setFill(BoardTheme.BOARD_BACKGROUND);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font("System", FontWeight.BOLD, 14));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+
+        if (cellSize < MIN_LABELLED_CELL_SIZE) {
+            return;
+        }
+        for (int col = 0; col < board.getWidth(); col++) {
+            gc.fillText(Position.columnLabel(col), cellX(col) + cellSize / 2.0, HEADER_SIZE / 2.0);
+        }
+        for (int row = 0; row < board.getHeight(); row++) {
+            gc.fillText(String.valueOf(row + 1), HEADER_SIZE / 2.0, cellY(row) + cellSize / 2.0);
+        }
+    }
+
+    private double cellX(int col) {
+        return HEADER_SIZE + GAP + col * pitch;
+    }
+
+    private double cellY(int row) {
+        return HEADER_SIZE + GAP + row * pitch;
+    }
+
+    /**
+     * Resolve canvas coordinates to a cell index, or -1 for headers and gaps
+     */
+    private int cellIndexAt(double x, double y) {
+        double localX = x - (HEADER_SIZE + GAP);
+        double localY = y - (HEADER_SIZE + GAP);
+        if (localX < 0 || localY < 0) {
+            return -1;
+        }
+        int col = (int) (localX / pitch);
+        int row = (int) (localY / pitch);
+        if (col >= board.getWidth() || row >= board.getHeight()) {
+            return -1;
+        }
+        if (localX - col * pitch >= cellSize || localY - row * pitch >= cellSize) {
+            return -1;
+        }
+        return row * board.getWidth() + col;
+    }
+
+    /**
+     * Handle cell click event
+     */
+    private void handleClick(MouseEvent event) {
+        int index = cellIndexAt(event.getX(), event.getY());
+        if (index < 0) {
+            return;
+        }
+        if (cellClickHandler != null && !isPlayerBoard) {
+            cellClickHandler.accept(new Position(index / board.getWidth(), index % board.getWidth()));
+        }
+    }
+
+    /**
+     * Move the hover highlight, redrawing only the two affected cells
+     */
+    private void setHovered(int index) {
+        if (index == hoveredIndex) {
+            return;
+        }
+        int previous = hoveredIndex;
+        hoveredIndex = index;
+        if (previous >= 0) {
+            drawCell(previous / board.getWidth(), previous % board.getWidth());
+        }
+        if (index >= 0) {
+            drawCell(index / board.getWidth(), index % board.getWidth());
+        }
+    }
+
+    /**
+     * Update all cells based on board state
+     */
+    @Override
+    public void updateAllCells() {
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
+                drawCell(row, col);
+            }
+        }
+        updatePulseSubscription();
+    }
+
+    /**
+     * Update specific cell based on shot result
+     */
+    @Override
+    public void updateCell(Position position, Board.ShotResult result) {
+        drawCell(position.getRow(), position.getCol());
+
+        // If it's a sunk result, redraw all cells of that ship
+        if (result == Board.ShotResult.SUNK) {
+            Ship ship = board.getShipAt(position.getRow(), position.getCol());
+            if (ship != null && ship.isPlaced()) {
+                for (int i = 0; i < ship.getSize(); i++) {
+                    drawCell(ship.getSegmentRow(i), ship.getSegmentCol(i));
+                }
+            }
+        }
+        updatePulseSubscription();
+    }
+
+    /**
+     * Draw one cell from the sprite cache according to the model state
+     */
+    private void drawCell(int row, int col) {
+        boolean shot = board.isShot(row, col);
+        boolean hasShip = board.hasShip(row, col);
+        int index = row * board.getWidth() + col;
+        double x = cellX(col);
+        double y = cellY(row);
+
+        // Clear the cell plus its gutter so scaled crosses leave no trails
+        gc.setFill(BoardTheme.BOARD_BACKGROUND);
+        gc.fillRect(x - GAP / 2.0, y - GAP / 2.0, pitch, pitch);
+
+        Sprites sprites = Sprites.get();
+        sunkCells.clear(index);
+
+        if (shot) {
+            if (hasShip) {
+                if (board.isSunk(row, col)) {
+                    gc.drawImage(sprites.sunk, x, y, cellSize, cellSize);
+                    drawSunkCross(sprites, x, y);
+                    sunkCells.set(index);
+                } else {
+                    gc.drawImage(sprites.hit, x, y, cellSize, cellSize);
+                }
+            } else {
+                gc.drawImage(sprites.miss, x, y, cellSize, cellSize);
+            }
+        } else if ((revealShips || isPlayerBoard) && hasShip) {
+            gc.drawImage(sprites.ship, x, y, cellSize, cellSize);
+        } else {
+            gc.drawImage(sprites.water, x, y, cellSize, cellSize);
+        }
+
+        if (index == hoveredIndex && cellClickHandler != null && !isPlayerBoard && !shot) {
+            gc.setStroke(BoardTheme.HOVER_BORDER);
+            gc.setLineWidth(2);
+            gc.strokeRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+        }
+    }
+
+    private void drawSunkCross(Sprites sprites, double x, double y) {
+        double size = cellSize * pulseScale;
+        double offset = (size - cellSize) / 2.0;
+        gc.drawImage(sprites.sunkCross, x - offset, y - offset, size, size);
+    }
+
+    /**
+     * Subscribe to the shared clock only while sunk cells are on screen
+     */
+    private void updatePulseSubscription() {
+        if (sunkCells.isEmpty()) {
+            AnimationClock.getInstance().unsubscribe(pulseListener);
+            pulseScale = 1.0;
+        } else {
+            AnimationClock.getInstance().subscribe(pulseListener);
+        }
+    }
+
+    /**
+     * Pulse sunk crosses between 1.0 and 1.1 scale, redrawing only sunk cells
+     */
+    private void onFrame(long now) {
+        pulseScale = SunkPulseAnimator.scaleAt(now);
+
+        Sprites sprites = Sprites.get();
+        for (int index = sunkCells.nextSetBit(0); index >= 0; index = sunkCells.nextSetBit(index + 1)) {
+            int row = index / board.getWidth();
+            int col = index % board.getWidth();
+            double x = cellX(col);
+            double y = cellY(row);
+            gc.setFill(BoardTheme.BOARD_BACKGROUND);
+            gc.fillRect(x - GAP / 2.0, y - GAP / 2.0, pitch, pitch);
+            gc.drawImage(sprites.sunk, x, y, cellSize, cellSize);
+            drawSunkCross(sprites, x, y);
+        }
+    }
+
+    @Override
+    public void setOnCellClick(Consumer<Position> handler) {
+        this.cellClickHandler = handler;
+    }
+
+    @Override
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    @Override
+    public void setRevealShips(boolean reveal) {
+        this.revealShips = reveal;
+        updateAllCells();
+    }
+
+    @Override
+    public VBox getView() {
+        VBox container = new VBox(10);
+        container.setAlignment(Pos.CENTER);
+        container.setPadding(new javafx.geometry.Insets(10));
+
+        if (title != null) {
+            Text titleText = new Text(title);
+            titleText.setFill(Color.WHITE);
+            titleText.setStyle("-fx-font-size: 20px; -fx-font-weight: bold; -fx-font-family: 'Arial';");
+            container.getChildren().add(titleText);
+        }
+
+        container.getChildren().add(holder);
+        container.setStyle("-fx-background-color: #1c2541; -fx-background-radius: 10; -fx-padding: 15;");
+        return container;
+    }
+
+    @Override
+    public void reset() {
+        hoveredIndex = -1;
+        sunkCells.clear();
+        updateAllCells();
+    }
+
+    @Override
+    public void dispose() {
+        sunkCells.clear();
+        AnimationClock.getInstance().unsubscribe(pulseListener);
+    }
+
+    /**
+     * Cell sprites rendered once and shared by every canvas board.
+     * Built lazily on the FX thread because Canvas.snapshot requires it.
+     */
+    private static final class Sprites {
+        private static Sprites instance;
+
+        final Image water;
+        final Image ship;
+        final Image hit;
+        final Image miss;
+        final Image sunk;
+        final Image sunkCross;
+
+        private Sprites() {
+            water = render(BoardTheme.WATER, false, null, null);
+            ship = render(BoardTheme.SHIP_BACKGROUND, true, BoardTheme.SHIP_FILL, null);
+            hit = render(BoardTheme.HIT_BACKGROUND, true, BoardTheme.HIT_SHIP_FILL, Marker.HIT);
+            miss = render(BoardTheme.MISS_BACKGROUND, false, null, Marker.MISS);
+            sunk = render(BoardTheme.SUNK_BACKGROUND, true, BoardTheme.SUNK_SHIP_FILL, null);
+            sunkCross = renderCross();
+        }
+
+        static Sprites get() {
+            if (instance == null) {
+                instance = new Sprites();
+            }
+            return instance;
+        }
+
+        private enum Marker { HIT, MISS }
+
+        private static Image render(Color background, boolean withShip, Color shipFill, Marker marker) {
+            Canvas sprite = new Canvas(SPRITE_SIZE, SPRITE_SIZE);
+            GraphicsContext g = sprite.getGraphicsContext2D();
+
+            g.setFill(background);
+            g.fillRoundRect(0, 0, SPRITE_SIZE, SPRITE_SIZE, 5, 5);
+            g.setStroke(BoardTheme.WATER_BORDER);
+            g.setLineWidth(1.5);
+            g.strokeRoundRect(0.75, 0.75, SPRITE_SIZE - 1.5, SPRITE_SIZE - 1.5, 5, 5);
+
+            if (withShip) {
+                g.setEffect(BoardTheme.SHIP_GLOW);
+                g.setFill(shipFill);
+                g.fillRoundRect(3, 3, SPRITE_SIZE - 6, SPRITE_SIZE - 6, 4, 4);
+                g.setEffect(null);
+                g.setStroke(BoardTheme.SHIP_BORDER);
+                g.setLineWidth(2);
+                g.strokeRoundRect(3, 3, SPRITE_SIZE - 6, SPRITE_SIZE - 6, 4, 4);
+            }
+
+            double center = SPRITE_SIZE / 2.0;
+            if (marker == Marker.HIT) {
+                double radius = SPRITE_SIZE / 3;
+                g.setFill(BoardTheme.HIT_MARKER);
+                g.fillOval(center - radius, center - radius, radius * 2, radius * 2);
+                g.setStroke(BoardTheme.HIT_MARKER_BORDER);
+                g.setLineWidth(2);
+                g.strokeOval(center - radius, center - radius, radius * 2, radius * 2);
+            } else if (marker == Marker.MISS) {
+                double radius = SPRITE_SIZE / 4;
+                g.setFill(BoardTheme.MISS_MARKER);
+                g.fillOval(center - radius, center - radius, radius * 2, radius * 2);
+                g.setStroke(BoardTheme.MISS_MARKER_BORDER);
+                g.setLineWidth(1.5);
+                g.strokeOval(center - radius, center - radius, radius * 2, radius * 2);
+            }
+            return snapshot(sprite);
+        }
+
+        private static Image renderCross() {
+            Canvas sprite = new Canvas(SPRITE_SIZE, SPRITE_SIZE);
+            GraphicsContext g = sprite.getGraphicsContext2D();
+            g.setStroke(BoardTheme.SUNK_CROSS);
+            g.setLineWidth(4);
+            g.strokeLine(4, 4, SPRITE_SIZE - 4, SPRITE_SIZE - 4);
+            g.strokeLine(4, SPRITE_SIZE - 4, SPRITE_SIZE - 4, 4);
+            return snapshot(sprite);
+        }
+
+        private static Image snapshot(Canvas sprite) {
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            return sprite.snapshot(parameters, null);
+        }
+    }
+}
@@ -2,28 +2,44 @@ package com.example.battleship.view;
 
 import javafx.scene.layout.*;
 import javafx.scene.control.*;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.paint.Color;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
+import com.example.battleship.ai.Difficulty;
 import com.example.battleship.controller.GameController;
+import com.example.battleship.model.GameConfig;
 import com.example.battleship.model.GameState;
 import com.example.battleship.model.Position;
 import com.example.battleship.model.Ship;
+import com.example.battleship.model.ShipType;
 import com.example.battleship.model.Board;
-import com.example.battleship.model.Cell;
 import com.example.battleship.exceptions.InvalidShotException;
+import com.example.battleship.patterns.GameEvent;
+import com.example.battleship.patterns.GameEventListener;
+import com.example.battleship.util.GameLogger;
+import com.example.battleship.util.Constants;
+import com.example.battleship.metrics.GameMetrics;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Main user interface for the Battleship game.
  */
 public class GameUI {
 
+    private static final GameLogger LOG = GameLogger.getLogger(GameUI.class);
+
     private GameController gameController;
     private BorderPane mainLayout;
-    private BoardView playerBoardView;
-    private BoardView computerBoardView;
+    private BoardDisplay playerBoardView;
+    private BoardDisplay computerBoardView;
     private Label statusLabel;
     private Button startButton;
     private Button showComputerBoardButton;
@@ -32,12 +48,52 @@ public class GameUI {
     private Label currentShipLabel;
     private boolean showingComputerBoard = false;
     private ShipView selectedShipView;
+    // Thin-client mode: redraw when the server reports a move
+    private final GameEventListener serverUpdates = this::showServerState;
+    private Boolean shownPlayerTurn;
 
     public GameUI(GameController gameController) {
         this.gameController = gameController;
         this.mainLayout = new BorderPane();
         initializeUI();
         setupShipPlacement();
+        watchServer();
+    }
+
+    /**
+     * As a thin client, follow the current game's events; Main has the
+     * controller apply the server's reports on the FX thread
+     */
+    private void watchServer() {
+        if (gameController.isRemote()) {
+            shownPlayerTurn = null;
+            gameController.getGameState().getEvents().subscribe(serverUpdates);
+        }
+    }
+
+    /**
+     * Redraw after the server reported a start, a shot or the end of the match
+     */
+    private void showServerState(List<GameEvent> events) {
+        GameState state = gameController.getGameState();
+        playerBoardView.updateAllCells();
+        computerBoardView.updateAllCells();
+        updateControlPanel();
+        boolean shotShown = false;
+        for (GameEvent event : events) {
+            if (event instanceof GameEvent.ShotResolved shot && !shot.byComputer()) {
+                updateStatus(shot.result(), shot.position());
+                shotShown = true;
+            }
+        }
+        if (state.isGameOver()) {
+            statusLabel.setText("GAME OVER! " + ("Player".equals(state.getWinner()) ? "YOU WIN!" : "YOUR OPPONENT WINS!"));
+        } else if (state.isGameStarted() && !Boolean.valueOf(state.isPlayerTurn()).equals(shownPlayerTurn)) {
+            shownPlayerTurn = state.isPlayerTurn();
+            if (!shotShown) {
+                statusLabel.setText(state.isPlayerTurn() ? "Your turn! Click on enemy board to fire." : "Opponent's turn...");
+            }
+        }
     }
 
     /**
@@ -64,15 +120,13 @@ public class GameUI {
             }
         }
 
-        System.out.println("Ship placement setup complete");
+        LOG.debug("Ship placement setup complete");
     }
 
     /**
      * Initialize the main UI components
      */
     private void initializeUI() {
-        System.out.println("Initializing UI...");
-
         // Create top menu bar
         MenuBar menuBar = createMenuBar();
 
@@ -93,7 +147,7 @@ public class GameUI {
         mainLayout.setPadding(new Insets(10));
         mainLayout.setStyle("-fx-background-color: linear-gradient(to bottom, #0a2463, #1e3c72);");
 
-        System.out.println("UI initialization complete");
+        LOG.debug("UI initialization complete");
     }
 
     /**
@@ -124,21 +178,72 @@ public class GameUI {
             statusLabel.setText("Game loaded successfully!");
             updateUI();
         });
+        // Server matches are not saved locally
+        saveGameItem.setDisable(gameController.isRemote());
+        loadGameItem.setDisable(gameController.isRemote());
         exitItem.setOnAction(e -> {
-            gameController.saveGame();
+            if (!gameController.isRemote()) {
+                gameController.saveGame();
+            }
             System.exit(0);
         });
 
         fileMenu.getItems().addAll(newGameItem, saveGameItem, loadGameItem,
                 new SeparatorMenuItem(), exitItem);
 
+        Menu editMenu = new Menu("Edit");
+        editMenu.setStyle("-fx-text-fill: white;");
+        MenuItem undoItem = new MenuItem("Undo");
+        undoItem.setAccelerator(new KeyCodeCombination(KeyCode.Z, KeyCombination.SHORTCUT_DOWN));
+        undoItem.setOnAction(e -> {
+            if (gameController.undo()) {
+                refreshAfterHistoryChange("Move undone.");
+            } else {
+                statusLabel.setText("Nothing to undo.");
+            }
+        });
+        MenuItem redoItem = new MenuItem("Redo");
+        redoItem.setAccelerator(new KeyCodeCombination(KeyCode.Y, KeyCombination.SHORTCUT_DOWN));
+        redoItem.setOnAction(e -> {
+            if (gameController.redo()) {
+                refreshAfterHistoryChange("Move redone.");
+            } else {
+                statusLabel.setText("Nothing to redo.");
+            }
+        });
+        // Enable items only when the controller would accept them
+        editMenu.setOnShowing(e -> {
+            undoItem.setDisable(!gameController.canUndo());
+            redoItem.setDisable(!gameController.canRedo());
+        });
+        editMenu.getItems().addAll(undoItem, redoItem);
+
+        Menu difficultyMenu = new Menu("Difficulty");
+        difficultyMenu.setStyle("-fx-text-fill: white;");
+        ToggleGroup difficultyGroup = new ToggleGroup();
+        for (Difficulty difficulty : Difficulty.values()) {
+            RadioMenuItem item = new RadioMenuItem(difficulty.getLabel());
+            item.setToggleGroup(difficultyGroup);
+            item.setOnAction(e -> {
+                gameController.setDifficulty(difficulty);
+                statusLabel.setText("Difficulty: " + difficulty.getLabel());
+            });
+            difficultyMenu.getItems().add(item);
+        }
+        // A loaded game may have brought its own difficulty
+        difficultyMenu.setOnShowing(e -> difficultyGroup.getToggles()
+                .get(gameController.getGameState().getDifficulty().ordinal()).setSelected(true));
+
         Menu viewMenu = new Menu("View");
         viewMenu.setStyle("-fx-text-fill: white;");
         CheckMenuItem showComputerBoardItem = new CheckMenuItem("Show Computer Board (Teacher Mode)");
         showComputerBoardItem.setOnAction(e -> toggleComputerBoard());
         showComputerBoardItem.setSelected(false);
 
-        viewMenu.getItems().addAll(showComputerBoardItem);
+        MenuItem exportMetricsItem = new MenuItem("Export Metrics");
+        exportMetricsItem.setOnAction(e -> exportMetrics());
+
+        viewMenu.getItems().addAll(showComputerBoardItem, exportMetricsItem);
 
         Menu helpMenu = new Menu("Help");
         helpMenu.setStyle("-fx-text-fill: white;");
@@ -146,7 +251,7 @@ public class GameUI {
         rulesItem.setOnAction(e -> showRules());
         helpMenu.getItems().add(rulesItem);
 
-        menuBar.getMenus().addAll(fileMenu, viewMenu, helpMenu);
+        menuBar.getMenus().addAll(fileMenu, editMenu, difficultyMenu, viewMenu, helpMenu);
         return menuBar;
     }
 
@@ -176,11 +281,11 @@ public class GameUI {
         gameArea.setAlignment(Pos.CENTER);
 
         // Create player's board view
-        playerBoardView = new BoardView(gameController.getGameState().getPlayerBoard(), true);
+        playerBoardView = BoardDisplay.create(gameController.getGameState().getPlayerBoard(), true);
         playerBoardView.setTitle("YOUR FLEET");
 
         // Create computer's board view
-        computerBoardView = new BoardView(gameController.getGameState().getComputerBoard(), false);
+        computerBoardView = BoardDisplay.create(gameController.getGameState().getComputerBoard(), false);
         computerBoardView.setTitle("ENEMY WATERS");
 
         // Set up event handlers for player board (ship placement)
@@ -280,16 +385,14 @@ public class GameUI {
         panel.setStyle("-fx-background-color: rgba(0,0,0,0.2); -fx-background-radius: 5;");
 
         // Create ship views for all player ships
-        int shipCount = 0;
         for (Ship ship : gameController.getGameState().getPlayer().getShips()) {
             ShipView shipView = new ShipView(ship);
             shipView.getView().setOnMouseClicked(e -> selectShip(shipView));
             shipView.getView().setUserData(shipView);
             panel.getChildren().add(shipView.getView());
-            shipCount++;
         }
 
-        System.out.println("Created " + shipCount + " ship views in placement panel");
+        LOG.debug(() -> "Created " + panel.getChildren().size() + " ship views in placement panel");
 
         return panel;
     }
@@ -348,7 +451,7 @@ public class GameUI {
         }
 
         try {
-            System.out.println("Attempting to place " + ship.getName() + " at position " + position);
+            LOG.debug(() -> "Attempting to place " + ship.getName() + " at position " + position);
 
             boolean placed = gameController.getShipPlacementController().placeCurrentShip(position);
 
@@ -377,7 +480,7 @@ public class GameUI {
 
         } catch (Exception e) {
             statusLabel.setText("Error placing ship: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error placing ship", e);
         }
     }
 
@@ -423,8 +526,12 @@ public class GameUI {
         }
 
         try {
-            System.out.println("Player firing at position: " + position);
             Board.ShotResult result = gameController.playerFire(position);
+            if (result == null) {
+                // Sent to the server; showServerState reports the result
+                statusLabel.setText("Firing at " + position.toCoordinate() + "...");
+                return;
+            }
             updateStatus(result, position);
             computerBoardView.updateCell(position, result);
 
@@ -443,7 +550,7 @@ public class GameUI {
             statusLabel.setText("Invalid shot: " + e.getMessage());
         } catch (Exception e) {
             statusLabel.setText("Error: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error firing at " + position, e);
         }
     }
 
@@ -452,9 +559,7 @@ public class GameUI {
      */
     private void updateStatus(Board.ShotResult result, Position position) {
         String message;
-        char colChar = (char) ('A' + position.getCol());
-        int rowNum = position.getRow() + 1;
-        String positionStr = colChar + "" + rowNum;
+        String positionStr = position.toCoordinate();
 
         switch (result) {
             case HIT:
@@ -481,9 +586,8 @@ public class GameUI {
     private void toggleComputerBoard() {
         showingComputerBoard = !showingComputerBoard;
 
-        System.out.println("Toggling computer board visibility: " + showingComputerBoard);
-        System.out.println("Computer board has " +
-                gameController.getGameState().getComputerBoard().getShips().size() + " ships");
+        LOG.debug(() -> "Toggling computer board visibility: " + showingComputerBoard + " ("
+                + gameController.getGameState().getComputerBoard().shipCount() + " ships)");
 
         // Update the board view
         computerBoardView.setRevealShips(showingComputerBoard);
@@ -497,7 +601,9 @@ public class GameUI {
             statusLabel.setText("TEACHER MODE: Computer board revealed. All ships visible.");
 
             // Log the computer's ship positions for debugging
-            logComputerShipPositions();
+            if (LOG.isDebugEnabled()) {
+                logComputerShipPositions();
+            }
         } else {
             showComputerBoardButton.setText("SHOW COMPUTER BOARD");
             showComputerBoardButton.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; -fx-font-weight: bold;");
@@ -509,36 +615,32 @@ public class GameUI {
      * Debug method to log computer ship positions
      */
     private void logComputerShipPositions() {
-        System.out.println("\n=== COMPUTER SHIP POSITIONS ===");
         Board computerBoard = gameController.getGameState().getComputerBoard();
+        StringBuilder layout = new StringBuilder("Computer ship positions:\n");
         int shipCells = 0;
 
-        for (int row = 0; row < 10; row++) {
+        for (int row = 0; row < computerBoard.getHeight(); row++) {
             StringBuilder rowStr = new StringBuilder();
-            for (int col = 0; col < 10; col++) {
-                Position pos = new Position(row, col);
-                Cell cell = computerBoard.getCell(pos);
-                if (cell.hasShip()) {
+            for (int col = 0; col < computerBoard.getWidth(); col++) {
+                if (computerBoard.hasShip(row, col)) {
                     shipCells++;
                     rowStr.append("S ");
                 } else {
                     rowStr.append(". ");
                 }
             }
-            System.out.println(rowStr.toString());
+            layout.append(rowStr).append('\n');
         }
 
-        System.out.println("Total ship cells: " + shipCells + " (should be 20)");
-        System.out.println("Total ships placed: " + computerBoard.getShips().size());
-        System.out.println("===============================\n");
+        layout.append("Total ship cells: ").append(shipCells)
+                .append(", ships placed: ").append(computerBoard.shipCount());
+        LOG.debug(layout.toString());
     }
 
     /**
      * Start the game
      */
     private void startGame() {
-        System.out.println("\n=== UI: STARTING GAME ===");
-
         if (gameController.getGameState().isGameOver()) {
             // Restart game
             gameController.resetGame();
@@ -548,8 +650,6 @@ public class GameUI {
         }
 
         if (gameController.getShipPlacementController().allShipsPlaced()) {
-            System.out.println("All player ships placed. Calling gameController.startGame()...");
-
             // Call the game controller to start the game
             gameController.startGame();
 
@@ -569,10 +669,15 @@ public class GameUI {
                 playerBoardView.updateAllCells();
                 computerBoardView.updateAllCells();
 
-                System.out.println("UI: Game started successfully!");
-                System.out.println("Player turn: " + gameController.getGameState().isPlayerTurn());
-                System.out.println("Computer ships: " +
-                        gameController.getGameState().getComputerBoard().getShips().size());
+                LOG.debug(() -> "UI: Game started, computer ships: " +
+                        gameController.getGameState().getComputerBoard().shipCount());
+            } else if (gameController.isRemote()) {
+                // The server starts the match once it has found an opponent
+                startButton.setDisable(true);
+                startButton.setText("WAITING FOR OPPONENT");
+                rotateButton.setDisable(true);
+                playerBoardView.setOnCellClick(null);
+                statusLabel.setText("Waiting for the server to start the match...");
             } else {
                 statusLabel.setText("Failed to start game. Please try again.");
             }
@@ -582,8 +687,6 @@ public class GameUI {
             int total = gameController.getShipPlacementController().getTotalShips();
             statusLabel.setText("Place all ships first! " + placed + "/" + total + " ships placed.");
         }
-
-        System.out.println("=== UI: GAME START COMPLETE ===\n");
     }
 
     /**
@@ -627,8 +730,6 @@ public class GameUI {
      * Update UI after loading game
      */
     private void updateUI() {
-        System.out.println("UI: Updating after game load...");
-
         playerBoardView.updateAllCells();
         computerBoardView.updateAllCells();
         updateControlPanel();
@@ -645,12 +746,34 @@ public class GameUI {
         selectNextUnplacedShip();
     }
 
+    /**
+     * Redraw boards and the placement panel after undo or redo
+     */
+    private void refreshAfterHistoryChange(String message) {
+        playerBoardView.updateAllCells();
+        computerBoardView.updateAllCells();
+
+        for (var child : shipPlacementPanel.getChildren()) {
+            if (child.getUserData() instanceof ShipView shipView) {
+                if (shipView.getShip().isPlaced()) {
+                    shipView.getView().setStyle("-fx-background-color: #4CAF50; -fx-padding: 5; -fx-background-radius: 3;");
+                } else {
+                    shipView.deselect();
+                }
+            }
+        }
+        if (!gameController.getGameState().isGameStarted()) {
+            selectNextUnplacedShip();
+        }
+
+        updateControlPanel();
+        statusLabel.setText(message);
+    }
+
     /**
      * Reset UI for new game
      */
     private void resetUI() {
-        System.out.println("UI: Resetting UI for new game...");
-
         // Reset ship placement panel
         shipPlacementPanel.getChildren().clear();
         for (Ship ship : gameController.getGameState().getPlayer().getShips()) {
@@ -661,11 +784,13 @@ public class GameUI {
         }
 
         // Reset boards
-        playerBoardView = new BoardView(gameController.getGameState().getPlayerBoard(), true);
+        playerBoardView.dispose();
+        computerBoardView.dispose();
+        playerBoardView = BoardDisplay.create(gameController.getGameState().getPlayerBoard(), true);
         playerBoardView.setTitle("YOUR FLEET");
         playerBoardView.setOnCellClick(this::handlePlayerBoardClick);
 
-        computerBoardView = new BoardView(gameController.getGameState().getComputerBoard(), false);
+        computerBoardView = BoardDisplay.create(gameController.getGameState().getComputerBoard(), false);
         computerBoardView.setTitle("ENEMY WATERS");
         computerBoardView.setOnCellClick(this::handleComputerBoardClick);
 
@@ -692,29 +817,64 @@ public class GameUI {
         selectNextUnplacedShip();
 
         updateControlPanel();
-        System.out.println("UI: Reset complete");
+        watchServer();
+        LOG.debug("UI: Reset complete");
+    }
+
+    /**
+     * Write the metrics registry to disk as JSON
+     */
+    private void exportMetrics() {
+        Path path = Path.of(Constants.METRICS_FILE_PATH);
+        try {
+            GameMetrics.getInstance().writeJson(path);
+            statusLabel.setText("Metrics exported to " + path);
+        } catch (IOException e) {
+            statusLabel.setText("Failed to export metrics: " + e.getMessage());
+            LOG.error("Failed to export metrics", e);
+        }
+    }
+
+    /**
+     * Human-readable ship type name, e.g. AIRCRAFT_CARRIER -> "Aircraft Carrier"
+     */
+    private static String shipTypeName(ShipType type) {
+        StringBuilder name = new StringBuilder();
+        for (String word : type.name().split("_")) {
+            if (name.length() > 0) {
+                name.append(' ');
+            }
+            name.append(word.charAt(0)).append(word.substring(1).toLowerCase());
+        }
+        return name.toString();
     }
 
     /**
      * Show game rules
      */
     private void showRules() {
-        String rules = "BATTLESHIP GAME RULES:\n\n" +
-                "1. Place all 10 ships on your board\n" +
-                "2. Ships cannot overlap or go off board\n" +
-                "3. Take turns firing at enemy board\n" +
-                "4. Hit = Red circle, Miss = White circle\n" +
-                "5. Sink all enemy ships to win!\n\n" +
-                "Ship Types:\n" +
-                "- 1 Aircraft Carrier (4 spaces)\n" +
-                "- 2 Submarines (3 spaces each)\n" +
-                "- 3 Destroyers (2 spaces each)\n" +
-                "- 4 Frigates (1 space each)";
+        GameConfig config = gameController.getGameState().getConfig();
+        StringBuilder rules = new StringBuilder("BATTLESHIP GAME RULES:\n\n")
+                .append("1. Place all ").append(config.getTotalShips()).append(" ships on your ")
+                .append(config.getWidth()).append("x").append(config.getHeight()).append(" board\n")
+                .append("2. Ships cannot overlap or go off board\n")
+                .append("3. Take turns firing at enemy board\n")
+                .append("4. Hit = Red circle, Miss = White circle\n")
+                .append("5. Sink all enemy ships to win!\n\n")
+                .append("Ship Types:");
+        for (Map.Entry<ShipType, Integer> entry : config.getFleet().entrySet()) {
+            int count = entry.getValue();
+            int size = entry.getKey().getSize();
+            rules.append("\n- ").append(count).append(" ").append(shipTypeName(entry.getKey()))
+                    .append(count == 1 ? "" : "s")
+                    .append(" (").append(size).append(size == 1 ? " space" : " spaces")
+                    .append(count == 1 ? ")" : " each)");
+        }
 
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Game Rules");
         alert.setHeaderText("Battleship Game Rules");
-        alert.setContentText(rules);
+        alert.setContentText(rules.toString());
         alert.showAndWait();
     }
 
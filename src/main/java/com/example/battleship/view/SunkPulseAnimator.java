@@ -0,0 +1,127 @@
+package com.example.battleship.view;
+
+//Sunk-ship pulse for one board, on the shared AnimationClock
+
+import com.example.battleship.metrics.GameMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pulses every sunk cell on one BoardView from the shared AnimationClock.
+ * It is subscribed only while the active list is non-empty, so cleared or
+ * discarded boards cost nothing per pulse.
+ */
+public class SunkPulseAnimator {
+
+    private static final double PERIOD_NANOS = 1_000_000_000.0;
+    private static final double MAX_GROWTH = 0.1;
+
+    // Process-wide counters exposed as metrics
+    private static final AtomicInteger PULSING_BOARDS = new AtomicInteger();
+    private static final AtomicInteger PULSING_CELLS = new AtomicInteger();
+
+    static {
+        GameMetrics metrics = GameMetrics.getInstance();
+        metrics.gauge(GameMetrics.UI_ANIMATIONS_RUNNING, SunkPulseAnimator::getRunningAnimations);
+        metrics.gauge(GameMetrics.UI_CELLS_PULSING, SunkPulseAnimator::getPulsingCellCount);
+    }
+
+    private final List<CellView> activeCells;
+    private final AnimationClock.FrameListener frameListener;
+    private boolean running;
+
+    public SunkPulseAnimator() {
+        this.activeCells = new ArrayList<>();
+        this.frameListener = this::onFrame;
+    }
+
+    /**
+     * Scale of a sunk cross at frame time now, between 1.0 and 1.0 + MAX_GROWTH
+     */
+    public static double scaleAt(long now) {
+        double phase = (now % (long) PERIOD_NANOS) / PERIOD_NANOS;
+        return 1.0 + MAX_GROWTH * 0.5 * (1 - Math.cos(2 * Math.PI * phase));
+    }
+
+    /**
+     * Start pulsing a cell; subscribes to the clock if this board was idle
+     */
+    public void add(CellView cell) {
+        if (cell.isPulsing()) {
+            return;
+        }
+        cell.setPulsing(true);
+        activeCells.add(cell);
+        PULSING_CELLS.incrementAndGet();
+        if (!running) {
+            running = true;
+            PULSING_BOARDS.incrementAndGet();
+            AnimationClock.getInstance().subscribe(frameListener);
+        }
+    }
+
+    /**
+     * Stop pulsing a cell and reset its scale; unsubscribes when idle
+     */
+    public void remove(CellView cell) {
+        if (!cell.isPulsing()) {
+            return;
+        }
+        cell.setPulsing(false);
+        cell.setPulseScale(1.0);
+        activeCells.remove(cell);
+        PULSING_CELLS.decrementAndGet();
+        stopIfIdle();
+    }
+
+    /**
+     * Stop pulsing every cell on this board
+     */
+    public void clear() {
+        for (CellView cell : activeCells) {
+            cell.setPulsing(false);
+            cell.setPulseScale(1.0);
+        }
+        PULSING_CELLS.addAndGet(-activeCells.size());
+        activeCells.clear();
+        stopIfIdle();
+    }
+
+    private void stopIfIdle() {
+        if (running && activeCells.isEmpty()) {
+            running = false;
+            PULSING_BOARDS.decrementAndGet();
+            AnimationClock.getInstance().unsubscribe(frameListener);
+        }
+    }
+
+    private void onFrame(long now) {
+        double scale = scaleAt(now);
+        for (int i = 0; i < activeCells.size(); i++) {
+            activeCells.get(i).setPulseScale(scale);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getActiveCellCount() {
+        return activeCells.size();
+    }
+
+    /**
+     * Number of boards currently pulsing on the clock across the application
+     */
+    public static int getRunningAnimations() {
+        return PULSING_BOARDS.get();
+    }
+
+    /**
+     * Number of cells currently pulsing across the application
+     */
+    public static int getPulsingCellCount() {
+        return PULSING_CELLS.get();
+    }
+}
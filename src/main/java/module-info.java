@@ -2,6 +2,7 @@ module com.example.battleship {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires jdk.jfr;
 
 
     opens com.example.battleship to javafx.fxml;
@@ -16,4 +17,8 @@ module com.example.battleship {
     exports com.example.battleship.util;
     exports com.example.battleship.patterns;
     exports com.example.battleship.exceptions;
+    exports com.example.battleship.metrics;
+    exports com.example.battleship.ai;
+    exports com.example.battleship.sim;
+    exports com.example.battleship.net;
 }
\ No newline at end of file
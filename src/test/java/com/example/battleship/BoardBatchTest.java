@@ -0,0 +1,76 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import com.example.battleship.sim.BoardBatch;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for BoardBatch, run with and without the vector kernels.
+ */
+public class BoardBatchTest {
+
+    @Test
+    public void testBoardBatchMatchesBoardShots() {
+        assertMatchesBoardShots(false);
+    }
+
+    /**
+     * Needs the vector profile's build and --add-modules jdk.incubator.vector
+     */
+    @Test
+    public void testVectorBoardBatchMatchesBoardShots() {
+        assumeTrue(BoardBatch.isVectorAvailable(), "Vector kernels not in this build or JVM");
+        assertMatchesBoardShots(true);
+    }
+
+    private static void assertMatchesBoardShots(boolean vectorized) {
+        GameConfig config = GameConfig.defaultConfig();
+        LayoutGenerator generator = new LayoutGenerator(config);
+        SplittableRandom random = new SplittableRandom(21);
+        long[] layout = new long[generator.getStride()];
+        // Not a multiple of any vector length, so the scalar tail runs too
+        int size = 67;
+        BoardBatch batch = new BoardBatch(config, size, vectorized);
+        assertEquals(vectorized, batch.isVectorized());
+        Board[] boards = new Board[size];
+        for (int b = 0; b < size; b++) {
+            generator.generate(random, layout, 0);
+            boards[b] = new Board(config);
+            generator.apply(layout, 0, boards[b], config.createFleet());
+            if (b % 2 == 0) {
+                batch.load(b, generator, layout, 0);
+            } else {
+                boards[b].receiveShot(new Position(random.nextInt(10), random.nextInt(10)));
+                batch.load(b, boards[b]);
+            }
+        }
+        int[] cells = new int[size];
+        byte[] results = new byte[size];
+        boolean[] over = new boolean[size];
+        for (int step = 0; step < 150; step++) {
+            for (int b = 0; b < size; b++) {
+                cells[b] = random.nextInt(100);
+            }
+            batch.receiveShots(cells, results);
+            int expectedOver = 0;
+            for (int b = 0; b < size; b++) {
+                Board.ShotResult expected = boards[b].receiveShot(new Position(cells[b] / 10, cells[b] % 10));
+                assertEquals(expected.ordinal(), results[b], "board " + b + " step " + step);
+                int sunk = 0;
+                for (Ship placed : boards[b].getShips()) {
+                    sunk += placed.isSunk() ? 1 : 0;
+                }
+                assertEquals(sunk, batch.getSunkCount(b));
+                expectedOver += boards[b].allShipsSunk() ? 1 : 0;
+            }
+            assertEquals(expectedOver, batch.gameOver(over));
+        }
+    }
+}
@@ -91,4 +91,126 @@ public class BoardTest {
 
         assertTrue(board.allShipsSunk(), "All ships should be sunk");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRevealedShipIsSunkInTheSnapshot() {
+        board.markShot(new Position(2, 3), true);
+        board.markShot(new Position(2, 4), true);
+        board.revealShip(ship, new Position(2, 3), true);
+
+        BoardSnapshot snapshot = board.snapshot();
+        assertTrue(ship.isSunk());
+        assertTrue(snapshot.ships().get(0).isSunk());
+        assertEquals(0, snapshot.remainingShipCells(), "A revealed sunk ship has no cells left to hit");
+        assertTrue(snapshot.allShipsSunk());
+    }
+
+    @Test
+    public void testShipAccessorsDoNotCopy() {
+        Ship frigate = new Ship(ShipType.FRIGATE);
+        board.placeShip(ship, new Position(0, 0), true);
+        board.placeShip(frigate, new Position(5, 5), true);
+
+        assertSame(board.getShips(), board.getShips(), "getShips should return the same view");
+        assertThrows(UnsupportedOperationException.class, () -> board.getShips().add(frigate),
+                "Ship view should be read-only");
+        assertEquals(2, board.shipCount());
+        assertSame(frigate, board.getShip(1), "Ships should be indexed in placement order");
+
+        int[] cells = new int[1];
+        board.forEachShip(s -> cells[0] += s.getSize());
+        assertEquals(3, cells[0], "forEachShip should visit every placed ship");
+    }
+
+    @Test
+    public void testRemainingShipCellsCounter() {
+        board.placeShip(ship, new Position(0, 0), true);
+        board.placeShip(new Ship(ShipType.FRIGATE), new Position(5, 5), true);
+        assertEquals(3, board.getRemainingShipCells(), "Counter should start at total ship cells");
+
+        board.receiveShot(new Position(0, 0));
+        board.receiveShot(new Position(0, 0));
+        board.receiveShot(new Position(9, 9));
+        assertEquals(2, board.getRemainingShipCells(), "Repeat shots and misses should not count");
+        assertFalse(board.allShipsSunk(), "Ships remain afloat");
+
+        board.clear();
+        assertEquals(0, board.getRemainingShipCells(), "Clear should reset the counter");
+    }
+
+    @Test
+    public void testCustomBoardSize() {
+        Board large = new Board(GameConfig.defaultConfig().withBoardSize(30, 20));
+        assertEquals(30, large.getWidth(), "Board width should follow the config");
+        assertEquals(20, large.getHeight(), "Board height should follow the config");
+        assertTrue(large.placeShip(ship, new Position(19, 28), true), "Ship should fit in the last row");
+        assertFalse(large.isValidPosition(new Position(20, 0)), "Row past the height should be invalid");
+    }
+
+    @Test
+    public void testConfigRejectsOversizedFleet() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GameConfig.defaultConfig().withBoardSize(3, 3),
+                "Default fleet should not fit on a 3x3 board");
+    }
+
+    @Test
+    public void testSparseBoardStoresOnlyTouchedCells() {
+        GameConfig config = GameConfig.defaultConfig().withBoardSize(1000, 1000);
+        Board large = Board.create(config);
+        assertTrue(large instanceof SparseBoard, "Large boards should use sparse storage");
+        SparseBoard sparse = (SparseBoard) large;
+
+        assertTrue(sparse.placeShip(ship, new Position(999, 998), true), "Ship should fit in the corner");
+        assertEquals(Board.ShotResult.MISS, sparse.receiveShot(new Position(500, 500)));
+        assertEquals(Board.ShotResult.HIT, sparse.receiveShot(new Position(999, 998)));
+        assertFalse(sparse.isShot(0, 0), "Untouched cells read as empty");
+        assertEquals(3, sparse.getStoredCellCount(), "Only ship and shot cells should be stored");
+
+        sparse.clear();
+        assertEquals(0, sparse.getStoredCellCount(), "Clear should drop every stored cell");
+        assertFalse(sparse.hasShip(999, 998), "Ship should be gone after clear");
+    }
+
+    @Test
+    public void testSnapshotsAreImmutableAndShareStructure() {
+        Board large = Board.create(GameConfig.defaultConfig().withBoardSize(200, 200));
+        large.placeShip(ship, new Position(0, 0), true);
+        BoardSnapshot before = large.snapshot();
+
+        large.receiveShot(new Position(0, 0));
+        large.receiveShot(new Position(199, 199));
+        BoardSnapshot after = large.snapshot();
+
+        assertFalse(before.isShot(0, 0), "Older snapshot should not see later shots");
+        assertTrue(after.isShot(0, 0));
+        assertEquals(1, after.ships().get(0).hitMask(), "First segment should be hit");
+        assertTrue(after.shots().sharesChunk(before.shots(), 100 * 200), "Untouched chunks should be shared");
+        assertSame(before.shipCells(), after.shipCells(), "Ship cells should be shared when only shots change");
+    }
+
+    @Test
+    public void testBoardZobristKeyIgnoresMoveOrder() {
+        Board first = new Board();
+        first.placeShip(new Ship(ShipType.DESTROYER), new Position(0, 0), true);
+        first.placeShip(new Ship(ShipType.FRIGATE), new Position(5, 5), true);
+        first.receiveShot(new Position(9, 9));
+        first.receiveShot(new Position(5, 5));
+
+        Board second = new Board();
+        second.placeShip(new Ship(ShipType.FRIGATE), new Position(5, 5), true);
+        second.placeShip(new Ship(ShipType.DESTROYER), new Position(0, 0), true);
+        second.receiveShot(new Position(5, 5));
+        long beforeMiss = second.getZobristKey();
+        second.receiveShot(new Position(9, 9));
+        assertEquals(first.getZobristKey(), second.getZobristKey());
+
+        second.undoShot(new Position(9, 9), 0L);
+        assertEquals(beforeMiss, second.getZobristKey());
+        Board moved = new Board();
+        moved.placeShip(new Ship(ShipType.DESTROYER), new Position(0, 1), true);
+        assertNotEquals(new Board().getZobristKey(), moved.getZobristKey());
+        moved.clear();
+        assertEquals(0L, moved.getZobristKey());
+    }
+}
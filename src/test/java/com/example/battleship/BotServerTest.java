@@ -0,0 +1,67 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.net.BotProtocol;
+import com.example.battleship.net.BotServer;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for BotServer, played by scripted bots over loopback.
+ */
+public class BotServerTest {
+
+    @Test
+    public void testRemoteBotPlaysEitherSideAndForfeitsWhenLate() throws Exception {
+        try (BotServer server = new BotServer(GameConfig.defaultConfig(), 0, 300)) {
+            server.start();
+            // Fires row by row and always answers in time
+            List<String> player = playBot(server.getPort(), "HELLO sweeper PLAYER EASY", true);
+            assertTrue(player.get(0).startsWith("GAME 10 10 PLAYER 300 "), player.get(0));
+            String end = player.get(player.size() - 1);
+            assertTrue(end.startsWith(BotProtocol.END), end);
+            assertTrue(player.stream().anyMatch(line -> line.startsWith(BotProtocol.RESULT)));
+
+            // Never answers, so loses at its first turn
+            long start = System.nanoTime();
+            List<String> silent = playBot(server.getPort(), "HELLO sleeper COMPUTER", false);
+            assertEquals(BotProtocol.end(false), silent.get(silent.size() - 1));
+            assertTrue(silent.stream().anyMatch(line -> line.startsWith(BotProtocol.INCOMING)));
+            assertTrue(System.nanoTime() - start < 5_000_000_000L);
+
+            List<String> rejected = playBot(server.getPort(), "HELLO x SPECTATOR", true);
+            assertTrue(rejected.get(0).startsWith(BotProtocol.ERROR));
+        }
+    }
+
+    private static List<String> playBot(int port, String hello, boolean answer) throws Exception {
+        List<String> received = new ArrayList<>();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setSoTimeout(10_000);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+            out.print(hello + "\n");
+            out.flush();
+            int next = 0;
+            String line;
+            while ((line = in.readLine()) != null) {
+                received.add(line);
+                if (line.startsWith(BotProtocol.TURN) && answer) {
+                    out.print(BotProtocol.fire(new Position(next / 10, next % 10)) + "\n");
+                    out.flush();
+                    next++;
+                }
+            }
+        }
+        return received;
+    }
+}
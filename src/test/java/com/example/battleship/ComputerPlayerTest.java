@@ -0,0 +1,53 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.LayoutPool;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.ComputerPlayer;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Ship;
+import com.example.battleship.model.ShipType;
+import java.util.EnumMap;
+
+/**
+ * Unit tests for ComputerPlayer ship placement.
+ */
+public class ComputerPlayerTest {
+
+    @Test
+    public void testPlacesFleetFromLayoutPool() throws Exception {
+        GameConfig config = GameConfig.defaultConfig();
+        try (LayoutPool pool = new LayoutPool(new LayoutGenerator(config), 4, 1)) {
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (pool.available() < 4) {
+                assertTrue(System.nanoTime() < deadline, "Pool never filled");
+                Thread.sleep(5);
+            }
+            // With the worker stopped, only placements can empty the ring
+            pool.close();
+
+            ComputerPlayer computer = new ComputerPlayer(config);
+            computer.setLayoutPool(pool);
+            Board board = Board.create(config);
+            computer.placeShipsRandomly(board);
+            assertEquals(3, pool.available(), "Placement should take one pooled layout");
+            assertEquals(config.getTotalShips(), board.shipCount());
+            for (Ship ship : computer.getShips()) {
+                assertTrue(ship.isPlaced());
+            }
+
+            // A pool for another board size is left alone
+            EnumMap<ShipType, Integer> fleet = new EnumMap<>(ShipType.class);
+            fleet.put(ShipType.DESTROYER, 2);
+            GameConfig small = new GameConfig(4, 4, fleet);
+            ComputerPlayer other = new ComputerPlayer(small);
+            other.setLayoutPool(pool);
+            Board smallBoard = Board.create(small);
+            other.placeShipsRandomly(smallBoard);
+            assertEquals(3, pool.available());
+            assertEquals(2, smallBoard.shipCount());
+        }
+    }
+}
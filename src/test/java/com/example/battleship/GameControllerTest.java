@@ -3,10 +3,29 @@ package com.example.battleship;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.SamplingStrategy;
+import com.example.battleship.ai.ShotKnowledge;
 import com.example.battleship.controller.GameController;
+import com.example.battleship.model.GameSnapshot;
 import com.example.battleship.model.GameState;
 import com.example.battleship.model.Position;
 import com.example.battleship.exceptions.InvalidShotException;
+import com.example.battleship.exceptions.MoveTimeoutException;
+import com.example.battleship.patterns.GameEvent;
+import com.example.battleship.patterns.GameEventBus;
+import com.example.battleship.model.Board;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.example.battleship.controller.AIPlayerAgent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import com.example.battleship.controller.FileManager;
+import com.example.battleship.model.Ship;
+import com.example.battleship.util.Constants;
+import java.util.function.BooleanSupplier;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Unit tests for GameController class.
@@ -66,4 +85,148 @@ public class GameControllerTest {
         assertEquals(0, gameController.getShipPlacementController().getCurrentShipIndex());
         assertEquals(10, gameController.getShipPlacementController().getTotalShips());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUndoRedoShipPlacement() {
+        assertTrue(gameController.getShipPlacementController().placeCurrentShip(new Position(0, 0)));
+        assertTrue(gameController.getShipPlacementController().placeCurrentShip(new Position(2, 0)));
+        assertEquals(2, gameState.getPlayerBoard().shipCount());
+
+        assertTrue(gameController.undo(), "Placement should be undoable before the game starts");
+        assertEquals(1, gameState.getPlayerBoard().shipCount());
+        assertFalse(gameState.getPlayerBoard().hasShip(2, 0), "Undone ship should leave the board");
+        assertEquals(1, gameController.getShipPlacementController().getCurrentShipIndex());
+
+        assertTrue(gameController.redo());
+        assertTrue(gameState.getPlayerBoard().hasShip(2, 0), "Redo should put the ship back");
+        assertFalse(gameController.canRedo(), "Nothing left to redo");
+    }
+
+    @Test
+    public void testBatchedEventsAreCoalesced() {
+        List<List<GameEvent>> deliveries = new ArrayList<>();
+        GameEventBus events = gameState.getEvents();
+        events.subscribe(deliveries::add);
+
+        events.beginBatch();
+        try {
+            gameState.setPlayerTurn(false);
+            gameState.setPlayerTurn(true);
+            gameState.setGameStarted(true);
+            assertTrue(deliveries.isEmpty(), "Nothing should be delivered inside a batch");
+        } finally {
+            events.endBatch();
+        }
+
+        assertEquals(1, deliveries.size(), "A batch should reach listeners once");
+        assertEquals(List.of(new GameEvent.TurnChanged(true), new GameEvent.GameStarted(true)), deliveries.get(0));
+    }
+
+    @Test
+    public void testDifficultyIsKeptPerGame() {
+        assertEquals(Difficulty.MEDIUM, gameState.getDifficulty());
+        gameController.setDifficulty(Difficulty.EXPERT);
+        SamplingStrategy strategy = (SamplingStrategy) gameState.getComputer().getAiStrategy().getShotStrategy();
+
+        // A move whose deadline has passed draws nothing but still answers
+        ShotKnowledge knowledge = new ShotKnowledge(gameState.getConfig());
+        assertNotNull(strategy.nextShot(knowledge, System.nanoTime() - 1));
+        assertEquals(0, strategy.getSampleCount());
+        assertNotNull(strategy.nextShot(knowledge, Long.MAX_VALUE));
+        assertTrue(strategy.getSampleCount() > 0);
+        assertNotNull(gameState.getComputer().generateShot());
+
+        GameSnapshot saved = gameState.snapshot();
+        assertEquals(Difficulty.EXPERT, GameState.fromSnapshot(saved).getDifficulty());
+        gameController.resetGame();
+        assertEquals(Difficulty.EXPERT, gameController.getGameState().getDifficulty());
+    }
+
+    @Test
+    public void testLoadedFleetKeepsItsDamageAndCanBeSunk() throws Exception {
+        gameController.setAutoSave(false);
+        assertTrue(gameController.getShipPlacementController().placeRemainingRandomly(new Random(3)));
+        gameController.startGame();
+        Board board = gameState.getPlayerBoard();
+        Ship first = board.getShip(0);
+        board.receiveShot(new Position(first.getSegmentRow(0), first.getSegmentCol(0)));
+
+        Path save = Path.of(Constants.SAVE_FILE_PATH);
+        byte[] previous = Files.exists(save) ? Files.readAllBytes(save) : null;
+        boolean madeDirectory = !Files.isDirectory(save.getParent());
+        Files.createDirectories(save.getParent());
+        try {
+            new FileManager().saveSerializable(gameState.snapshot(), Constants.SAVE_FILE_PATH);
+            gameController.loadGame();
+        } finally {
+            if (previous != null) {
+                Files.write(save, previous);
+            } else {
+                Files.deleteIfExists(save);
+            }
+            if (madeDirectory) {
+                Files.deleteIfExists(save.getParent());
+            }
+        }
+
+        GameState loaded = gameController.getGameState();
+        assertNotSame(gameState, loaded);
+        assertTrue(gameController.getShipPlacementController().allShipsPlaced(), "Load must not unplace the fleet");
+        Board loadedBoard = loaded.getPlayerBoard();
+        Ship loadedFirst = loadedBoard.getShip(0);
+        assertEquals(1, loadedFirst.getHitCount());
+        Board.ShotResult last = null;
+        for (int i = 1; i < loadedFirst.getSize(); i++) {
+            last = loadedBoard.receiveShot(new Position(loadedFirst.getSegmentRow(i), loadedFirst.getSegmentCol(i)));
+        }
+        assertTrue(loadedFirst.getSize() == 1 || last == Board.ShotResult.SUNK);
+        assertTrue(loadedFirst.isSunk());
+        for (int ship = 1; ship < loadedBoard.shipCount(); ship++) {
+            Ship other = loadedBoard.getShip(ship);
+            for (int i = 0; i < other.getSize(); i++) {
+                loadedBoard.receiveShot(new Position(other.getSegmentRow(i), other.getSegmentCol(i)));
+            }
+        }
+        assertTrue(loadedBoard.allShipsSunk(), "A loaded game must still be losable");
+    }
+
+    @Test
+    public void testPlayerAgentIsNeverAskedTwiceAtOnce() throws Exception {
+        for (int game = 0; game < 10; game++) {
+            GameState state = new GameState();
+            GameController controller = new GameController(state);
+            controller.setAutoSave(false);
+            controller.setThinkingDelayMillis(0);
+            assertTrue(controller.getShipPlacementController().placeRemainingRandomly(new Random(game)));
+            AIPlayerAgent ai = new AIPlayerAgent(state, false, Difficulty.EASY);
+            state.getEvents().subscribe(ai);
+            AtomicInteger asking = new AtomicInteger();
+            AtomicInteger overlaps = new AtomicInteger();
+            controller.setPlayerAgent((gameState, computerSide, deadline) -> {
+                if (asking.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                try {
+                    Thread.sleep(1);
+                    return ai.chooseShot(gameState, computerSide, deadline);
+                } catch (InterruptedException e) {
+                    throw new MoveTimeoutException("Interrupted", e);
+                } finally {
+                    asking.decrementAndGet();
+                }
+            });
+            controller.startGame();
+            waitFor(state::isGameOver);
+            controller.shutdown();
+            assertEquals(0, overlaps.get(), "Two agent loops ran at once in game " + game);
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.HeatmapPlacement;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.ShotHeatmap;
+import com.example.battleship.model.GameConfig;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for ShotHeatmap and HeatmapPlacement.
+ */
+public class HeatmapPlacementTest {
+
+    @Test
+    public void testHeatmapPlacementAvoidsHotCells() throws Exception {
+        GameConfig config = GameConfig.defaultConfig();
+        Path file = Files.createTempFile("heatmap", ".bin");
+        Files.delete(file);
+        try (ShotHeatmap heatmap = ShotHeatmap.open(file, config)) {
+            for (int row = 3; row <= 6; row++) {
+                for (int col = 3; col <= 6; col++) {
+                    heatmap.recordShot(row * 10 + col);
+                }
+            }
+            heatmap.recordGame();
+        }
+        ShotHeatmap heatmap = ShotHeatmap.open(file, config);
+        assertEquals(1, heatmap.getGames());
+        assertEquals(1, heatmap.getCount(44));
+
+        LayoutGenerator generator = new LayoutGenerator(config);
+        HeatmapPlacement placement = new HeatmapPlacement(generator, heatmap);
+        SplittableRandom random = new SplittableRandom(11);
+        long[] layout = new long[generator.getStride()];
+        int adversarial = 0;
+        int uniform = 0;
+        for (int i = 0; i < 200; i++) {
+            placement.choose(random, null, layout);
+            adversarial += centreCells(layout);
+            generator.generate(random, layout, 0);
+            uniform += centreCells(layout);
+        }
+        heatmap.close();
+        Files.delete(file);
+        assertTrue(adversarial < uniform / 2, adversarial + " centre cells vs " + uniform + " at random");
+    }
+
+    private static int centreCells(long[] layout) {
+        int count = 0;
+        for (int row = 3; row <= 6; row++) {
+            for (int col = 3; col <= 6; col++) {
+                count += LayoutGenerator.occupies(layout, 0, row * 10 + col) ? 1 : 0;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.LayoutCounter;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.ShotKnowledge;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import com.example.battleship.model.ShipType;
+import java.util.EnumMap;
+
+/**
+ * Unit tests for LayoutCounter.
+ */
+public class LayoutCounterTest {
+
+    @Test
+    public void testLayoutCountMatchesEnumeration() {
+        EnumMap<ShipType, Integer> fleet = new EnumMap<>(ShipType.class);
+        fleet.put(ShipType.SUBMARINE, 1);
+        fleet.put(ShipType.DESTROYER, 1);
+        fleet.put(ShipType.FRIGATE, 2);
+        GameConfig config = new GameConfig(4, 4, fleet);
+        LayoutCounter counter = new LayoutCounter(config);
+        assertEquals(14520, counter.count(), "Known number of layouts on a 4x4 board");
+
+        Board small = new Board(config);
+        small.placeShip(new Ship(ShipType.SUBMARINE), new Position(0, 0), true);
+        small.placeShip(new Ship(ShipType.DESTROYER), new Position(2, 0), false);
+        small.receiveShot(new Position(0, 1));
+        small.receiveShot(new Position(3, 3));
+        ShotKnowledge knowledge = ShotKnowledge.of(small, config);
+
+        long consistent = counter.count(knowledge);
+        assertTrue(consistent > 0 && consistent < 14520);
+        // The visitor stops the walk at the first layout that contradicts a shot
+        assertEquals(consistent, counter.enumerate(knowledge, layout ->
+                LayoutGenerator.occupies(layout, 0, 1) && !LayoutGenerator.occupies(layout, 0, 15)),
+                "Every enumerated layout should agree with the hit and the miss");
+    }
+}
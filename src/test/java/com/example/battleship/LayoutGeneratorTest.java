@@ -0,0 +1,53 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.LayoutPool;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.ShipType;
+import java.util.EnumMap;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for LayoutGenerator.
+ */
+public class LayoutGeneratorTest {
+
+    @Test
+    public void testGeneratedLayoutsAreLegal() {
+        GameConfig config = GameConfig.defaultConfig();
+        LayoutGenerator generator = new LayoutGenerator(config);
+        long[] layout = new long[generator.getStride()];
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100; i++) {
+            generator.generate(random, layout, 0);
+            Board generated = Board.create(config);
+            assertTrue(generator.apply(layout, 0, generated, config.createFleet()), "Layout should place every ship");
+            assertEquals(config.getTotalShipCells(), Long.bitCount(layout[0]) + Long.bitCount(layout[1]));
+            for (int cell = 0; cell < config.getCellCount(); cell++) {
+                assertEquals(LayoutGenerator.occupies(layout, 0, cell),
+                        generated.hasShip(cell / config.getWidth(), cell % config.getWidth()));
+            }
+        }
+    }
+
+    @Test
+    public void testUnpackableFleetIsReportedInsteadOfRetriedForever() {
+        // Ten cells for ten ship cells, but two rows of five cannot hold 4 + 3 + 3
+        EnumMap<ShipType, Integer> fleet = new EnumMap<>(ShipType.class);
+        fleet.put(ShipType.AIRCRAFT_CARRIER, 1);
+        fleet.put(ShipType.SUBMARINE, 2);
+        GameConfig config = new GameConfig(5, 2, fleet);
+        LayoutGenerator generator = new LayoutGenerator(config);
+        long[] layout = new long[generator.getStride()];
+        assertFalse(generator.generate(new SplittableRandom(5), layout, 0));
+
+        try (LayoutPool pool = new LayoutPool(generator, 4, 1)) {
+            assertFalse(pool.take(layout));
+            assertEquals(0, pool.available());
+        }
+    }
+}
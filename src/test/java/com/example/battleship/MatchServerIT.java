@@ -0,0 +1,292 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.controller.MatchLink;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import com.example.battleship.model.Ship;
+import com.example.battleship.net.MatchClient;
+import com.example.battleship.net.MatchServer;
+import com.example.battleship.util.GameLogger;
+import com.example.battleship.util.LogLevel;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for MatchServer: 10,000 matches live at the same time over
+ * loopback, four in five against the server AI and the rest human vs human.
+ * The server runs in a child JVM so neither process needs more than about
+ * 12k file descriptors (check ulimit -n). Surefire skips *IT classes; run it
+ * with mvn -Dtest=MatchServerIT -Dsurefire.failIfNoSpecifiedTests=false test,
+ * and -Dbattleship.it.matches=N for a different size. A second case leaves
+ * HARD and EXPERT matches while their AI is thinking and checks the server
+ * answers at once (-Dbattleship.it.expertMatches=N, default 100).
+ */
+public class MatchServerIT {
+
+    private static final String HOST = InetAddress.getLoopbackAddress().getHostAddress();
+
+    @Test
+    public void testTenThousandConcurrentMatches() throws Exception {
+        GameLogger.setLevel(LogLevel.WARN);
+        int matches = Integer.getInteger("battleship.it.matches", 10_000);
+        int humanMatches = matches / 5;
+        int clients = matches + humanMatches;
+        int port = freePort();
+        Process server = startServer(port);
+        Queue<MatchClient> open = new ConcurrentLinkedQueue<>();
+        try {
+            awaitListening(server, port);
+            CountDownLatch started = new CountDownLatch(clients);
+            CountDownLatch finished = new CountDownLatch(clients);
+            AtomicInteger humanWins = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            // Bounded so the server's accept backlog is never the bottleneck
+            Semaphore connecting = new Semaphore(200);
+            try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < clients; i++) {
+                    boolean vsAi = i >= 2 * humanMatches;
+                    long seed = i;
+                    pool.submit(() -> {
+                        try {
+                            connecting.acquire();
+                            try {
+                                MatchClient client = new MatchClient(HOST, port, vsAi);
+                                open.add(client);
+                                client.join(List.of(), Difficulty.EASY,
+                                        new RandomShooter(client, seed, vsAi, started, finished, humanWins, failures));
+                            } finally {
+                                connecting.release();
+                            }
+                        } catch (IOException | InterruptedException e) {
+                            failures.incrementAndGet();
+                            started.countDown();
+                            finished.countDown();
+                        }
+                    });
+                }
+            }
+            assertTrue(started.await(5, TimeUnit.MINUTES), "Only " + (clients - started.getCount()) + " of "
+                    + clients + " clients reached a live match");
+            assertTrue(finished.await(10, TimeUnit.MINUTES), (finished.getCount()) + " clients never saw their match end");
+            assertEquals(0, failures.get(), "Connection failures or rejected requests");
+            assertEquals(humanMatches, humanWins.get(), "Each human-vs-human match has exactly one winner");
+            assertTrue(server.isAlive(), "Server exited during the run");
+        } finally {
+            open.forEach(MatchClient::close);
+            server.destroy();
+            server.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testThinkingAiDoesNotStallTheServer() throws Exception {
+        GameLogger.setLevel(LogLevel.WARN);
+        int clients = Integer.getInteger("battleship.it.expertMatches", 100);
+        int port = freePort();
+        Process server = startServer(port);
+        Queue<MatchClient> open = new ConcurrentLinkedQueue<>();
+        try {
+            awaitListening(server, port);
+            CountDownLatch finished = new CountDownLatch(clients);
+            long[] leaveToEnd = new long[clients];
+            AtomicInteger failures = new AtomicInteger();
+            for (int i = 0; i < clients; i++) {
+                MatchClient client = new MatchClient(HOST, port, true);
+                open.add(client);
+                int index = i;
+                List<Position> targets = shuffledCells(i);
+                client.join(List.of(), i % 2 == 0 ? Difficulty.EXPERT : Difficulty.HARD, new MatchLink.Listener() {
+                    private long leftAt;
+
+                    @Override
+                    public void matchStarted(boolean yourTurn) {
+                        fire();
+                    }
+
+                    @Override
+                    public void shotResolved(boolean byYou, Position position, Board.ShotResult result, Ship sunkShip,
+                                             boolean yourTurn) {
+                        if (leftAt != 0) {
+                            return;
+                        }
+                        if (yourTurn) {
+                            fire();
+                        } else if (byYou) {
+                            // The AI is thinking now; leaving must not wait for its move
+                            try {
+                                leftAt = System.nanoTime();
+                                client.leave();
+                            } catch (IOException e) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void rejected(String reason) {
+                        failures.incrementAndGet();
+                    }
+
+                    @Override
+                    public void matchEnded(boolean youWon, String reason) {
+                        leaveToEnd[index] = leftAt == 0 ? -1 : System.nanoTime() - leftAt;
+                        finished.countDown();
+                    }
+
+                    private void fire() {
+                        try {
+                            client.fire(targets.remove(targets.size() - 1));
+                        } catch (IOException e) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            assertTrue(finished.await(2, TimeUnit.MINUTES), finished.getCount() + " matches never ended");
+            assertEquals(0, failures.get(), "Connection failures or rejected requests");
+            long[] sorted = leaveToEnd.clone();
+            Arrays.sort(sorted);
+            assertTrue(sorted[0] > 0, "Every client should have left while the AI was to move");
+            // Holding the match while sampling made each LEAVE wait out an AI move, one after another
+            long median = sorted[clients / 2];
+            assertTrue(median < Difficulty.EXPERT.getBudgetNanos(), "Median LEAVE to END took " + median + "ns");
+        } finally {
+            open.forEach(MatchClient::close);
+            server.destroy();
+            server.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Fires at random unshot cells whenever it is its turn; holds its first
+     * move until every client has a match, so all of them are live at once
+     */
+    private static final class RandomShooter implements MatchLink.Listener {
+        private final MatchClient client;
+        private final boolean vsAi;
+        private final CountDownLatch started;
+        private final CountDownLatch finished;
+        private final AtomicInteger humanWins;
+        private final AtomicInteger failures;
+        private final List<Position> targets = new ArrayList<>();
+
+        RandomShooter(MatchClient client, long seed, boolean vsAi, CountDownLatch started, CountDownLatch finished,
+                      AtomicInteger humanWins, AtomicInteger failures) {
+            this.client = client;
+            this.vsAi = vsAi;
+            this.started = started;
+            this.finished = finished;
+            this.humanWins = humanWins;
+            this.failures = failures;
+            targets.addAll(shuffledCells(seed));
+        }
+
+        @Override
+        public void matchStarted(boolean yourTurn) {
+            started.countDown();
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (yourTurn) {
+                fireNext();
+            }
+        }
+
+        @Override
+        public void shotResolved(boolean byYou, Position position, Board.ShotResult result, Ship sunkShip,
+                                 boolean yourTurn) {
+            if (yourTurn) {
+                fireNext();
+            }
+        }
+
+        @Override
+        public void rejected(String reason) {
+            failures.incrementAndGet();
+        }
+
+        @Override
+        public void matchEnded(boolean youWon, String reason) {
+            if (youWon && !vsAi) {
+                humanWins.incrementAndGet();
+            }
+            finished.countDown();
+            client.close();
+        }
+
+        private void fireNext() {
+            try {
+                client.fire(targets.remove(targets.size() - 1));
+            } catch (IOException | IndexOutOfBoundsException e) {
+                failures.incrementAndGet();
+            }
+        }
+    }
+
+    private static List<Position> shuffledCells(long seed) {
+        GameConfig config = GameConfig.defaultConfig();
+        List<Position> cells = new ArrayList<>();
+        for (int row = 0; row < config.getHeight(); row++) {
+            for (int col = 0; col < config.getWidth(); col++) {
+                cells.add(new Position(row, col));
+            }
+        }
+        Collections.shuffle(cells, new Random(seed));
+        return cells;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Process startServer(int port) throws IOException {
+        String classPath = System.getProperty("java.class.path");
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null && !modulePath.isEmpty()) {
+            classPath = classPath.isEmpty() ? modulePath : classPath + File.pathSeparator + modulePath;
+        }
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        return new ProcessBuilder(java, "-Xmx1g", "-Dbattleship.log.level=WARN", "-cp", classPath,
+                MatchServer.class.getName(), "--host", HOST, "--port", Integer.toString(port))
+                .inheritIO()
+                .start();
+    }
+
+    private static void awaitListening(Process server, int port) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            assertTrue(server.isAlive(), "Server exited with " + (server.isAlive() ? "" : server.exitValue()));
+            try (Socket probe = new Socket(HOST, port)) {
+                return;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        fail("Server did not start listening on port " + port);
+    }
+}
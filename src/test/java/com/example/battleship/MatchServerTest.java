@@ -0,0 +1,192 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.controller.GameController;
+import com.example.battleship.exceptions.InvalidShotException;
+import com.example.battleship.model.Board;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.GameState;
+import com.example.battleship.model.Position;
+import com.example.battleship.net.MatchClient;
+import com.example.battleship.net.MatchServer;
+import com.example.battleship.patterns.GameEvent;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests for MatchServer, played by thin-client GameControllers over loopback.
+ */
+public class MatchServerTest {
+
+    @Test
+    public void testServerAddressIsValidated() {
+        InetSocketAddress address = MatchClient.parseAddress("example.org:7879");
+        assertEquals("example.org", address.getHostString());
+        assertEquals(7879, address.getPort());
+        assertEquals("::1", MatchClient.parseAddress("[::1]:80").getHostString());
+        assertThrows(IllegalArgumentException.class, () -> MatchClient.parseAddress("example.org"));
+        assertThrows(IllegalArgumentException.class, () -> MatchClient.parseAddress("example.org:"));
+        assertThrows(IllegalArgumentException.class, () -> MatchClient.parseAddress("example.org:port"));
+        assertThrows(IllegalArgumentException.class, () -> MatchClient.parseAddress("example.org:70000"));
+    }
+
+    @Test
+    public void testThinClientsPlayOnMatchServer() throws Exception {
+        try (ExecutorService applier = Executors.newSingleThreadExecutor(r -> new Thread(r, "match-events"));
+             MatchServer server = new MatchServer(GameConfig.defaultConfig(),
+                     new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            server.start();
+            String host = InetAddress.getLoopbackAddress().getHostAddress();
+
+            // Two humans: the first to join fires first, leaving hands the other the win
+            GameController first = remoteController(host, server.getPort(), false, applier);
+            GameController second = remoteController(host, server.getPort(), false, Runnable::run);
+            List<String> appliedOn = new CopyOnWriteArrayList<>();
+            List<GameEvent.ShotResolved> shots = new CopyOnWriteArrayList<>();
+            first.getGameState().getEvents().subscribe(events -> {
+                appliedOn.add(Thread.currentThread().getName());
+                for (GameEvent event : events) {
+                    if (event instanceof GameEvent.ShotResolved shot) {
+                        shots.add(shot);
+                    }
+                }
+            });
+            first.startGame();
+            waitFor(() -> server.getWaitingPlayers() == 1);
+            assertFalse(first.getGameState().isGameStarted());
+            second.startGame();
+            waitFor(() -> first.getGameState().isGameStarted() && second.getGameState().isGameStarted());
+            assertEquals(1, server.getActiveMatches());
+            assertTrue(first.getGameState().isPlayerTurn());
+            assertFalse(second.getGameState().isPlayerTurn());
+            assertThrows(InvalidShotException.class, () -> second.playerFire(new Position(0, 0)));
+
+            // The fire only sends; the result waits for the applying thread
+            CountDownLatch applierBusy = new CountDownLatch(1);
+            applier.execute(() -> {
+                try {
+                    applierBusy.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertNull(first.playerFire(new Position(0, 0)));
+            assertThrows(InvalidShotException.class, () -> first.playerFire(new Position(0, 1)));
+            assertFalse(first.getGameState().getComputerBoard().isShot(0, 0));
+            applierBusy.countDown();
+            waitFor(() -> shots.size() == 1);
+            assertTrue(first.getGameState().getComputerBoard().isShot(0, 0));
+            boolean missed = shots.get(0).result() == Board.ShotResult.MISS;
+            waitFor(() -> second.getGameState().getPlayerBoard().isShot(0, 0)
+                    && second.getGameState().isPlayerTurn() == missed);
+            assertEquals(List.of("match-events"), appliedOn.stream().distinct().toList());
+
+            first.resetGame();
+            waitFor(() -> second.getGameState().isGameOver());
+            assertEquals("Player", second.getGameState().getWinner());
+            waitFor(() -> server.getActiveMatches() == 0);
+
+            // Against the server's AI until someone's fleet is gone
+            GameController solo = remoteController(host, server.getPort(), true, Runnable::run);
+            solo.startGame();
+            waitFor(() -> solo.getGameState().isGameStarted());
+            int next = 0;
+            while (!solo.getGameState().isGameOver()) {
+                Position target = new Position(next / 10, next % 10);
+                waitFor(() -> solo.getGameState().isGameOver() || (solo.getGameState().isPlayerTurn()
+                        && !solo.getGameState().getComputerBoard().isShot(target.getRow(), target.getCol())));
+                if (!solo.getGameState().isGameOver()) {
+                    solo.playerFire(target);
+                    waitFor(() -> solo.getGameState().isGameOver()
+                            || solo.getGameState().getComputerBoard().isShot(target.getRow(), target.getCol()));
+                    next++;
+                }
+            }
+            Board mirror = solo.getGameState().getComputerBoard();
+            if ("Player".equals(solo.getGameState().getWinner())) {
+                assertEquals(solo.getGameState().getConfig().getTotalShips(), mirror.shipCount());
+            } else {
+                assertTrue(solo.getGameState().getPlayerBoard().allShipsSunk());
+            }
+        }
+    }
+
+    @Test
+    public void testResetLeavesTheServerMatchBehind() throws Exception {
+        try (MatchServer server = new MatchServer(GameConfig.defaultConfig(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            server.start();
+            String host = InetAddress.getLoopbackAddress().getHostAddress();
+            GameController first = remoteController(host, server.getPort(), false);
+            GameController second = remoteController(host, server.getPort(), false);
+            first.startGame();
+            waitFor(() -> server.getWaitingPlayers() == 1);
+            second.startGame();
+            waitFor(() -> first.getGameState().isGameStarted() && second.getGameState().isGameStarted());
+
+            // The old match's END must land on the old game, not the fresh one
+            GameState abandoned = first.getGameState();
+            first.resetGame();
+            waitFor(abandoned::isGameOver);
+            waitFor(() -> second.getGameState().isGameOver());
+            assertEquals("Player", second.getGameState().getWinner());
+            GameState fresh = first.getGameState();
+            assertNotSame(abandoned, fresh);
+            assertFalse(fresh.isGameStarted());
+            assertFalse(fresh.isGameOver());
+            assertNull(fresh.getWinner());
+
+            // Leaving while still waiting takes the client out of the queue
+            assertTrue(first.getShipPlacementController().placeRemainingRandomly(new Random(8)));
+            first.startGame();
+            waitFor(() -> server.getWaitingPlayers() == 1);
+            GameState queued = first.getGameState();
+            first.resetGame();
+            waitFor(queued::isGameOver);
+            assertEquals(0, server.getWaitingPlayers());
+            assertFalse(first.getGameState().isGameOver());
+
+            // Both can still play a new match on the same connections
+            assertTrue(first.getShipPlacementController().placeRemainingRandomly(new Random(9)));
+            first.startGame();
+            waitFor(() -> server.getWaitingPlayers() == 1);
+            second.resetGame();
+            assertTrue(second.getShipPlacementController().placeRemainingRandomly(new Random(10)));
+            second.startGame();
+            waitFor(() -> first.getGameState().isGameStarted() && second.getGameState().isGameStarted());
+            assertTrue(first.getGameState().isPlayerTurn());
+            assertFalse(first.getGameState().isGameOver());
+            waitFor(() -> server.getActiveMatches() == 1);
+        }
+    }
+
+    private static GameController remoteController(String host, int port, boolean vsAi) throws Exception {
+        return remoteController(host, port, vsAi, Runnable::run);
+    }
+
+    private static GameController remoteController(String host, int port, boolean vsAi, Executor applyOn)
+            throws Exception {
+        GameController controller = new GameController(new GameState());
+        controller.setAutoSave(false);
+        controller.setMatchLink(new MatchClient(host, port, vsAi), applyOn);
+        assertTrue(controller.getShipPlacementController().placeRemainingRandomly(new Random(7)));
+        return controller;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting");
+            Thread.sleep(5);
+        }
+    }
+}
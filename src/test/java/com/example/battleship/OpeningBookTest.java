@@ -0,0 +1,78 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.CachingStrategy;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.OpeningBook;
+import com.example.battleship.ai.ParityStrategy;
+import com.example.battleship.ai.ShotKnowledge;
+import com.example.battleship.ai.ShotStrategy;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for OpeningBook and the strategies that play from it.
+ */
+public class OpeningBookTest {
+
+    @Test
+    public void testBookRoundTripsAndAnswersWithoutTheDelegate() throws Exception {
+        GameConfig config = GameConfig.defaultConfig();
+        AtomicInteger built = new AtomicInteger();
+        List<Position> line = new ArrayList<>();
+        ShotStrategy parity = new ParityStrategy(config, new SplittableRandom(1));
+        ShotStrategy builder = knowledge -> {
+            built.incrementAndGet();
+            Position shot = parity.nextShot(knowledge);
+            line.add(shot);
+            return shot;
+        };
+        Path dir = Files.createTempDirectory("book");
+        String path = dir.resolve("nested").resolve(OpeningBook.fileName(config)).toString();
+        try {
+            OpeningBook book = OpeningBook.loadOrBuild(path, config, builder, 5);
+            assertEquals(5, built.get());
+            assertEquals(5, book.size());
+            assertTrue(Files.exists(Path.of(path)), "The built book should be saved");
+
+            // A second start reads the file instead of asking the strategy again
+            OpeningBook loaded = OpeningBook.loadOrBuild(path, config, builder, 5);
+            assertEquals(5, built.get());
+            assertNotSame(book, loaded);
+            assertEquals(config, loaded.getConfig());
+            assertEquals(5, loaded.size());
+
+            AtomicInteger asked = new AtomicInteger();
+            ShotStrategy delegate = knowledge -> {
+                asked.incrementAndGet();
+                return parity.nextShot(knowledge);
+            };
+            ShotStrategy strategy = new CachingStrategy(delegate, null, loaded);
+            ShotKnowledge knowledge = new ShotKnowledge(config);
+            for (Position expected : line) {
+                Position shot = strategy.nextShot(knowledge, System.nanoTime());
+                assertEquals(expected, shot);
+                knowledge.recordMiss(shot.getRow() * config.getWidth() + shot.getCol());
+            }
+            assertEquals(0, asked.get(), "Opening positions should come from the book");
+            strategy.nextShot(knowledge);
+            assertEquals(1, asked.get(), "Past the book the delegate decides");
+
+            // Only the sampling tiers open from the book
+            assertInstanceOf(CachingStrategy.class, Difficulty.HARD.createStrategy(config, new SplittableRandom(2), loaded));
+            assertInstanceOf(CachingStrategy.class, Difficulty.EXPERT.createStrategy(config, new SplittableRandom(2), loaded));
+            assertInstanceOf(ParityStrategy.class, Difficulty.MEDIUM.createStrategy(config, new SplittableRandom(2), loaded));
+        } finally {
+            Files.deleteIfExists(Path.of(path));
+            Files.deleteIfExists(Path.of(path).getParent());
+            Files.deleteIfExists(dir);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.ParityStrategy;
+import com.example.battleship.ai.ShotKnowledge;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for ParityStrategy.
+ */
+public class ParityStrategyTest {
+
+    @Test
+    public void testParityStrategyFollowsHitAxis() {
+        GameConfig config = GameConfig.defaultConfig();
+        ShotKnowledge knowledge = new ShotKnowledge(config);
+        knowledge.recordHit(5 * 10 + 3);
+        knowledge.recordHit(5 * 10 + 4);
+        knowledge.recordMiss(5 * 10 + 2);
+
+        Position next = new ParityStrategy(config, new SplittableRandom(7)).nextShot(knowledge);
+        assertEquals(new Position(5, 5), next, "Two aligned hits with a miss behind should extend the line");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.SamplingStrategy;
+import com.example.battleship.ai.ShotKnowledge;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.model.Position;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for SamplingStrategy.
+ */
+public class SamplingStrategyTest {
+
+    @Test
+    public void testSamplingStrategyTargetsAroundHit() {
+        GameConfig config = GameConfig.defaultConfig();
+        ShotKnowledge knowledge = new ShotKnowledge(config);
+        knowledge.recordHit(4 * 10 + 4);
+
+        SamplingStrategy strategy = new SamplingStrategy(config, 500, 5_000_000_000L, new SplittableRandom(3));
+        Position next = strategy.nextShot(knowledge);
+        int distance = Math.abs(next.getRow() - 4) + Math.abs(next.getCol() - 4);
+        assertEquals(1, distance, "Every sampled layout covers the hit, so a neighbour is most likely");
+        assertEquals(500, strategy.getSampleCount());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.LayoutGenerator;
+import com.example.battleship.ai.ParityStrategy;
+import com.example.battleship.ai.ShotStrategy;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.sim.BoardBatch;
+import com.example.battleship.sim.SelfPlay;
+import java.util.SplittableRandom;
+
+/**
+ * Unit tests for SelfPlay.
+ */
+public class SelfPlayTest {
+
+    @Test
+    public void testBatchPlayMatchesSingleGames() {
+        GameConfig config = GameConfig.defaultConfig();
+        LayoutGenerator generator = new LayoutGenerator(config);
+        SplittableRandom random = new SplittableRandom(17);
+        int size = 24;
+        long[][] layouts = new long[size][generator.getStride()];
+        BoardBatch batch = new BoardBatch(config, size);
+        ShotStrategy[] strategies = new ShotStrategy[size];
+        for (int b = 0; b < size; b++) {
+            assertTrue(generator.generate(random, layouts[b], 0));
+            batch.load(b, generator, layouts[b], 0);
+            strategies[b] = new ParityStrategy(config, new SplittableRandom(b));
+        }
+        int[] shots = new int[size];
+        SelfPlay.playBatch(batch, strategies, new SplittableRandom(1), shots);
+
+        // Games end at different shots, and finished boards must not count later rounds
+        int fewest = Integer.MAX_VALUE;
+        int most = 0;
+        for (int b = 0; b < size; b++) {
+            int single = SelfPlay.shotsToWin(generator, layouts[b], new ParityStrategy(config, new SplittableRandom(b)),
+                    new SplittableRandom(1));
+            assertEquals(single, shots[b], "board " + b);
+            assertTrue(batch.isGameOver(b));
+            fewest = Math.min(fewest, single);
+            most = Math.max(most, single);
+        }
+        assertTrue(fewest < most);
+    }
+}
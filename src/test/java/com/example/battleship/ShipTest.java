@@ -43,6 +43,33 @@ public class ShipTest {
         assertTrue(ship.isSunk());
     }
 
+    @Test
+    public void testSegmentHitsAreIdempotent() {
+        ship.place(2, 4, false);
+        assertEquals(1, ship.segmentAt(3, 4));
+        assertEquals(-1, ship.segmentAt(3, 5), "Cell beside the ship is not a segment");
+
+        assertTrue(ship.hit(1));
+        assertFalse(ship.hit(1), "Second hit on a segment should not count");
+        assertEquals(1, ship.getHitCount());
+
+        ship.hit(0);
+        ship.hit(2);
+        assertTrue(ship.isSunk());
+
+        ship.reset();
+        assertFalse(ship.isPlaced());
+        assertEquals(0, ship.getHitCount(), "Reset should repair the ship");
+    }
+
+    @Test
+    public void testHitOutsideTheShipIsRejected() {
+        assertEquals(-1, ship.segmentAt(0, 0), "Unplaced ship covers nothing");
+        assertThrows(IllegalArgumentException.class, () -> ship.hit(-1));
+        assertThrows(IllegalArgumentException.class, () -> ship.hit(ship.getSize()));
+        assertEquals(0, ship.getHitCount(), "A rejected hit should leave the mask alone");
+    }
+
     @Test
     public void testShipPlacement() {
         assertFalse(ship.isPlaced());
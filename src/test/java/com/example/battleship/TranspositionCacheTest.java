@@ -0,0 +1,39 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.ShotKnowledge;
+import com.example.battleship.ai.TranspositionCache;
+import com.example.battleship.model.GameConfig;
+
+/**
+ * Unit tests for TranspositionCache and the Zobrist keys it is indexed by.
+ */
+public class TranspositionCacheTest {
+
+    @Test
+    public void testZobristKeysAndTranspositionCache() {
+        GameConfig config = GameConfig.defaultConfig();
+        ShotKnowledge first = new ShotKnowledge(config);
+        first.recordMiss(3);
+        first.recordHit(42);
+        ShotKnowledge second = new ShotKnowledge(config);
+        second.recordHit(42);
+        second.recordMiss(3);
+        assertEquals(first.getZobristKey(), second.getZobristKey(), "Shot order must not change the key");
+        first.forget(3);
+        first.forget(42);
+        assertEquals(new ShotKnowledge(config).getZobristKey(), first.getZobristKey());
+
+        TranspositionCache cache = new TranspositionCache(4, 1);
+        for (int key = 1; key <= 4; key++) {
+            cache.put(key, key * 10);
+        }
+        assertEquals(10, cache.get(1));
+        cache.put(5, 50);
+        assertEquals(4, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(10, cache.get(1), "Recently used entry must survive eviction");
+        assertEquals(TranspositionCache.NO_MOVE, cache.get(2));
+    }
+}
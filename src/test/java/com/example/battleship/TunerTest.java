@@ -0,0 +1,44 @@
+package com.example.battleship;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import com.example.battleship.ai.Difficulty;
+import com.example.battleship.ai.ParityStrategy;
+import com.example.battleship.model.GameConfig;
+import com.example.battleship.sim.Leaderboard;
+import com.example.battleship.sim.ParameterSpace;
+import com.example.battleship.sim.Sprt;
+import com.example.battleship.sim.Tuner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Unit tests for the self-play Tuner and its SPRT stopping rule.
+ */
+public class TunerTest {
+
+    @Test
+    public void testTunerSettlesParityAgainstRandomBaseline() throws Exception {
+        ParameterSpace space = new ParameterSpace().add("unused", 1, 2, 1);
+        assertEquals(2, space.grid().size());
+        Tuner.StrategyFactory parity = (config, params, random) -> new ParityStrategy(config, random);
+        Leaderboard leaderboard = new Leaderboard();
+        try (Tuner tuner = new Tuner(GameConfig.defaultConfig(), parity, Difficulty.EASY, 2, 5)) {
+            tuner.setMaxPairs(1000);
+            tuner.runGrid(space, leaderboard);
+        }
+        for (Tuner.Result result : leaderboard.ranked()) {
+            assertEquals(Sprt.Verdict.ACCEPT_H1, result.verdict());
+            assertTrue(result.pairs() < 1000, "SPRT should stop early, took " + result.pairs());
+            assertTrue(result.meanShots() < result.baselineMeanShots());
+        }
+
+        Path csv = Files.createTempFile("leaderboard", ".csv");
+        leaderboard.write(csv);
+        List<String> lines = Files.readAllLines(csv);
+        Files.delete(csv);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("rank,unused,pairs,"));
+    }
+}